@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# Compara o tempo até a aplicação ficar pronta: jar padrão x CDS + Spring AOT.
+# Pré-requisito: ./mvnw -Pcds package -DskipTests
+# Uso: scripts/comparar-inicializacao.sh [execucoes] [perfil]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+EXECUCOES="${1:-5}"
+PERFIL="${2:-fast}"
+JAR_PADRAO="$(ls target/delivery-api-*.jar | grep -v '\.original$' | head -1)"
+JAR_CDS="target/cds/$(basename "$JAR_PADRAO")"
+ARQUIVO_CDS="target/cds/application.jsa"
+
+if [[ ! -f "$JAR_CDS" || ! -f "$ARQUIVO_CDS" ]]; then
+    echo "Arquivo CDS não encontrado; rode ./mvnw -Pcds package -DskipTests" >&2
+    exit 1
+fi
+
+# Sobe a aplicação, espera o log "Started ... (process running for X)" e devolve X
+medir() {
+    local log
+    log="$(mktemp)"
+    "$@" --server.port=0 --spring.profiles.active="$PERFIL" >"$log" 2>&1 &
+    local pid=$!
+    local tempo=""
+    for _ in $(seq 1 600); do
+        tempo="$(grep -oE 'process running for [0-9.]+' "$log" | grep -oE '[0-9.]+$' || true)"
+        if [[ -n "$tempo" ]] || ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.1
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+    if [[ -z "$tempo" ]]; then
+        echo "Falha ao subir: $*" >&2
+        exit 1
+    fi
+    echo "$tempo"
+}
+
+rodar() {
+    local nome="$1"
+    shift
+    local soma=0
+    local tempos=()
+    for i in $(seq 1 "$EXECUCOES"); do
+        local tempo
+        tempo="$(medir "$@")"
+        tempos+=("$tempo")
+        soma="$(echo "$soma + $tempo" | bc -l)"
+    done
+    printf '%-10s média %.3fs  execuções: %s\n' "$nome" "$(echo "$soma / $EXECUCOES" | bc -l)" "${tempos[*]}"
+}
+
+echo "Perfil: $PERFIL, $EXECUCOES execuções cada"
+rodar "padrao" java -jar "$JAR_PADRAO"
+rodar "cds+aot" java -XX:SharedArchiveFile="$ARQUIVO_CDS" -Dspring.aot.enabled=true -jar "$JAR_CDS"
@@ -3,20 +3,33 @@ package com.deliverytech.delivery;
 import java.time.LocalDateTime;
 import java.util.Map;
 
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import lombok.RequiredArgsConstructor;
+
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final ApplicationAvailability applicationAvailability;
+
+    // Responde 503 até o banco ser carregado/restaurado, para servir de readiness probe
     @GetMapping("/health")
-    public Map<String, String> health() {
-        return Map.of(
-            "status", "UP",
+    public ResponseEntity<Map<String, String>> health() {
+        ReadinessState readiness = applicationAvailability.getReadinessState();
+        boolean pronto = readiness == ReadinessState.ACCEPTING_TRAFFIC;
+        return ResponseEntity.status(pronto ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+            "status", pronto ? "UP" : "STARTING",
+            "readiness", readiness.name(),
             "timestamp", LocalDateTime.now().toString(),
             "service", "Delivery API",
             "javaVersion", System.getProperty("java.version")
-        );
+        ));
     }
 
     @GetMapping("/info")
@@ -0,0 +1,77 @@
+package com.deliverytech.delivery.config;
+
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Envolve em DataSourceRastreado os DataSources que de fato entregam conexões (o do
+ * auto-configure e os da réplica). Os roteadores e proxies ficam como estão: delegam a esses,
+ * e o ShardRoutingDataSource, cujos shards não são beans, os envolve no ShardingConfig.
+ *
+ * Também acrescenta OrigemSql aos proxies dos repositórios, para as EstatisticasSql saberem
+ * qual método de repositório emitiu cada comando; só com as estatísticas ligadas, já que a
+ * amostragem não usa a origem.
+ */
+@Configuration
+public class AmostragemConfig {
+
+    private static final String PACOTE_REPOSITORIOS = "com.deliverytech.delivery.repository";
+
+    @Bean
+    public static BeanPostProcessor dataSourceRastreadoPostProcessor(ObjectProvider<EstatisticasSql> estatisticas) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof AbstractRoutingDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return new DataSourceRastreado(dataSource, estatisticas.getIfAvailable());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Os repositórios Spring Data (e o PedidoArquivoRepository, por ser @Transactional) já
+     * chegam aqui como proxies Advised; o interceptor entra na cadeia existente, sem um
+     * proxy a mais.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "delivery.estatisticas-sql.habilitada", havingValue = "true")
+    public static BeanPostProcessor origemSqlPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof Advised advised && !advised.isFrozen()) {
+                    String repositorio = nomeRepositorio(advised);
+                    if (repositorio != null) {
+                        advised.addAdvice(0, new OrigemSql(repositorio));
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static String nomeRepositorio(Advised advised) {
+        return Arrays.stream(advised.getProxiedInterfaces())
+                .filter(interfaceProxy -> interfaceProxy.getPackageName().equals(PACOTE_REPOSITORIOS))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElseGet(() -> {
+                    Class<?> alvo = advised.getTargetSource().getTargetClass();
+                    return alvo != null && alvo.getPackageName().equals(PACOTE_REPOSITORIOS) ? alvo.getSimpleName() : null;
+                });
+    }
+}
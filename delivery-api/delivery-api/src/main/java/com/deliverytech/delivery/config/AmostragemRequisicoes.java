@@ -0,0 +1,123 @@
+package com.deliverytech.delivery.config;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guarda, por endpoint, as N requisições mais lentas com os comandos SQL de cada uma.
+ * Cada endpoint tem N posições fixas; uma requisição nova só substitui a mais rápida delas.
+ * Depois que as posições enchem, requisições mais rápidas que a mais rápida guardada são
+ * descartadas lendo um volatile, sem lock e sem copiar o rastro.
+ */
+@Component
+public class AmostragemRequisicoes {
+
+    private final ConcurrentHashMap<String, MaisLentas> porEndpoint = new ConcurrentHashMap<>();
+
+    @Value("${delivery.amostragem.por-endpoint:10}")
+    private int porEndpointMaximo;
+
+    @Value("${delivery.amostragem.max-endpoints:500}")
+    private int maxEndpoints;
+
+    public void registrar(String endpoint, String uri, int status, long inicioEpochMs, long duracaoNanos,
+            RastroRequisicao rastro) {
+        MaisLentas maisLentas = porEndpoint.get(endpoint);
+        if (maisLentas == null) {
+            // Rotas vêm do padrão do mapeamento, mas um limite protege contra padrões inesperados
+            if (porEndpoint.size() >= maxEndpoints) {
+                return;
+            }
+            maisLentas = porEndpoint.computeIfAbsent(endpoint, chave -> new MaisLentas(porEndpointMaximo));
+        }
+        if (duracaoNanos <= maisLentas.limiarNanos) {
+            return;
+        }
+        maisLentas.oferecer(duracaoNanos, () -> amostra(uri, status, inicioEpochMs, duracaoNanos, rastro));
+    }
+
+    // Endpoints em ordem alfabética; amostras da mais lenta para a mais rápida
+    public Map<String, List<Amostra>> amostras() {
+        Map<String, List<Amostra>> resultado = new TreeMap<>();
+        porEndpoint.forEach((endpoint, maisLentas) -> resultado.put(endpoint, maisLentas.ordenadas()));
+        return resultado;
+    }
+
+    public void limpar() {
+        porEndpoint.clear();
+    }
+
+    private static Amostra amostra(String uri, int status, long inicioEpochMs, long duracaoNanos,
+            RastroRequisicao rastro) {
+        List<Sql> sqls = rastro.getComandos().stream()
+                .map(comando -> new Sql(comando.getSql(), milissegundos(comando.getDuracaoNanos()), comando.getLinhas()))
+                .toList();
+        return new Amostra(uri, status,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(inicioEpochMs), ZoneId.systemDefault()),
+                milissegundos(duracaoNanos), milissegundos(rastro.getDuracaoTotalNanos()), sqls.size() + rastro.getDescartados(),
+                rastro.getDescartados(), sqls);
+    }
+
+    private static double milissegundos(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record Sql(String sql, double duracaoMs, long linhas) {
+    }
+
+    public record Amostra(String uri, int status, LocalDateTime inicio, double duracaoMs, double duracaoSqlMs,
+            int quantidadeSql, int sqlDescartados, List<Sql> sqls) {
+    }
+
+    private static final class MaisLentas {
+
+        private final long[] duracoes;
+        private final Amostra[] amostras;
+        private volatile long limiarNanos;
+
+        MaisLentas(int tamanho) {
+            this.duracoes = new long[tamanho];
+            this.amostras = new Amostra[tamanho];
+        }
+
+        synchronized void oferecer(long duracaoNanos, Supplier<Amostra> amostra) {
+            int maisRapida = 0;
+            for (int i = 1; i < duracoes.length; i++) {
+                if (duracoes[i] < duracoes[maisRapida]) {
+                    maisRapida = i;
+                }
+            }
+            if (duracaoNanos <= duracoes[maisRapida]) {
+                return;
+            }
+            duracoes[maisRapida] = duracaoNanos;
+            amostras[maisRapida] = amostra.get();
+
+            // Enquanto houver posição vazia (duração 0) o limiar fica em 0 e tudo é aceito
+            long menor = Long.MAX_VALUE;
+            for (int i = 0; i < duracoes.length; i++) {
+                menor = Math.min(menor, duracoes[i]);
+            }
+            limiarNanos = menor;
+        }
+
+        synchronized List<Amostra> ordenadas() {
+            return Arrays.stream(amostras)
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparingDouble(Amostra::duracaoMs).reversed())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.deliverytech.delivery.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Abre um RastroRequisicao para cada requisição e, ao final, entrega a duração e os comandos
+ * SQL à AmostragemRequisicoes. O endpoint é o método mais o padrão da rota (/api/pedidos/{id}),
+ * não a URI, para que todas as chamadas de uma rota caiam no mesmo grupo.
+ */
+@Component
+@ConditionalOnProperty(name = "delivery.amostragem.habilitada", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AmostragemRequisicoesFilter extends OncePerRequestFilter {
+
+    private final AmostragemRequisicoes amostragemRequisicoes;
+
+    @Value("${delivery.amostragem.max-sql-por-requisicao:100}")
+    private int maxSqlPorRequisicao;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long inicioEpochMs = System.currentTimeMillis();
+        long inicio = System.nanoTime();
+        RastroRequisicao rastro = RastroRequisicao.iniciar(maxSqlPorRequisicao);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RastroRequisicao.encerrar();
+            Object rota = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (rota != null ? rota : "(sem rota)");
+            amostragemRequisicoes.registrar(endpoint, request.getRequestURI(), response.getStatus(),
+                    inicioEpochMs, System.nanoTime() - inicio, rastro);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.deliverytech.delivery.config;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverytech.delivery.service.impl.ProdutoServiceImpl;
+
+/**
+ * Caches locais. As escritas e invalidações feitas dentro de uma transação só são aplicadas
+ * após o commit, para que uma leitura concorrente não volte a guardar o valor antigo.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager() {
+        CacheManager alvo = new ConcurrentMapCacheManager(ProdutoServiceImpl.CACHE_PRODUTOS_POR_RESTAURANTE);
+        return new CacheManager() {
+            @Override
+            public Cache getCache(String nome) {
+                Cache cache = alvo.getCache(nome);
+                return cache != null ? new CacheAposCommit(cache) : null;
+            }
+
+            @Override
+            public Collection<String> getCacheNames() {
+                return alvo.getCacheNames();
+            }
+        };
+    }
+
+    /**
+     * Leituras vão direto ao cache; put, evict e clear feitos com uma transação ativa esperam
+     * o afterCommit (e são descartados no rollback).
+     */
+    static final class CacheAposCommit implements Cache {
+
+        private final Cache alvo;
+
+        CacheAposCommit(Cache alvo) {
+            this.alvo = alvo;
+        }
+
+        @Override
+        public String getName() {
+            return alvo.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return alvo.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object chave) {
+            return alvo.get(chave);
+        }
+
+        @Override
+        public <T> T get(Object chave, Class<T> tipo) {
+            return alvo.get(chave, tipo);
+        }
+
+        @Override
+        public <T> T get(Object chave, Callable<T> carregador) {
+            return alvo.get(chave, carregador);
+        }
+
+        @Override
+        public void put(Object chave, Object valor) {
+            aposCommit(() -> alvo.put(chave, valor));
+        }
+
+        @Override
+        public void evict(Object chave) {
+            aposCommit(() -> alvo.evict(chave));
+        }
+
+        @Override
+        public void clear() {
+            aposCommit(alvo::clear);
+        }
+
+        private static void aposCommit(Runnable acao) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                acao.run();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package com.deliverytech.delivery.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+/**
+ * Statement de uma ConexaoRastreada. Cada execute* é medido e registrado no rastro da
+ * requisição corrente (se houver) e nas EstatisticasSql; um mesmo Statement pode ser
+ * executado várias vezes e cada execução vira um registro. As linhas afetadas entram na
+ * hora; as lidas, conforme o chamador percorre o ResultSet.
+ */
+class ComandoRastreado<S extends Statement> implements Statement {
+
+    final S alvo;
+    private final ConexaoRastreada conexao;
+    private final String sqlPreparado;
+
+    // Última execução: posição no rastro (-1 sem rastro ou acima do limite) e contadores
+    private RastroRequisicao rastro;
+    private int indice = -1;
+    private EstatisticasSql.Contadores contadores;
+
+    ComandoRastreado(ConexaoRastreada conexao, S alvo, String sqlPreparado) {
+        this.conexao = conexao;
+        this.alvo = alvo;
+        this.sqlPreparado = sqlPreparado;
+    }
+
+    final void registrar(String sql, long inicio) {
+        long duracao = System.nanoTime() - inicio;
+        String texto = sqlPreparado != null ? sqlPreparado : sql;
+        rastro = RastroRequisicao.atual();
+        indice = rastro != null ? rastro.registrar(texto, duracao) : -1;
+        EstatisticasSql estatisticas = conexao.estatisticas();
+        contadores = estatisticas != null ? estatisticas.registrar(texto, duracao) : null;
+    }
+
+    final void somarLinhas(long quantidade) {
+        if (quantidade > 0) {
+            if (indice >= 0) {
+                rastro.somarLinhas(indice, quantidade);
+            }
+            if (contadores != null) {
+                contadores.somarLinhas(quantidade);
+            }
+        }
+    }
+
+    // execute() devolve false para atualizações; as linhas afetadas vêm de getUpdateCount
+    final void contarAtualizadas(boolean temResultado) throws SQLException {
+        if (!temResultado && (indice >= 0 || contadores != null)) {
+            somarLinhas(alvo.getUpdateCount());
+        }
+    }
+
+    // O ResultSet só é envolvido quando há onde somar as linhas lidas
+    final ResultSet rastrear(ResultSet linhas) {
+        if (linhas == null || (indice < 0 && contadores == null)) {
+            return linhas;
+        }
+        return new ResultSetRastreado(linhas, this, indice >= 0 ? rastro : null, indice, contadores);
+    }
+
+    static long soma(int[] quantidades) {
+        long soma = 0;
+        for (int quantidade : quantidades) {
+            soma += Math.max(0, quantidade);
+        }
+        return soma;
+    }
+
+    static long soma(long[] quantidades) {
+        long soma = 0;
+        for (long quantidade : quantidades) {
+            soma += Math.max(0, quantidade);
+        }
+        return soma;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : alvo.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || alvo.isWrapperFor(iface);
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        long inicio = System.nanoTime();
+        ResultSet linhas;
+        try {
+            linhas = alvo.executeQuery(sql);
+        } finally {
+            registrar(sql, inicio);
+        }
+        return rastrear(linhas);
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        long inicio = System.nanoTime();
+        int afetadas;
+        try {
+            afetadas = alvo.executeUpdate(sql);
+        } finally {
+            registrar(sql, inicio);
+        }
+        somarLinhas(afetadas);
+        return afetadas;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        alvo.close();
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        return alvo.getMaxFieldSize();
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        alvo.setMaxFieldSize(max);
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        return alvo.getMaxRows();
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        alvo.setMaxRows(max);
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        alvo.setEscapeProcessing(enable);
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        return alvo.getQueryTimeout();
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        alvo.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        alvo.cancel();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return alvo.getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        alvo.clearWarnings();
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        alvo.setCursorName(name);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        long inicio = System.nanoTime();
+        boolean temResultado;
+        try {
+            temResultado = alvo.execute(sql);
+        } finally {
+            registrar(sql, inicio);
+        }
+        contarAtualizadas(temResultado);
+        return temResultado;
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return rastrear(alvo.getResultSet());
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return alvo.getUpdateCount();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return alvo.getMoreResults();
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        alvo.setFetchDirection(direction);
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return alvo.getFetchDirection();
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        alvo.setFetchSize(rows);
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return alvo.getFetchSize();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        return alvo.getResultSetConcurrency();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        return alvo.getResultSetType();
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        alvo.addBatch(sql);
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        alvo.clearBatch();
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        long inicio = System.nanoTime();
+        int[] afetadas;
+        try {
+            afetadas = alvo.executeBatch();
+        } finally {
+            registrar(null, inicio);
+        }
+        somarLinhas(soma(afetadas));
+        return afetadas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conexao;
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        return alvo.getMoreResults(current);
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return alvo.getGeneratedKeys();
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        long inicio = System.nanoTime();
+        int afetadas;
+        try {
+            afetadas = alvo.executeUpdate(sql, autoGeneratedKeys);
+        } finally {
+            registrar(sql, inicio);
+        }
+        somarLinhas(afetadas);
+        return afetadas;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        long inicio = System.nanoTime();
+        int afetadas;
+        try {
+            afetadas = alvo.executeUpdate(sql, columnIndexes);
+        } finally {
+            registrar(sql, inicio);
+        }
+        somarLinhas(afetadas);
+        return afetadas;
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        long inicio = System.nanoTime();
+        int afetadas;
+        try {
+            afetadas = alvo.executeUpdate(sql, columnNames);
+        } finally {
+            registrar(sql, inicio);
+        }
+        somarLinhas(afetadas);
+        return afetadas;
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        long inicio = System.nanoTime();
+        boolean temResultado;
+        try {
+            temResultado = alvo.execute(sql, autoGeneratedKeys);
+        } finally {
+            registrar(sql, inicio);
+        }
+        contarAtualizadas(temResultado);
+        return temResultado;
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        long inicio = System.nanoTime();
+        boolean temResultado;
+        try {
+            temResultado = alvo.execute(sql, columnIndexes);
+        } finally {
+            registrar(sql, inicio);
+        }
+        contarAtualizadas(temResultado);
+        return temResultado;
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        long inicio = System.nanoTime();
+        boolean temResultado;
+        try {
+            temResultado = alvo.execute(sql, columnNames);
+        } finally {
+            registrar(sql, inicio);
+        }
+        contarAtualizadas(temResultado);
+        return temResultado;
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        return alvo.getResultSetHoldability();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return alvo.isClosed();
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        alvo.setPoolable(poolable);
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        return alvo.isPoolable();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        alvo.closeOnCompletion();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        return alvo.isCloseOnCompletion();
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        return alvo.getLargeUpdateCount();
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        alvo.setLargeMaxRows(max);
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        return alvo.getLargeMaxRows();
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        long inicio = System.nanoTime();
+        long[] afetadas;
+        try {
+            afetadas = alvo.executeLargeBatch();
+        } finally {
+            registrar(null, inicio);
+        }
+        somarLinhas(soma(afetadas));
+        return afetadas;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        long inicio = System.nanoTime();
+        long afetadas;
+        try {
+            afetadas = alvo.executeLargeUpdate(sql);
+        } finally {
+            registrar(sql, inicio);
+        }
+        somarLinhas(afetadas);
+        return afetadas;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        long inicio = System.nanoTime();
+        long afetadas;
+        try {
+            afetadas = alvo.executeLargeUpdate(sql, autoGeneratedKeys);
+        } finally {
+            registrar(sql, inicio);
+        }
+        somarLinhas(afetadas);
+        return afetadas;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        long inicio = System.nanoTime();
+        long afetadas;
+        try {
+            afetadas = alvo.executeLargeUpdate(sql, columnIndexes);
+        } finally {
+            registrar(sql, inicio);
+        }
+        somarLinhas(afetadas);
+        return afetadas;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        long inicio = System.nanoTime();
+        long afetadas;
+        try {
+            afetadas = alvo.executeLargeUpdate(sql, columnNames);
+        } finally {
+            registrar(sql, inicio);
+        }
+        somarLinhas(afetadas);
+        return afetadas;
+    }
+
+    @Override
+    public String enquoteLiteral(String val) throws SQLException {
+        return alvo.enquoteLiteral(val);
+    }
+
+    @Override
+    public String enquoteIdentifier(String identifier, boolean alwaysQuote) throws SQLException {
+        return alvo.enquoteIdentifier(identifier, alwaysQuote);
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(String identifier) throws SQLException {
+        return alvo.isSimpleIdentifier(identifier);
+    }
+
+    @Override
+    public String enquoteNCharLiteral(String val) throws SQLException {
+        return alvo.enquoteNCharLiteral(val);
+    }
+}
@@ -0,0 +1,72 @@
+package com.deliverytech.delivery.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery.event.PedidoAlteradoEvent;
+
+/**
+ * Janela de leitura-após-escrita: depois que um cliente escreve, suas leituras somente
+ * leitura vão ao primário durante janelaMs, até a réplica ter alcançado a escrita.
+ * O cliente da requisição vem do ConsistenciaLeituraInterceptor; escritas de pedido
+ * chegam pelo PedidoAlteradoEvent, já que o clienteId delas vem no corpo.
+ */
+public class ConsistenciaLeitura {
+
+    private static final ThreadLocal<Long> CLIENTE_ATUAL = new ThreadLocal<>();
+
+    private final ConcurrentHashMap<Long, Long> primarioAte = new ConcurrentHashMap<>();
+    private final long janelaMs;
+    private final LongSupplier relogio;
+
+    public ConsistenciaLeitura(long janelaMs, LongSupplier relogio) {
+        this.janelaMs = janelaMs;
+        this.relogio = relogio;
+    }
+
+    public void definirCliente(Long clienteId) {
+        if (clienteId == null) {
+            CLIENTE_ATUAL.remove();
+        } else {
+            CLIENTE_ATUAL.set(clienteId);
+        }
+    }
+
+    public void limpar() {
+        CLIENTE_ATUAL.remove();
+    }
+
+    public void registrarEscrita(Long clienteId) {
+        if (clienteId != null) {
+            primarioAte.put(clienteId, relogio.getAsLong() + janelaMs);
+        }
+    }
+
+    // Chamado pelo roteamento a cada conexão de escrita
+    void registrarEscritaDaRequisicao() {
+        registrarEscrita(CLIENTE_ATUAL.get());
+    }
+
+    public boolean exigePrimario() {
+        Long clienteId = CLIENTE_ATUAL.get();
+        if (clienteId == null) {
+            return false;
+        }
+        Long ate = primarioAte.get(clienteId);
+        return ate != null && ate > relogio.getAsLong();
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarPedido(PedidoAlteradoEvent evento) {
+        registrarEscrita(evento.clienteId());
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.replica.limpeza-ms:60000}")
+    public void removerExpirados() {
+        long agora = relogio.getAsLong();
+        primarioAte.values().removeIf(ate -> ate <= agora);
+    }
+}
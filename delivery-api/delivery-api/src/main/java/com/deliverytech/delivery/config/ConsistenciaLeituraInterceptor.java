@@ -0,0 +1,52 @@
+package com.deliverytech.delivery.config;
+
+import java.util.Map;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Identifica o cliente da requisição pelo cabeçalho X-Cliente-Id ou pelas variáveis
+ * de caminho ({clienteId}, ou {id} em /api/clientes).
+ */
+public class ConsistenciaLeituraInterceptor implements HandlerInterceptor {
+
+    private final ConsistenciaLeitura consistenciaLeitura;
+
+    public ConsistenciaLeituraInterceptor(ConsistenciaLeitura consistenciaLeitura) {
+        this.consistenciaLeitura = consistenciaLeitura;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        consistenciaLeitura.definirCliente(clienteDaRequisicao(request));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        consistenciaLeitura.limpar();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long clienteDaRequisicao(HttpServletRequest request) {
+        String valor = request.getHeader("X-Cliente-Id");
+        if (valor == null) {
+            Map<String, String> variaveis = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            if (variaveis != null) {
+                valor = variaveis.get("clienteId");
+                if (valor == null && request.getRequestURI().startsWith("/api/clientes/")) {
+                    valor = variaveis.get("id");
+                }
+            }
+        }
+        try {
+            return valor != null ? Long.valueOf(valor) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
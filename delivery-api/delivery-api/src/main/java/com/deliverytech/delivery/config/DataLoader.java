@@ -1,24 +1,28 @@
 package com.deliverytech.delivery.config;
 
-import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.deliverytech.delivery.model.Cliente;
 import com.deliverytech.delivery.model.Endereco;
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Pedido;
 import com.deliverytech.delivery.model.Produto;
 import com.deliverytech.delivery.model.Restaurante;
 import com.deliverytech.delivery.model.StatusPedido;
 import com.deliverytech.delivery.repository.ClienteRepository;
+import com.deliverytech.delivery.repository.ItemPedidoRepository;
 import com.deliverytech.delivery.repository.PedidoRepository;
 import com.deliverytech.delivery.repository.ProdutoRepository;
 import com.deliverytech.delivery.repository.RestauranteRepository;
@@ -28,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 @Component
 @RequiredArgsConstructor
 @Profile("!test")
+@Lazy(false)
 public class DataLoader implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(DataLoader.class);
@@ -36,16 +41,70 @@ public class DataLoader implements CommandLineRunner {
     private final RestauranteRepository restauranteRepository;
     private final ProdutoRepository produtoRepository;
     private final PedidoRepository pedidoRepository;
+    private final ItemPedidoRepository itemPedidoRepository;
+    private final SyntheticDataGenerator syntheticDataGenerator;
+    private final DatabaseSnapshot databaseSnapshot;
 
+    @Value("${delivery.dataset.fator-escala:0}")
+    private int fatorEscala;
+
+    @Value("${delivery.startup.modo:seed}")
+    private String modoInicializacao;
+
+    @Value("${delivery.startup.snapshot.arquivo:data/deliverydb-snapshot.sql.gz}")
+    private String arquivoSnapshot;
+
+    @Value("${delivery.startup.snapshot.gerar:false}")
+    private boolean gerarSnapshot;
+
+    @Value("${delivery.startup.validar-consultas:true}")
+    private boolean validarConsultas;
+
+    /**
+     * Roda antes do ApplicationReadyEvent, então a aplicação só passa a ACCEPTING_TRAFFIC
+     * depois que o banco foi carregado ou restaurado.
+     */
     @Override
     @Transactional
     public void run(String... args) throws Exception {
+        Path snapshot = Path.of(arquivoSnapshot);
+
+        switch (modoInicializacao) {
+            case "vazio" -> logger.info("Inicialização sem carga de dados (delivery.startup.modo=vazio)");
+            case "snapshot" -> {
+                if (databaseSnapshot.valido(snapshot)) {
+                    databaseSnapshot.restaurar(snapshot);
+                } else {
+                    logger.warn("Snapshot {} ausente ou descartado, carregando dados e gerando o snapshot", snapshot.toAbsolutePath());
+                    carregarDados();
+                    databaseSnapshot.gerar(snapshot);
+                }
+            }
+            case "seed" -> {
+                carregarDados();
+                if (gerarSnapshot) {
+                    databaseSnapshot.gerar(snapshot);
+                }
+            }
+            default -> throw new IllegalStateException("Modo de inicialização desconhecido: " + modoInicializacao);
+        }
+    }
+
+    private void carregarDados() {
+        if (fatorEscala > 0) {
+            logger.info("Carregando massa sintética (fator de escala {}) no lugar dos dados de teste", fatorEscala);
+            syntheticDataGenerator.gerar(fatorEscala);
+            return;
+        }
+
         logger.info("Iniciando carga de dados de teste...");
 
-        pedidoRepository.deleteAll();
-        produtoRepository.deleteAll();
-        restauranteRepository.deleteAll();
-        clienteRepository.deleteAll();
+        // Exclusões em lote (um DELETE por tabela) em vez de carregar e remover entidade por entidade
+        itemPedidoRepository.deleteAllInBatch();
+        pedidoRepository.deleteAllInBatch();
+        produtoRepository.deleteAllInBatch();
+        restauranteRepository.deleteAllInBatch();
+        clienteRepository.deleteAllInBatch();
 
         List<Cliente> clientes = criarClientes();
         
@@ -61,7 +120,9 @@ public class DataLoader implements CommandLineRunner {
         logger.info("Resumo: {} clientes, {} restaurantes, {} produtos, {} pedidos", 
                    clientes.size(), restaurantes.size(), produtos.size(), pedidos.size());
 
-        validarConsultas();
+        if (validarConsultas) {
+            validarConsultas();
+        }
     }
 
     private List<Cliente> criarClientes() {
@@ -77,6 +138,8 @@ public class DataLoader implements CommandLineRunner {
                         .cidade("São Paulo")
                         .estado("SP")
                         .cep("01234-567")
+                        .latitude(-23.5505)
+                        .longitude(-46.6333)
                         .build())
                 .ativo(true)
                 .build();
@@ -91,6 +154,8 @@ public class DataLoader implements CommandLineRunner {
                         .cidade("São Paulo")
                         .estado("SP")
                         .cep("01310-100")
+                        .latitude(-23.5614)
+                        .longitude(-46.6565)
                         .build())
                 .ativo(true)
                 .build();
@@ -105,6 +170,8 @@ public class DataLoader implements CommandLineRunner {
                         .cidade("São Paulo")
                         .estado("SP")
                         .cep("05414-000")
+                        .latitude(-23.5535)
+                        .longitude(-46.6912)
                         .build())
                 .ativo(false)
                 .build();
@@ -119,20 +186,38 @@ public class DataLoader implements CommandLineRunner {
                 .nome("Pizza Express")
                 .categoria("Italiana")
                 .telefone("(11) 3333-1111")
-                .taxaEntrega(new BigDecimal("8.50"))
+                .taxaEntrega(Money.deCentavos(850))
                 .tempoEntregaMinutos(30)
                 .avaliacao(4)
                 .ativo(true)
+                .endereco(Endereco.builder()
+                        .rua("Rua Haddock Lobo, 500")
+                        .bairro("Cerqueira César")
+                        .cidade("São Paulo")
+                        .estado("SP")
+                        .cep("01414-000")
+                        .latitude(-23.5596)
+                        .longitude(-46.6632)
+                        .build())
                 .build();
 
         Restaurante restaurante2 = Restaurante.builder()
                 .nome("Burger House")
                 .categoria("Hamburguer")
                 .telefone("(11) 3333-2222")
-                .taxaEntrega(new BigDecimal("5.00"))
+                .taxaEntrega(Money.deCentavos(500))
                 .tempoEntregaMinutos(25)
                 .avaliacao(5)
                 .ativo(true)
+                .endereco(Endereco.builder()
+                        .rua("Rua dos Pinheiros, 900")
+                        .bairro("Pinheiros")
+                        .cidade("São Paulo")
+                        .estado("SP")
+                        .cep("05422-001")
+                        .latitude(-23.5666)
+                        .longitude(-46.6869)
+                        .build())
                 .build();
 
         return restauranteRepository.saveAll(Arrays.asList(restaurante1, restaurante2));
@@ -147,7 +232,7 @@ public class DataLoader implements CommandLineRunner {
         Produto pizza1 = Produto.builder()
                 .nome("Pizza Margherita")
                 .descricao("Pizza clássica com molho de tomate, mussarela e manjericão")
-                .preco(new BigDecimal("32.90"))
+                .preco(Money.deCentavos(3290))
                 .categoria("Pizza")
                 .disponivel(true)
                 .restaurante(pizzaExpress)
@@ -156,7 +241,7 @@ public class DataLoader implements CommandLineRunner {
         Produto pizza2 = Produto.builder()
                 .nome("Pizza Pepperoni")
                 .descricao("Pizza com molho de tomate, mussarela e pepperoni")
-                .preco(new BigDecimal("38.90"))
+                .preco(Money.deCentavos(3890))
                 .categoria("Pizza")
                 .disponivel(true)
                 .restaurante(pizzaExpress)
@@ -165,7 +250,7 @@ public class DataLoader implements CommandLineRunner {
         Produto burger1 = Produto.builder()
                 .nome("Burger Clássico")
                 .descricao("Hambúrguer com carne bovina, alface, tomate e molho especial")
-                .preco(new BigDecimal("25.90"))
+                .preco(Money.deCentavos(2590))
                 .categoria("Hamburguer")
                 .disponivel(true)
                 .restaurante(burgerHouse)
@@ -174,7 +259,7 @@ public class DataLoader implements CommandLineRunner {
         Produto burger2 = Produto.builder()
                 .nome("Burger Bacon")
                 .descricao("Hambúrguer com carne bovina, bacon, queijo e molho barbecue")
-                .preco(new BigDecimal("29.90"))
+                .preco(Money.deCentavos(2990))
                 .categoria("Hamburguer")
                 .disponivel(true)
                 .restaurante(burgerHouse)
@@ -183,7 +268,7 @@ public class DataLoader implements CommandLineRunner {
         Produto bebida = Produto.builder()
                 .nome("Refrigerante Lata")
                 .descricao("Coca-Cola, Pepsi ou Guaraná 350ml")
-                .preco(new BigDecimal("4.50"))
+                .preco(Money.deCentavos(450))
                 .categoria("Bebida")
                 .disponivel(false)
                 .restaurante(burgerHouse)
@@ -201,7 +286,7 @@ public class DataLoader implements CommandLineRunner {
                 .restaurante(restaurantes.get(0))
                 .dataPedido(LocalDateTime.now().minusDays(2))
                 .status(StatusPedido.ENTREGUE)
-                .total(new BigDecimal("75.80"))
+                .total(Money.deCentavos(7580))
                 .relatorioPedido("Sem cebola na margherita")
                 .build();
 
@@ -210,7 +295,7 @@ public class DataLoader implements CommandLineRunner {
                 .restaurante(restaurantes.get(1))
                 .dataPedido(LocalDateTime.now().minusHours(3))
                 .status(StatusPedido.CRIADO)
-                .total(new BigDecimal("60.80"))
+                .total(Money.deCentavos(6080))
                 .relatorioPedido("Ponto da carne ao ponto")
                 .build();
 
@@ -229,7 +314,7 @@ public class DataLoader implements CommandLineRunner {
                     .restaurante(i % 2 == 0 ? restaurantes.get(0) : restaurantes.get(1))
                     .dataPedido(LocalDateTime.now().minusDays(i + 1))
                     .status(i % 3 == 0 ? StatusPedido.ENTREGUE : StatusPedido.CONFIRMADO)
-                    .total(new BigDecimal(String.valueOf(30 + (i * 10))))
+                    .total(Money.deCentavos((30 + i * 10) * 100L))
                     .relatorioPedido("Pedido adicional " + (i + 1))
                     .build();
             pedidoRepository.save(pedido);
@@ -241,7 +326,7 @@ public class DataLoader implements CommandLineRunner {
                     .restaurante(restaurantes.get(i % 2))
                     .dataPedido(LocalDateTime.now().minusHours(i * 6))
                     .status(StatusPedido.ENTREGUE)
-                    .total(new BigDecimal(String.valueOf(45 + (i * 15))))
+                    .total(Money.deCentavos((45 + i * 15) * 100L))
                     .relatorioPedido("Pedido Maria " + (i + 1))
                     .build();
             pedidoRepository.save(pedido);
@@ -282,7 +367,7 @@ public class DataLoader implements CommandLineRunner {
 
         logger.info("Restaurantes por Taxa");
         List<Restaurante> restaurantes = restauranteRepository
-            .findByTaxaEntregaLessThanEqual(new BigDecimal("5.00"));
+            .findByTaxaEntregaLessThanEqual(Money.deCentavos(500));
         logger.info("Restaurantes com taxa ≤ R$ 5,00: {}", restaurantes.size());
         for (Restaurante restaurante : restaurantes) {
             logger.info("Restaurante: {} - Taxa: R$ {} - Categoria: {}", 
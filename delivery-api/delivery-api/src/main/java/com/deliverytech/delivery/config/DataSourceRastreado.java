@@ -0,0 +1,49 @@
+package com.deliverytech.delivery.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Mede cada comando executado (SQL, duração da execução e linhas) e o registra nas
+ * EstatisticasSql e, se houver um rastro ativo na thread, no RastroRequisicao.
+ * Com as estatísticas desligadas, só as conexões obtidas com um rastro ativo são envolvidas
+ * (ConexaoRastreada); as demais saem do pool intactas.
+ */
+public class DataSourceRastreado extends DelegatingDataSource implements AutoCloseable {
+
+    private final EstatisticasSql estatisticas;
+
+    public DataSourceRastreado(DataSource alvo, EstatisticasSql estatisticas) {
+        super(alvo);
+        this.estatisticas = estatisticas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return rastrear(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return rastrear(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable fechavel) {
+            fechavel.close();
+        }
+    }
+
+    private Connection rastrear(Connection conexao) {
+        boolean comEstatisticas = estatisticas != null && estatisticas.isHabilitada();
+        if (!comEstatisticas && RastroRequisicao.atual() == null) {
+            return conexao;
+        }
+        return new ConexaoRastreada(conexao, comEstatisticas ? estatisticas : null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.deliverytech.delivery.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Snapshot compactado do banco H2 (schema + dados + histórico do Flyway), usado para
+ * subir instâncias novas sem repetir a carga de dados linha a linha.
+ *
+ * Ao lado do arquivo fica a versão do flyway_schema_history no momento da geração
+ * ({@code <arquivo>.versao}). O RUNSCRIPT substitui o schema inteiro, então um snapshot
+ * gerado com outra versão das migrações é descartado em vez de restaurado.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseSnapshot.class);
+
+    private static final Pattern MIGRACAO_VERSIONADA = Pattern.compile("^V([0-9]+(?:[._][0-9]+)*)__.+\\.sql$");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.flyway.locations:classpath:db/migration}")
+    private String[] locaisMigracoes;
+
+    public void gerar(Path arquivo) {
+        long inicio = System.nanoTime();
+        try {
+            Path diretorio = arquivo.toAbsolutePath().getParent();
+            if (diretorio != null) {
+                Files.createDirectories(diretorio);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o diretório do snapshot", e);
+        }
+        String versao = versaoDoBanco();
+        jdbcTemplate.execute("SCRIPT DROP TO '" + caminho(arquivo) + "' COMPRESSION GZIP");
+        try {
+            Files.writeString(arquivoVersao(arquivo), versao, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível gravar a versão do snapshot", e);
+        }
+        logger.info("Snapshot do banco (schema versão {}) gravado em {} ({} ms)", versao, arquivo.toAbsolutePath(),
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    public void restaurar(Path arquivo) {
+        long inicio = System.nanoTime();
+        jdbcTemplate.execute("RUNSCRIPT FROM '" + caminho(arquivo) + "' COMPRESSION GZIP");
+        logger.info("Banco restaurado do snapshot {} ({} ms)", arquivo.toAbsolutePath(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    public boolean existe(Path arquivo) {
+        return Files.isRegularFile(arquivo);
+    }
+
+    /**
+     * Verdadeiro se o snapshot existe e foi gerado com a última migração disponível. Um snapshot
+     * sem versão ou de outra versão é apagado, para que o chamador recarregue e gere outro.
+     */
+    public boolean valido(Path arquivo) {
+        if (!existe(arquivo)) {
+            return false;
+        }
+        String esperada = ultimaMigracao();
+        String gravada = versaoGravada(arquivo);
+        if (gravada != null && MigrationVersion.fromVersion(gravada).equals(MigrationVersion.fromVersion(esperada))) {
+            return true;
+        }
+        logger.warn("Snapshot {} com schema versão {} e migrações na versão {}; descartando",
+                arquivo.toAbsolutePath(), gravada != null ? gravada : "desconhecida", esperada);
+        try {
+            Files.deleteIfExists(arquivo);
+            Files.deleteIfExists(arquivoVersao(arquivo));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível descartar o snapshot " + arquivo.toAbsolutePath(), e);
+        }
+        return false;
+    }
+
+    // Versão da última migração aplicada com sucesso no banco atual
+    String versaoDoBanco() {
+        List<String> versoes = jdbcTemplate.queryForList("SELECT \"version\" FROM \"flyway_schema_history\" "
+                + "WHERE \"success\" AND \"version\" IS NOT NULL ORDER BY \"installed_rank\" DESC LIMIT 1", String.class);
+        if (versoes.isEmpty()) {
+            throw new RuntimeException("Banco sem migrações do Flyway aplicadas; snapshot não gerado");
+        }
+        return versoes.get(0);
+    }
+
+    // Maior versão entre as migrações versionadas (V<versão>__*.sql) dos locais do Flyway
+    String ultimaMigracao() {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        MigrationVersion maior = MigrationVersion.EMPTY;
+        try {
+            for (String local : locaisMigracoes) {
+                String padrao = (local.startsWith("classpath:") ? "classpath*:" + local.substring("classpath:".length()) : local)
+                        + "/*.sql";
+                for (Resource migracao : resolver.getResources(padrao)) {
+                    Matcher versao = MIGRACAO_VERSIONADA.matcher(String.valueOf(migracao.getFilename()));
+                    if (versao.matches()) {
+                        MigrationVersion atual = MigrationVersion.fromVersion(versao.group(1).replace('_', '.'));
+                        if (atual.compareTo(maior) > 0) {
+                            maior = atual;
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível listar as migrações do Flyway", e);
+        }
+        return maior == MigrationVersion.EMPTY ? "0" : maior.getVersion();
+    }
+
+    private static String versaoGravada(Path arquivo) {
+        Path versao = arquivoVersao(arquivo);
+        try {
+            return Files.isRegularFile(versao) ? Files.readString(versao, StandardCharsets.UTF_8).trim() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Path arquivoVersao(Path arquivo) {
+        return arquivo.resolveSibling(arquivo.getFileName() + ".versao");
+    }
+
+    private static String caminho(Path arquivo) {
+        return arquivo.toAbsolutePath().toString().replace("'", "''");
+    }
+}
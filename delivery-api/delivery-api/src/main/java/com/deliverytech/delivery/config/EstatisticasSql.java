@@ -0,0 +1,132 @@
+package com.deliverytech.delivery.config;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estatísticas acumuladas de todos os comandos SQL executados, agrupados pela impressão
+ * digital (FingerprintSql): execuções, tempo total e máximo, linhas lidas/afetadas e os
+ * métodos de repositório que emitiram cada um (OrigemSql).
+ *
+ * O caminho de registro não tem lock: os contadores são LongAdder/LongAccumulator e o
+ * SQL original é mapeado direto para os contadores, de modo que a normalização só roda na
+ * primeira vez que um texto de SQL aparece.
+ */
+@Component
+public class EstatisticasSql {
+
+    static final String SEM_ORIGEM = "(sem repositório)";
+    static final String OUTROS = "(outros)";
+
+    private final ConcurrentHashMap<String, Contadores> porFingerprint = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Contadores> porSql = new ConcurrentHashMap<>();
+
+    @Value("${delivery.estatisticas-sql.habilitada:false}")
+    private boolean habilitada;
+
+    @Value("${delivery.estatisticas-sql.max-fingerprints:2000}")
+    private int maxFingerprints;
+
+    public boolean isHabilitada() {
+        return habilitada;
+    }
+
+    /**
+     * Soma uma execução e devolve os contadores do fingerprint, para o chamador somar as
+     * linhas conforme o ResultSet é percorrido. Devolve null com as estatísticas desligadas.
+     */
+    public Contadores registrar(String sql, long duracaoNanos) {
+        if (!habilitada) {
+            return null;
+        }
+        Contadores contadores = contadores(sql);
+        contadores.execucoes.increment();
+        contadores.totalNanos.add(duracaoNanos);
+        contadores.maxNanos.accumulate(duracaoNanos);
+        String origem = OrigemSql.atual();
+        contadores.registrarOrigem(origem != null ? origem : SEM_ORIGEM);
+        return contadores;
+    }
+
+    // Os N fingerprints que mais consumiram tempo de banco
+    public List<Estatistica> maisCustosos(int limite) {
+        return porFingerprint.entrySet().stream()
+                .map(entrada -> entrada.getValue().estatistica(entrada.getKey()))
+                .sorted(Comparator.comparingDouble(Estatistica::totalMs).reversed())
+                .limit(limite)
+                .toList();
+    }
+
+    public void limpar() {
+        porSql.clear();
+        porFingerprint.clear();
+    }
+
+    private Contadores contadores(String sql) {
+        String chave = sql != null ? sql : "";
+        Contadores contadores = porSql.get(chave);
+        if (contadores != null) {
+            return contadores;
+        }
+        String fingerprint = FingerprintSql.normalizar(sql);
+        contadores = porFingerprint.get(fingerprint);
+        if (contadores == null) {
+            // SQL montado com literais pode gerar fingerprints sem fim; o excedente vai para um só balde
+            if (porFingerprint.size() >= maxFingerprints) {
+                fingerprint = OUTROS;
+            }
+            contadores = porFingerprint.computeIfAbsent(fingerprint, chaveFingerprint -> new Contadores());
+        }
+        // Textos distintos que caem no mesmo fingerprint (IN de tamanhos diferentes) também são limitados
+        if (porSql.size() < maxFingerprints * 4) {
+            porSql.putIfAbsent(chave, contadores);
+        }
+        return contadores;
+    }
+
+    public record Estatistica(String fingerprint, long execucoes, double totalMs, double mediaMs, double maxMs,
+            long linhas, Set<String> origens) {
+    }
+
+    public static final class Contadores {
+
+        private static final int MAX_ORIGENS = 20;
+
+        private final LongAdder execucoes = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder linhas = new LongAdder();
+        private final Set<String> origens = ConcurrentHashMap.newKeySet();
+
+        public void somarLinhas(long quantidade) {
+            linhas.add(quantidade);
+        }
+
+        private void registrarOrigem(String origem) {
+            // contains antes do add: depois da primeira vez é só uma leitura
+            if (!origens.contains(origem) && origens.size() < MAX_ORIGENS) {
+                origens.add(origem);
+            }
+        }
+
+        private Estatistica estatistica(String fingerprint) {
+            long quantidade = execucoes.sum();
+            long total = totalNanos.sum();
+            return new Estatistica(fingerprint, quantidade, milissegundos(total),
+                    quantidade > 0 ? milissegundos(total / quantidade) : 0, milissegundos(maxNanos.get()),
+                    linhas.sum(), new TreeSet<>(origens));
+        }
+
+        private static double milissegundos(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.deliverytech.delivery.config;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom sobre strings, dimensionado pela capacidade esperada e pela taxa de falso
+ * positivo desejada: m = -n ln p / (ln 2)^2 bits e k = (m / n) ln 2 funções de hash,
+ * derivadas de um hash de 64 bits por hashing duplo (h1 + i * h2).
+ *
+ * Sem lock: leituras são get no AtomicLongArray e inserções um OR por CAS só nas palavras
+ * em que o bit ainda não está ligado. "Ausente" é definitivo; "pode conter" não.
+ */
+public final class FiltroBloom {
+
+    private final AtomicLongArray palavras;
+    private final long bits;
+    private final int funcoesHash;
+    private final long capacidade;
+    private final LongAdder inseridos = new LongAdder();
+
+    public FiltroBloom(long capacidade, double taxaFalsoPositivo) {
+        if (capacidade <= 0 || taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+            throw new RuntimeException("Capacidade e taxa de falso positivo do filtro inválidas");
+        }
+        double ln2 = Math.log(2);
+        long bitsCalculados = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (ln2 * ln2));
+        // Arredonda para palavras inteiras de 64 bits
+        int quantidadePalavras = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bitsCalculados + 63) / 64));
+        this.palavras = new AtomicLongArray(quantidadePalavras);
+        this.bits = quantidadePalavras * 64L;
+        this.funcoesHash = (int) Math.max(1, Math.round((double) bits / capacidade * ln2));
+        this.capacidade = capacidade;
+    }
+
+    public void adicionar(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean alterou = false;
+        for (int i = 0; i < funcoesHash; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            if ((palavras.get(indice) & mascara) == 0) {
+                palavras.getAndUpdate(indice, palavra -> palavra | mascara);
+                alterou = true;
+            }
+        }
+        // Repetições não contam: a taxa estimada usa a quantidade de elementos distintos
+        if (alterou) {
+            inseridos.increment();
+        }
+    }
+
+    public boolean podeConter(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funcoesHash; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // (1 - e^(-k n / m))^k para os n elementos inseridos até agora
+    public double taxaFalsoPositivoEstimada() {
+        return Math.pow(1 - Math.exp(-funcoesHash * (double) inseridos.sum() / bits), funcoesHash);
+    }
+
+    public long getBits() {
+        return bits;
+    }
+
+    public int getFuncoesHash() {
+        return funcoesHash;
+    }
+
+    public long getCapacidade() {
+        return capacidade;
+    }
+
+    public long getInseridos() {
+        return inseridos.sum();
+    }
+
+    // FNV-1a de 64 bits sobre os chars, com mistura final para espalhar os bits altos
+    private static long hash(String valor) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            h ^= valor.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return misturar(h);
+    }
+
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
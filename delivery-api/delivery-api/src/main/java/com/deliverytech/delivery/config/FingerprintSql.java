@@ -0,0 +1,74 @@
+package com.deliverytech.delivery.config;
+
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza um comando SQL em uma "impressão digital": literais de texto e números viram ?,
+ * espaços em sequência viram um só e listas de parâmetros (?, ?, ?) viram (?+), para que
+ * o mesmo IN com tamanhos diferentes caia na mesma entrada. Números dentro de identificadores
+ * (aliases do Hibernate como p1_0) são preservados.
+ */
+public final class FingerprintSql {
+
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+    private FingerprintSql() {
+    }
+
+    public static String normalizar(String sql) {
+        if (sql == null) {
+            return "(desconhecido)";
+        }
+        StringBuilder saida = new StringBuilder(sql.length());
+        int i = 0;
+        int tamanho = sql.length();
+        while (i < tamanho) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // Literal de texto; '' dentro dele é uma aspa escapada
+                i++;
+                while (i < tamanho) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < tamanho && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                saida.append('?');
+                i++;
+            } else if (Character.isDigit(c) && !parteDeIdentificador(saida)) {
+                while (i < tamanho && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                saida.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < tamanho && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!saida.isEmpty()) {
+                    saida.append(' ');
+                }
+            } else {
+                saida.append(c);
+                i++;
+            }
+        }
+        int fim = saida.length();
+        while (fim > 0 && saida.charAt(fim - 1) == ' ') {
+            fim--;
+        }
+        saida.setLength(fim);
+        return LISTA_PARAMETROS.matcher(saida).replaceAll("(?+)");
+    }
+
+    private static boolean parteDeIdentificador(StringBuilder saida) {
+        if (saida.isEmpty()) {
+            return false;
+        }
+        char anterior = saida.charAt(saida.length() - 1);
+        return Character.isLetterOrDigit(anterior) || anterior == '_' || anterior == '$' || anterior == '"';
+    }
+}
@@ -0,0 +1,39 @@
+package com.deliverytech.delivery.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Método de repositório em execução na thread (ex.: "PedidoRepository.findByClienteIdWithItens"),
+ * para atribuir a ele os comandos SQL que emitir. Comandos emitidos fora de uma chamada de
+ * repositório (lazy loading depois do retorno, flush no commit) ficam sem origem.
+ */
+public final class OrigemSql implements MethodInterceptor {
+
+    private static final ThreadLocal<String> ATUAL = new ThreadLocal<>();
+
+    private final String repositorio;
+
+    public OrigemSql(String repositorio) {
+        this.repositorio = repositorio;
+    }
+
+    public static String atual() {
+        return ATUAL.get();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String anterior = ATUAL.get();
+        ATUAL.set(repositorio + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } finally {
+            if (anterior != null) {
+                ATUAL.set(anterior);
+            } else {
+                ATUAL.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.deliverytech.delivery.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Comandos SQL executados pela requisição corrente, registrados pelo DataSourceRastreado.
+ * Fica em uma ThreadLocal entre o início e o fim da requisição; comandos executados em
+ * outras threads (ex.: o fan-out entre shards) não são atribuídos a ela.
+ *
+ * A maioria das requisições não entra entre as mais lentas, então o registro é só o texto
+ * do SQL e dois longs em arrays que crescem sob demanda; os objetos Comando só são criados
+ * em getComandos, depois que a AmostragemRequisicoes decide guardar a requisição.
+ */
+public final class RastroRequisicao {
+
+    private static final ThreadLocal<RastroRequisicao> ATUAL = new ThreadLocal<>();
+    private static final int CAPACIDADE_INICIAL = 8;
+
+    private final int maximoComandos;
+    private String[] sqls = new String[0];
+    private long[] duracoesNanos = new long[0];
+    private long[] linhas = new long[0];
+    private int quantidade;
+    private int descartados;
+
+    private RastroRequisicao(int maximoComandos) {
+        this.maximoComandos = maximoComandos;
+    }
+
+    public static RastroRequisicao iniciar(int maximoComandos) {
+        RastroRequisicao rastro = new RastroRequisicao(maximoComandos);
+        ATUAL.set(rastro);
+        return rastro;
+    }
+
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+
+    public static RastroRequisicao atual() {
+        return ATUAL.get();
+    }
+
+    // Devolve a posição do comando, ou -1 quando o limite foi atingido (só conta como descartado)
+    int registrar(String sql, long duracaoNanos) {
+        if (quantidade >= maximoComandos) {
+            descartados++;
+            return -1;
+        }
+        if (quantidade == sqls.length) {
+            int capacidade = Math.min(maximoComandos, Math.max(CAPACIDADE_INICIAL, quantidade * 2));
+            sqls = Arrays.copyOf(sqls, capacidade);
+            duracoesNanos = Arrays.copyOf(duracoesNanos, capacidade);
+            linhas = Arrays.copyOf(linhas, capacidade);
+        }
+        sqls[quantidade] = sql;
+        duracoesNanos[quantidade] = duracaoNanos;
+        return quantidade++;
+    }
+
+    void somarLinhas(int indice, long quantidadeLinhas) {
+        linhas[indice] += quantidadeLinhas;
+    }
+
+    public List<Comando> getComandos() {
+        List<Comando> comandos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            comandos.add(new Comando(sqls[i], duracoesNanos[i], linhas[i]));
+        }
+        return comandos;
+    }
+
+    public long getDuracaoTotalNanos() {
+        long total = 0;
+        for (int i = 0; i < quantidade; i++) {
+            total += duracoesNanos[i];
+        }
+        return total;
+    }
+
+    public int getDescartados() {
+        return descartados;
+    }
+
+    /**
+     * Linhas afetadas (update/batch) ou lidas do ResultSet (consulta), no momento em que o
+     * comando foi copiado do rastro.
+     */
+    public static final class Comando {
+
+        private final String sql;
+        private final long duracaoNanos;
+        private final long linhas;
+
+        Comando(String sql, long duracaoNanos, long linhas) {
+            this.sql = sql;
+            this.duracaoNanos = duracaoNanos;
+            this.linhas = linhas;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public long getDuracaoNanos() {
+            return duracaoNanos;
+        }
+
+        public long getLinhas() {
+            return linhas;
+        }
+    }
+}
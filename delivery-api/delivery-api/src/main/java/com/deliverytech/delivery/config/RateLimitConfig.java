@@ -0,0 +1,28 @@
+package com.deliverytech.delivery.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.deliverytech.delivery.service.RateLimitService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rotas com rate limit: cada uma declara aqui o método e o endpoint do RateLimitService,
+ * e os controllers não chamam o limitador.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitService rateLimitService;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, "POST", RateLimitService.PEDIDOS_CRIAR))
+                .addPathPatterns("/api/pedidos");
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, "POST", RateLimitService.PEDIDOS_CALCULAR))
+                .addPathPatterns("/api/pedidos/calcular");
+    }
+}
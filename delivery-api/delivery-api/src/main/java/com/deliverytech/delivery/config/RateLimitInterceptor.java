@@ -0,0 +1,62 @@
+package com.deliverytech.delivery.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.deliverytech.delivery.service.RateLimitService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Aplica o rate limit de um endpoint antes do controller. O corpo ainda não foi lido aqui,
+ * então a chave vem dos cabeçalhos: X-API-Key, senão X-Cliente-Id, senão o IP de origem.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitInterceptor.class);
+
+    private final RateLimitService rateLimitService;
+    private final String metodo;
+    private final String endpoint;
+
+    public RateLimitInterceptor(RateLimitService rateLimitService, String metodo, String endpoint) {
+        this.rateLimitService = rateLimitService;
+        this.metodo = metodo;
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!metodo.equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+        String chave = chave(request);
+        RateLimitService.Resultado limite = rateLimitService.tentarConsumir(endpoint, chave);
+        response.setHeader("RateLimit-Limit", String.valueOf(limite.limite()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(limite.restante()));
+        response.setHeader("RateLimit-Reset", String.valueOf(limite.resetSegundos()));
+        if (limite.permitido()) {
+            return true;
+        }
+        logger.warn("Limite de {} excedido para {}", endpoint, chave);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limite.resetSegundos()));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        return false;
+    }
+
+    private static String chave(HttpServletRequest request) {
+        String apiKey = request.getHeader("X-API-Key");
+        if (apiKey != null && !apiKey.isBlank()) {
+            return "api-key:" + apiKey;
+        }
+        String clienteId = request.getHeader("X-Cliente-Id");
+        if (clienteId != null && !clienteId.isBlank()) {
+            return "cliente:" + clienteId;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
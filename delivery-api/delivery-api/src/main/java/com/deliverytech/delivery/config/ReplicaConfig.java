@@ -0,0 +1,90 @@
+package com.deliverytech.delivery.config;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Réplica de leitura: transações readOnly usam delivery.replica.url e o resto usa o
+ * spring.datasource. Não se combina com o sharding, que já tem seu próprio roteamento.
+ */
+@Configuration
+@ConditionalOnExpression("${delivery.replica.habilitada:false} and !${delivery.sharding.habilitado:false}")
+public class ReplicaConfig implements WebMvcConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaConfig.class);
+
+    @Value("${delivery.replica.url}")
+    private String url;
+
+    @Value("${delivery.replica.janela-leitura-ms:5000}")
+    private long janelaLeituraMs;
+
+    @Value("${delivery.replica.reintentar-ms:30000}")
+    private long reintentarMs;
+
+    @Value("${delivery.replica.migrar:false}")
+    private boolean migrar;
+
+    @Bean
+    public ConsistenciaLeitura consistenciaLeitura() {
+        return new ConsistenciaLeitura(janelaLeituraMs, System::currentTimeMillis);
+    }
+
+    @Bean
+    public DataSource primarioDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().build();
+    }
+
+    @Bean
+    public DataSource replicaDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().url(url).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primarioDataSource") DataSource primario,
+            @Qualifier("replicaDataSource") DataSource replica, ConsistenciaLeitura consistenciaLeitura) {
+        logger.info("Leituras somente leitura roteadas para a réplica {}", url);
+        return new ReplicaRoutingDataSource(primario, replica, consistenciaLeitura, reintentarMs, System::currentTimeMillis);
+    }
+
+    // O proxy adia a obtenção da conexão até o primeiro comando, quando o readOnly já é conhecido
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Em produção a réplica recebe o schema pela replicação; localmente (H2) precisa migrar
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Qualifier("replicaDataSource") DataSource replica) {
+        return flyway -> {
+            flyway.migrate();
+            if (migrar) {
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(replica)
+                        .load()
+                        .migrate();
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConsistenciaLeituraInterceptor(consistenciaLeitura())).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,111 @@
+package com.deliverytech.delivery.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envia transações readOnly à réplica e todo o resto ao primário. Deve ficar atrás de um
+ * LazyConnectionDataSourceProxy, para que a conexão só seja escolhida depois que a transação
+ * já foi marcada como somente leitura.
+ * Se a réplica falhar ao entregar uma conexão, as leituras voltam ao primário por reintentarMs.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Destino { PRIMARIO, REPLICA }
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primario;
+    private final DataSource replica;
+    private final ConsistenciaLeitura consistenciaLeitura;
+    private final long reintentarMs;
+    private final LongSupplier relogio;
+
+    private final AtomicLong replicaIndisponivelAte = new AtomicLong();
+    private final LongAdder leiturasReplica = new LongAdder();
+    private final LongAdder leiturasPrimario = new LongAdder();
+    private final LongAdder falhasReplica = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primario, DataSource replica, ConsistenciaLeitura consistenciaLeitura,
+            long reintentarMs, LongSupplier relogio) {
+        this.primario = primario;
+        this.replica = replica;
+        this.consistenciaLeitura = consistenciaLeitura;
+        this.reintentarMs = reintentarMs;
+        this.relogio = relogio;
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            consistenciaLeitura.registrarEscritaDaRequisicao();
+            return Destino.PRIMARIO;
+        }
+        if (consistenciaLeitura.exigePrimario() || relogio.getAsLong() < replicaIndisponivelAte.get()) {
+            leiturasPrimario.increment();
+            return Destino.PRIMARIO;
+        }
+        return Destino.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Destino.REPLICA) {
+            try {
+                Connection conexao = replica.getConnection();
+                leiturasReplica.increment();
+                return conexao;
+            } catch (SQLException e) {
+                marcarFalha(e);
+            }
+        }
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineCurrentLookupKey() == Destino.REPLICA) {
+            try {
+                Connection conexao = replica.getConnection(username, password);
+                leiturasReplica.increment();
+                return conexao;
+            } catch (SQLException e) {
+                marcarFalha(e);
+            }
+        }
+        return primario.getConnection(username, password);
+    }
+
+    public long leiturasNaReplica() {
+        return leiturasReplica.sum();
+    }
+
+    public long leiturasNoPrimario() {
+        return leiturasPrimario.sum();
+    }
+
+    public long falhasDaReplica() {
+        return falhasReplica.sum();
+    }
+
+    private void marcarFalha(SQLException e) {
+        falhasReplica.increment();
+        leiturasPrimario.increment();
+        replicaIndisponivelAte.set(relogio.getAsLong() + reintentarMs);
+        logger.warn("Réplica indisponível ({}), leituras no primário pelos próximos {} ms", e.getMessage(), reintentarMs);
+    }
+}
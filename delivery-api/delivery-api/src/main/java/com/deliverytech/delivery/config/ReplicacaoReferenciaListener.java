@@ -0,0 +1,61 @@
+package com.deliverytech.delivery.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverytech.delivery.model.Cliente;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.Restaurante;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Entity listener dos dados de referência. Instanciado pelo Hibernate via container do Spring;
+ * sem sharding não há ReplicadorReferencias e o listener não faz nada.
+ */
+public class ReplicacaoReferenciaListener {
+
+    private final ObjectProvider<ReplicadorReferencias> replicador;
+
+    public ReplicacaoReferenciaListener(ObjectProvider<ReplicadorReferencias> replicador) {
+        this.replicador = replicador;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void aoAlterar(Object entidade) {
+        ReplicadorReferencias alvo = replicador.getIfAvailable();
+        if (alvo == null) {
+            return;
+        }
+        String tabela;
+        Object id;
+        if (entidade instanceof Cliente cliente) {
+            tabela = "cliente";
+            id = cliente.getId();
+        } else if (entidade instanceof Restaurante restaurante) {
+            tabela = "restaurante";
+            id = restaurante.getId();
+        } else if (entidade instanceof Produto produto) {
+            tabela = "produto";
+            id = produto.getId();
+        } else {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    alvo.replicar(tabela, id);
+                }
+            });
+        } else {
+            alvo.replicar(tabela, id);
+        }
+    }
+}
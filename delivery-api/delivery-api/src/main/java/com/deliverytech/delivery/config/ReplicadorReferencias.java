@@ -0,0 +1,144 @@
+package com.deliverytech.delivery.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copia clientes, restaurantes e produtos do shard 0 para os demais shards, para que as
+ * associações de Pedido e ItemPedido resolvam localmente em qualquer shard.
+ * A cópia completa roda no ApplicationReadyEvent (cobre seed, massa sintética e snapshot);
+ * depois disso cada alteração feita via JPA é replicada linha a linha após o commit.
+ */
+@Component
+@ConditionalOnProperty(name = "delivery.sharding.habilitado", havingValue = "true")
+public class ReplicadorReferencias {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicadorReferencias.class);
+
+    // Ordem respeita as FKs (produto -> restaurante)
+    static final List<String> TABELAS = List.of("cliente", "restaurante", "produto");
+
+    private final ShardRoutingDataSource dataSource;
+
+    @Value("${delivery.sharding.lote-replicacao:1000}")
+    private int tamanhoLote;
+
+    public ReplicadorReferencias(ShardRoutingDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void sincronizarTudo() {
+        long inicio = System.currentTimeMillis();
+        JdbcTemplate origem = new JdbcTemplate(dataSource.shard(0));
+        for (String tabela : TABELAS) {
+            SqlRowSet linhas = origem.queryForRowSet("SELECT * FROM " + tabela);
+            List<String> colunas = colunas(linhas.getMetaData());
+            String merge = merge(tabela, colunas);
+            List<Object[]> lote = new ArrayList<>(tamanhoLote);
+            while (linhas.next()) {
+                Object[] valores = new Object[colunas.size()];
+                for (int i = 0; i < valores.length; i++) {
+                    valores[i] = linhas.getObject(i + 1);
+                }
+                lote.add(valores);
+                if (lote.size() == tamanhoLote) {
+                    gravarNosShards(merge, lote);
+                    lote = new ArrayList<>(tamanhoLote);
+                }
+            }
+            gravarNosShards(merge, lote);
+        }
+        logger.info("Dados de referência replicados para {} shards em {} ms",
+                dataSource.quantidade() - 1, System.currentTimeMillis() - inicio);
+    }
+
+    public void replicar(String tabela, Object id) {
+        List<Map<String, Object>> linha = new JdbcTemplate(dataSource.shard(0))
+                .queryForList("SELECT * FROM " + tabela + " WHERE id = ?", id);
+        for (int shard = 1; shard < dataSource.quantidade(); shard++) {
+            JdbcTemplate destino = new JdbcTemplate(dataSource.shard(shard));
+            if (linha.isEmpty()) {
+                destino.update("DELETE FROM " + tabela + " WHERE id = ?", id);
+            } else {
+                List<String> colunas = new ArrayList<>(linha.get(0).keySet());
+                destino.update(merge(tabela, colunas), linha.get(0).values().toArray());
+            }
+        }
+    }
+
+    // Para cargas e UPDATEs em lote feitos fora do listener JPA (idMaiorQue = 0 copia todas as linhas)
+    public void replicarPorColuna(String tabela, String coluna, Object valor, long idMaiorQue) {
+        replicarConsulta(tabela, "SELECT * FROM " + tabela + " WHERE " + coluna + " = ? AND id > ? ORDER BY id",
+                valor, idMaiorQue);
+    }
+
+    // Para inserções em lote feitas via JDBC: copia as linhas com id acima do maior id anterior à carga
+    public void replicarNovos(String tabela, long idMaiorQue) {
+        replicarConsulta(tabela, "SELECT * FROM " + tabela + " WHERE id > ? ORDER BY id", idMaiorQue);
+    }
+
+    private void replicarConsulta(String tabela, String consulta, Object... argumentos) {
+        List<Object[]> lote = new ArrayList<>(tamanhoLote);
+        List<String> colunas = new ArrayList<>();
+        new JdbcTemplate(dataSource.shard(0)).query(consulta,
+                resultado -> {
+                    if (colunas.isEmpty()) {
+                        for (int i = 1; i <= resultado.getMetaData().getColumnCount(); i++) {
+                            colunas.add(resultado.getMetaData().getColumnName(i));
+                        }
+                    }
+                    Object[] valores = new Object[colunas.size()];
+                    for (int i = 0; i < valores.length; i++) {
+                        valores[i] = resultado.getObject(i + 1);
+                    }
+                    lote.add(valores);
+                    if (lote.size() == tamanhoLote) {
+                        gravarNosShards(merge(tabela, colunas), lote);
+                        lote.clear();
+                    }
+                },
+                argumentos);
+        if (!colunas.isEmpty()) {
+            gravarNosShards(merge(tabela, colunas), lote);
+        }
+    }
+
+    private void gravarNosShards(String merge, List<Object[]> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        for (int shard = 1; shard < dataSource.quantidade(); shard++) {
+            new JdbcTemplate(dataSource.shard(shard)).batchUpdate(merge, lote);
+        }
+    }
+
+    private static List<String> colunas(SqlRowSetMetaData metaData) {
+        List<String> colunas = new ArrayList<>(metaData.getColumnCount());
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            colunas.add(metaData.getColumnName(i));
+        }
+        return colunas;
+    }
+
+    private static String merge(String tabela, List<String> colunas) {
+        return "MERGE INTO " + tabela + " (" + String.join(", ", colunas) + ") KEY (id) VALUES ("
+                + colunas.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+    }
+}
@@ -0,0 +1,34 @@
+package com.deliverytech.delivery.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard corrente da thread, lido pelo ShardRoutingDataSource ao abrir a conexão.
+ * Deve ser definido antes do início da transação: depois que a conexão está vinculada
+ * à transação, trocar o shard não tem efeito.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> SHARD_ATUAL = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer atual() {
+        return SHARD_ATUAL.get();
+    }
+
+    public static <T> T executar(int shard, Supplier<T> acao) {
+        Integer anterior = SHARD_ATUAL.get();
+        SHARD_ATUAL.set(shard);
+        try {
+            return acao.get();
+        } finally {
+            if (anterior == null) {
+                SHARD_ATUAL.remove();
+            } else {
+                SHARD_ATUAL.set(anterior);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.deliverytech.delivery.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource que escolhe o banco pelo ShardContext. Sem shard definido usa o shard 0,
+ * que também guarda os dados de referência (clientes, restaurantes e produtos).
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> alvos = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            alvos.put(i, shards.get(i));
+        }
+        setTargetDataSources(alvos);
+        setDefaultTargetDataSource(shards.get(0));
+        // Shard inexistente é erro de roteamento, não deve cair silenciosamente no shard 0
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.atual();
+    }
+
+    public DataSource shard(int indice) {
+        return shards.get(indice);
+    }
+
+    public int quantidade() {
+        return shards.size();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable fechavel) {
+                fechavel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.deliverytech.delivery.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Modo particionado: pedidos e itens ficam no shard do restaurante (restauranteId mod N).
+ * Cada shard recebe as mesmas migrações e uma faixa própria de ids de pedido
+ * (shard * FAIXA_IDS_POR_SHARD), o que permite achar o shard de um pedido só pelo id.
+ */
+@Configuration
+@ConditionalOnProperty(name = "delivery.sharding.habilitado", havingValue = "true")
+public class ShardingConfig {
+
+    public static final long FAIXA_IDS_POR_SHARD = 1_000_000_000_000L;
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardingConfig.class);
+
+    @Value("${delivery.sharding.urls}")
+    private String[] urls;
+
+    @Bean
+    public ShardRoutingDataSource dataSource(DataSourceProperties properties, EstatisticasSql estatisticasSql) {
+        List<DataSource> shards = new ArrayList<>(urls.length);
+        for (String url : urls) {
+            shards.add(new DataSourceRastreado(properties.initializeDataSourceBuilder().url(url.trim()).build(),
+                    estatisticasSql));
+        }
+        logger.info("Sharding de pedidos habilitado com {} shards", shards.size());
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(ShardRoutingDataSource dataSource) {
+        return flyway -> {
+            for (int shard = 0; shard < dataSource.quantidade(); shard++) {
+                DataSource banco = dataSource.shard(shard);
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(banco)
+                        .load()
+                        .migrate();
+                reservarFaixaDeIds(new JdbcTemplate(banco), shard);
+            }
+        };
+    }
+
+    private void reservarFaixaDeIds(JdbcTemplate jdbcTemplate, int shard) {
+        long inicio = shard * FAIXA_IDS_POR_SHARD + 1;
+        for (String tabela : List.of("pedido", "item_pedido", "outbox_evento")) {
+            Long maior = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tabela, Long.class);
+            if (maior == null || maior < inicio) {
+                jdbcTemplate.execute("ALTER TABLE " + tabela + " ALTER COLUMN id RESTART WITH " + inicio);
+            }
+        }
+    }
+}
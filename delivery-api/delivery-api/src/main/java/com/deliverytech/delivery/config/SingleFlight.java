@@ -0,0 +1,84 @@
+package com.deliverytech.delivery.config;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Junta chamadas concorrentes com a mesma chave: a primeira executa a ação na própria thread
+ * e as demais aguardam o mesmo resultado (ou a mesma exceção) por até timeoutMs.
+ * Nada é guardado depois que a execução termina; isso fica a cargo dos caches.
+ */
+public final class SingleFlight<K, V> {
+
+    private final String nome;
+    private final long timeoutMs;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+    private final LongAdder execucoes = new LongAdder();
+    private final LongAdder coalescidas = new LongAdder();
+    private final LongAdder erros = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(String nome, long timeoutMs) {
+        this.nome = nome;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public V executar(K chave, Supplier<V> acao) {
+        CompletableFuture<V> novo = new CompletableFuture<>();
+        CompletableFuture<V> atual = emAndamento.putIfAbsent(chave, novo);
+        if (atual != null) {
+            coalescidas.increment();
+            return aguardar(atual);
+        }
+
+        execucoes.increment();
+        try {
+            V valor = acao.get();
+            novo.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            erros.increment();
+            novo.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, novo);
+        }
+    }
+
+    public String nome() {
+        return nome;
+    }
+
+    public Estatisticas estatisticas() {
+        return new Estatisticas(execucoes.sum(), coalescidas.sum(), erros.sum(), timeouts.sum(), emAndamento.size());
+    }
+
+    private V aguardar(CompletableFuture<V> futuro) {
+        try {
+            return futuro.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new RuntimeException("Tempo esgotado aguardando consulta em andamento: " + nome);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido aguardando consulta em andamento: " + nome);
+        }
+    }
+
+    public record Estatisticas(long execucoes, long coalescidas, long erros, long timeouts, int emAndamento) {
+    }
+}
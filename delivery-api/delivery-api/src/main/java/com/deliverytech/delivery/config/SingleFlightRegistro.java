@@ -0,0 +1,31 @@
+package com.deliverytech.delivery.config;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cria os SingleFlight nomeados usados pelos serviços e expõe as estatísticas de cada um.
+ */
+@Component
+public class SingleFlightRegistro {
+
+    private final ConcurrentHashMap<String, SingleFlight<?, ?>> grupos = new ConcurrentHashMap<>();
+
+    @Value("${delivery.single-flight.timeout-ms:2000}")
+    private long timeoutMs;
+
+    @SuppressWarnings("unchecked")
+    public <K, V> SingleFlight<K, V> grupo(String nome) {
+        return (SingleFlight<K, V>) grupos.computeIfAbsent(nome, n -> new SingleFlight<>(n, timeoutMs));
+    }
+
+    public Map<String, SingleFlight.Estatisticas> estatisticas() {
+        Map<String, SingleFlight.Estatisticas> resultado = new TreeMap<>();
+        grupos.forEach((nome, grupo) -> resultado.put(nome, grupo.estatisticas()));
+        return resultado;
+    }
+}
@@ -0,0 +1,370 @@
+package com.deliverytech.delivery.config;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliverytech.delivery.model.StatusPedido;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gera uma massa de dados sintética proporcional ao fator de escala, com
+ * distribuições próximas às de produção: popularidade Zipf dos restaurantes,
+ * tamanho de pedido geométrico e mix de status dependente da idade do pedido.
+ *
+ * Fator 1 = 10 mil clientes, 200 restaurantes, 4 mil produtos e 50 mil pedidos
+ * (~100 mil itens). As inserções usam batches JDBC em várias threads.
+ */
+@Component
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final int CLIENTES_POR_FATOR = 10_000;
+    static final int RESTAURANTES_POR_FATOR = 200;
+    static final int PRODUTOS_POR_RESTAURANTE = 20;
+    static final int PEDIDOS_POR_FATOR = 50_000;
+
+    private static final int PEDIDOS_POR_TAREFA = 5_000;
+    private static final int DIAS_HISTORICO = 90;
+    // Região metropolitana de São Paulo: centro e meia-extensão (graus) da área sorteada
+    private static final double LATITUDE_CENTRO = -23.55;
+    private static final double LONGITUDE_CENTRO = -46.63;
+    private static final double EXTENSAO_GRAUS = 0.25;
+
+    private static final String[] CATEGORIAS_RESTAURANTE = {
+        "Italiana", "Japonesa", "Hamburguer", "Brasileira", "Mexicana",
+        "Árabe", "Vegana", "Chinesa", "Pizza", "Doces"
+    };
+    private static final String[] CATEGORIAS_PRODUTO = {
+        "Prato principal", "Entrada", "Bebida", "Sobremesa", "Combo"
+    };
+    private static final String[] BAIRROS = {
+        "Centro", "Bela Vista", "Vila Madalena", "Pinheiros", "Moema", "Tatuapé", "Santana", "Butantã"
+    };
+
+    private static final String INSERT_CLIENTE =
+            "INSERT INTO cliente (id, nome, telefone, rua, numero, bairro, cidade, estado, cep, latitude, longitude, "
+            + "email, ativo, data_criacao) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RESTAURANTE =
+            "INSERT INTO restaurante (id, nome, categoria, telefone, taxa_entrega, tempo_entrega_minutos, avaliacao, ativo, "
+            + "cidade, estado, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PRODUTO =
+            "INSERT INTO produto (id, nome, categoria, descricao, preco, disponivel, restaurante_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PEDIDO =
+            "INSERT INTO pedido (id, cliente_id, restaurante_id, total, status, data_pedido, relatorio_pedido, "
+            + "rua, numero, bairro, cidade, estado, cep) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ITEM =
+            "INSERT INTO item_pedido (id, pedido_id, produto_id, quantidade, preco_unitario) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${delivery.dataset.threads:0}")
+    private int threads;
+
+    @Value("${delivery.dataset.lote:1000}")
+    private int tamanhoLote;
+
+    @Value("${delivery.dataset.semente:42}")
+    private long semente;
+
+    @Value("${delivery.dataset.zipf-expoente:1.1}")
+    private double expoenteZipf;
+
+    /**
+     * Roda fora de qualquer transação do chamador: as threads usam conexões próprias
+     * e precisam enxergar os clientes, restaurantes e produtos já confirmados.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Resumo gerar(int fatorEscala) {
+        if (fatorEscala < 1) {
+            throw new IllegalArgumentException("Fator de escala deve ser maior que zero");
+        }
+        long inicio = System.nanoTime();
+        int numClientes = CLIENTES_POR_FATOR * fatorEscala;
+        int numRestaurantes = RESTAURANTES_POR_FATOR * fatorEscala;
+        int numPedidos = PEDIDOS_POR_FATOR * fatorEscala;
+        int numThreads = threads > 0 ? threads : Math.min(8, Runtime.getRuntime().availableProcessors());
+
+        logger.info("Gerando massa sintética com fator de escala {} usando {} threads...", fatorEscala, numThreads);
+
+        long baseCliente = maiorId("cliente");
+        long baseRestaurante = maiorId("restaurante");
+        long baseProduto = maiorId("produto");
+        long basePedido = maiorId("pedido");
+        long baseItem = maiorId("item_pedido");
+
+        SplittableRandom random = new SplittableRandom(semente);
+        long[] precos = new long[numRestaurantes * PRODUTOS_POR_RESTAURANTE];
+        for (int i = 0; i < precos.length; i++) {
+            precos[i] = 500 + random.nextInt(150) * 50L;
+        }
+        AmostradorZipf popularidade = new AmostradorZipf(numRestaurantes, expoenteZipf, random.split());
+        SplittableRandom randomClientes = random.split();
+        SplittableRandom randomRestaurantes = random.split();
+        AtomicLong totalItens = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            aguardar(List.of(
+                    executor.submit(() -> inserirClientes(baseCliente, numClientes, randomClientes)),
+                    executor.submit(() -> inserirRestaurantes(baseRestaurante, numRestaurantes, randomRestaurantes))));
+            inserirProdutos(baseRestaurante, baseProduto, numRestaurantes, precos, random.split());
+
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int inicioTarefa = 0; inicioTarefa < numPedidos; inicioTarefa += PEDIDOS_POR_TAREFA) {
+                int primeiro = inicioTarefa;
+                int quantidade = Math.min(PEDIDOS_POR_TAREFA, numPedidos - inicioTarefa);
+                // Cada tarefa reserva uma faixa fixa de ids de item (no máximo 8 itens por pedido)
+                long baseItemTarefa = baseItem + (long) primeiro * 8;
+                SplittableRandom randomTarefa = new SplittableRandom(semente + 31L * (primeiro + 1));
+                tarefas.add(executor.submit(() -> totalItens.addAndGet(inserirPedidos(
+                        basePedido + primeiro, quantidade, baseItemTarefa, baseCliente, numClientes,
+                        baseRestaurante, baseProduto, precos, popularidade, randomTarefa))));
+            }
+            aguardar(tarefas);
+        } finally {
+            executor.shutdown();
+        }
+
+        reiniciarIdentidade("cliente");
+        reiniciarIdentidade("restaurante");
+        reiniciarIdentidade("produto");
+        reiniciarIdentidade("pedido");
+        reiniciarIdentidade("item_pedido");
+
+        Resumo resumo = new Resumo(numClientes, numRestaurantes, precos.length, numPedidos, totalItens.get(),
+                (System.nanoTime() - inicio) / 1_000_000);
+        logger.info("Massa sintética gerada: {}", resumo);
+        return resumo;
+    }
+
+    private void inserirClientes(long base, int quantidade, SplittableRandom random) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Object[]> lote = new ArrayList<>(tamanhoLote);
+        for (int i = 1; i <= quantidade; i++) {
+            long id = base + i;
+            lote.add(new Object[] {
+                id, "Cliente " + id, String.format("(11) 9%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)),
+                "Rua " + (1 + random.nextInt(500)), String.valueOf(1 + random.nextInt(2_000)),
+                BAIRROS[random.nextInt(BAIRROS.length)], "São Paulo", "SP", cep(random),
+                latitude(random), longitude(random),
+                "cliente" + id + "@sintetico.delivery", random.nextInt(100) < 95,
+                agora.minusDays(random.nextInt(365 * 2))
+            });
+            lote = descarregarSeCheio(INSERT_CLIENTE, lote);
+        }
+        descarregar(INSERT_CLIENTE, lote);
+    }
+
+    private void inserirRestaurantes(long base, int quantidade, SplittableRandom random) {
+        List<Object[]> lote = new ArrayList<>(tamanhoLote);
+        for (int i = 1; i <= quantidade; i++) {
+            long id = base + i;
+            lote.add(new Object[] {
+                id, "Restaurante " + id, CATEGORIAS_RESTAURANTE[random.nextInt(CATEGORIAS_RESTAURANTE.length)],
+                String.format("(11) 3%03d-%04d", random.nextInt(1_000), random.nextInt(10_000)),
+                BigDecimal.valueOf(random.nextInt(31) * 50L, 2), 15 + random.nextInt(76),
+                // Avaliações concentradas entre 3 e 5
+                Math.min(5, 3 + random.nextInt(3) + (random.nextInt(10) == 0 ? -2 : 0)),
+                random.nextInt(100) < 97,
+                "São Paulo", "SP", latitude(random), longitude(random)
+            });
+            lote = descarregarSeCheio(INSERT_RESTAURANTE, lote);
+        }
+        descarregar(INSERT_RESTAURANTE, lote);
+    }
+
+    private void inserirProdutos(long baseRestaurante, long baseProduto, int numRestaurantes, long[] precos,
+            SplittableRandom random) {
+        List<Object[]> lote = new ArrayList<>(tamanhoLote);
+        for (int i = 0; i < precos.length; i++) {
+            long id = baseProduto + i + 1;
+            String categoria = CATEGORIAS_PRODUTO[random.nextInt(CATEGORIAS_PRODUTO.length)];
+            lote.add(new Object[] {
+                id, "Produto " + id, categoria, categoria + " da casa", BigDecimal.valueOf(precos[i], 2),
+                random.nextInt(100) < 90, baseRestaurante + 1 + i / PRODUTOS_POR_RESTAURANTE
+            });
+            lote = descarregarSeCheio(INSERT_PRODUTO, lote);
+        }
+        descarregar(INSERT_PRODUTO, lote);
+        logger.info("{} produtos inseridos para {} restaurantes", precos.length, numRestaurantes);
+    }
+
+    private long inserirPedidos(long primeiroId, int quantidade, long baseItem, long baseCliente, int numClientes,
+            long baseRestaurante, long baseProduto, long[] precos, AmostradorZipf popularidade,
+            SplittableRandom random) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Object[]> pedidos = new ArrayList<>(quantidade);
+        List<Object[]> itens = new ArrayList<>(quantidade * 2);
+        long proximoItem = baseItem;
+
+        for (int i = 1; i <= quantidade; i++) {
+            long pedidoId = primeiroId + i;
+            int restaurante = popularidade.amostrar(random);
+            long minutosAtras = random.nextLong(DIAS_HISTORICO * 24L * 60L);
+
+            int numItens = 1;
+            while (numItens < 8 && random.nextInt(100) < 45) {
+                numItens++;
+            }
+            long totalCentavos = 0;
+            for (int j = 0; j < numItens; j++) {
+                int produto = restaurante * PRODUTOS_POR_RESTAURANTE + random.nextInt(PRODUTOS_POR_RESTAURANTE);
+                int quantidadeItem = random.nextInt(100) < 75 ? 1 : 2 + random.nextInt(2);
+                totalCentavos += precos[produto] * quantidadeItem;
+                itens.add(new Object[] {
+                    ++proximoItem, pedidoId, baseProduto + produto + 1, quantidadeItem,
+                    BigDecimal.valueOf(precos[produto], 2)
+                });
+            }
+
+            pedidos.add(new Object[] {
+                pedidoId, baseCliente + 1 + random.nextInt(numClientes), baseRestaurante + restaurante + 1,
+                BigDecimal.valueOf(totalCentavos, 2), status(minutosAtras, random).name(),
+                agora.minusMinutes(minutosAtras), null,
+                "Rua " + (1 + random.nextInt(500)), String.valueOf(1 + random.nextInt(2_000)),
+                BAIRROS[random.nextInt(BAIRROS.length)], "São Paulo", "SP", cep(random)
+            });
+        }
+
+        for (int i = 0; i < pedidos.size(); i += tamanhoLote) {
+            jdbcTemplate.batchUpdate(INSERT_PEDIDO, pedidos.subList(i, Math.min(i + tamanhoLote, pedidos.size())));
+        }
+        for (int i = 0; i < itens.size(); i += tamanhoLote) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM, itens.subList(i, Math.min(i + tamanhoLote, itens.size())));
+        }
+        return itens.size();
+    }
+
+    /**
+     * Pedidos antigos já foram finalizados; só os das últimas horas ainda estão em andamento.
+     */
+    private static StatusPedido status(long minutosAtras, SplittableRandom random) {
+        int sorteio = random.nextInt(100);
+        if (minutosAtras > 180) {
+            return sorteio < 93 ? StatusPedido.ENTREGUE : StatusPedido.CANCELADO;
+        }
+        if (sorteio < 20) {
+            return StatusPedido.CRIADO;
+        } else if (sorteio < 40) {
+            return StatusPedido.CONFIRMADO;
+        } else if (sorteio < 60) {
+            return StatusPedido.EM_PREPARACAO;
+        } else if (sorteio < 75) {
+            return StatusPedido.ENVIADO;
+        } else if (sorteio < 95) {
+            return StatusPedido.ENTREGUE;
+        }
+        return StatusPedido.CANCELADO;
+    }
+
+    private static String cep(SplittableRandom random) {
+        return String.format("%05d-%03d", 1_000 + random.nextInt(99_000), random.nextInt(1_000));
+    }
+
+    private static double latitude(SplittableRandom random) {
+        return LATITUDE_CENTRO + random.nextDouble(-EXTENSAO_GRAUS, EXTENSAO_GRAUS);
+    }
+
+    private static double longitude(SplittableRandom random) {
+        return LONGITUDE_CENTRO + random.nextDouble(-EXTENSAO_GRAUS, EXTENSAO_GRAUS);
+    }
+
+    private List<Object[]> descarregarSeCheio(String sql, List<Object[]> lote) {
+        if (lote.size() < tamanhoLote) {
+            return lote;
+        }
+        descarregar(sql, lote);
+        return new ArrayList<>(tamanhoLote);
+    }
+
+    private void descarregar(String sql, List<Object[]> lote) {
+        if (!lote.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, lote);
+        }
+    }
+
+    private long maiorId(String tabela) {
+        Long maior = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tabela, Long.class);
+        return maior != null ? maior : 0L;
+    }
+
+    private void reiniciarIdentidade(String tabela) {
+        jdbcTemplate.execute("ALTER TABLE " + tabela + " ALTER COLUMN id RESTART WITH " + (maiorId(tabela) + 1));
+    }
+
+    private static void aguardar(List<? extends Future<?>> tarefas) {
+        try {
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Geração de dados interrompida", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Erro ao gerar dados sintéticos: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    public record Resumo(long clientes, long restaurantes, long produtos, long pedidos, long itens, long duracaoMs) {}
+
+    /**
+     * Amostragem Zipf por busca binária na distribuição acumulada. A ordem de
+     * popularidade é embaralhada para não coincidir com a ordem dos ids.
+     */
+    static final class AmostradorZipf {
+
+        private final double[] acumulada;
+        private final int[] ranking;
+
+        AmostradorZipf(int n, double expoente, SplittableRandom origem) {
+            this.acumulada = new double[n];
+            double soma = 0;
+            for (int k = 0; k < n; k++) {
+                soma += 1.0 / Math.pow(k + 1, expoente);
+                acumulada[k] = soma;
+            }
+            for (int k = 0; k < n; k++) {
+                acumulada[k] /= soma;
+            }
+            this.ranking = new int[n];
+            for (int k = 0; k < n; k++) {
+                ranking[k] = k;
+            }
+            for (int k = n - 1; k > 0; k--) {
+                int troca = origem.nextInt(k + 1);
+                int temp = ranking[k];
+                ranking[k] = ranking[troca];
+                ranking[troca] = temp;
+            }
+        }
+
+        int amostrar(SplittableRandom random) {
+            int posicao = Arrays.binarySearch(acumulada, random.nextDouble());
+            if (posicao < 0) {
+                posicao = -posicao - 1;
+            }
+            return ranking[Math.min(posicao, ranking.length - 1)];
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.deliverytech.delivery.controller;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.deliverytech.delivery.dto.response.CarrinhoResponse;
+import com.deliverytech.delivery.dto.response.ItemCarrinhoResponse;
+import com.deliverytech.delivery.dto.response.ItemPedidoResponse;
+import com.deliverytech.delivery.dto.response.PedidoResponse;
+import com.deliverytech.delivery.model.Endereco;
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.service.CarrinhoService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/carrinhos")
+@RequiredArgsConstructor
+public class CarrinhoController {
+    private static final Logger logger = LoggerFactory.getLogger(CarrinhoController.class);
+
+    private final CarrinhoService carrinhoService;
+
+    @PostMapping
+    public ResponseEntity<CarrinhoResponse> criar(@RequestParam Long clienteId, @RequestParam Long restauranteId) {
+        try {
+            CarrinhoService.Resumo resumo = carrinhoService.criar(clienteId, restauranteId);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(new CarrinhoResponse(resumo.carrinhoId(), clienteId, restauranteId,
+                            resumo.quantidadeItens(), resumo.total(), List.of()));
+        } catch (RuntimeException e) {
+            logger.warn("Erro ao criar carrinho: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CarrinhoResponse> cotar(@PathVariable String id) {
+        return carrinhoService.cotar(id)
+                .map(c -> ResponseEntity.ok(new CarrinhoResponse(c.carrinhoId(), c.clienteId(), c.restauranteId(),
+                        c.quantidadeItens(), c.total(),
+                        c.itens().stream()
+                                .map(i -> new ItemCarrinhoResponse(i.produtoId(), i.nome(), i.quantidade(),
+                                        i.precoUnitario(), i.subtotal()))
+                                .collect(Collectors.toList()))))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/itens/{produtoId}")
+    public ResponseEntity<CarrinhoResponse> adicionarItem(@PathVariable String id, @PathVariable Long produtoId,
+            @RequestParam(defaultValue = "1") int quantidade) {
+        try {
+            return ResponseEntity.ok(resumo(carrinhoService.adicionarItem(id, produtoId, quantidade)));
+        } catch (RuntimeException e) {
+            logger.warn("Erro ao adicionar item ao carrinho {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/{id}/itens/{produtoId}")
+    public ResponseEntity<CarrinhoResponse> definirQuantidade(@PathVariable String id, @PathVariable Long produtoId,
+            @RequestParam int quantidade) {
+        try {
+            return ResponseEntity.ok(resumo(carrinhoService.definirQuantidade(id, produtoId, quantidade)));
+        } catch (RuntimeException e) {
+            logger.warn("Erro ao alterar item do carrinho {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping("/{id}/itens/{produtoId}")
+    public ResponseEntity<CarrinhoResponse> removerItem(@PathVariable String id, @PathVariable Long produtoId) {
+        try {
+            // Vazio quando o carrinho não existe ou o produto não está nele
+            return carrinhoService.removerItem(id, produtoId)
+                    .map(r -> ResponseEntity.ok(resumo(r)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (RuntimeException e) {
+            logger.warn("Erro ao remover item do carrinho {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/{id}/finalizar")
+    public ResponseEntity<PedidoResponse> finalizar(@PathVariable String id, @RequestBody Endereco enderecoEntrega) {
+        try {
+            Pedido pedido = carrinhoService.finalizar(id, enderecoEntrega);
+            logger.info("Carrinho {} finalizado no pedido {}", id, pedido.getId());
+            List<ItemPedidoResponse> itens = pedido.getItens().stream()
+                    .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario().toBigDecimal()))
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(new PedidoResponse(pedido.getId(), pedido.getCliente().getId(),
+                    pedido.getRestaurante().getId(), pedido.getEnderecoEntrega(), Money.paraBigDecimal(pedido.getTotal()),
+                    pedido.getStatus(), pedido.getDataPedido(), itens));
+        } catch (RuntimeException e) {
+            logger.warn("Erro ao finalizar carrinho {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> descartar(@PathVariable String id) {
+        if (!carrinhoService.descartar(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // Respostas das alterações trazem só os totais, sem percorrer os itens
+    private CarrinhoResponse resumo(CarrinhoService.Resumo resumo) {
+        return new CarrinhoResponse(resumo.carrinhoId(), null, null, resumo.quantidadeItens(), resumo.total(), null);
+    }
+}
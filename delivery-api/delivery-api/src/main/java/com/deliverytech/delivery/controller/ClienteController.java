@@ -1,6 +1,7 @@
 package com.deliverytech.delivery.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.deliverytech.delivery.dto.request.ClienteRequest;
 import com.deliverytech.delivery.model.Cliente;
+import com.deliverytech.delivery.service.ClienteLoteService;
 import com.deliverytech.delivery.service.ClienteService;
 
 import jakarta.validation.Valid;
@@ -29,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 public class ClienteController {
 
     private final ClienteService clienteService;
+    private final ClienteLoteService clienteLoteService;
 
     @PostMapping
     public ResponseEntity<Cliente> cadastrar(@Valid @RequestBody ClienteRequest dto) {
@@ -36,6 +39,17 @@ public class ClienteController {
         return ResponseEntity.status(HttpStatus.CREATED).body(cliente);
     }
 
+    // Cadastro em lote para parceiros: a validação é por registro e o resultado informa a situação de cada um
+    @PostMapping("/lote")
+    public ResponseEntity<?> cadastrarEmLote(@RequestBody List<ClienteRequest> clientes) {
+        try {
+            return ResponseEntity.ok(clienteLoteService.cadastrar(clientes));
+        } catch (RuntimeException e) {
+            // Lote vazio ou acima do máximo: o parceiro precisa saber qual dos dois para reenviar
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Cliente> buscarPorId(@PathVariable Long id) {
         return clienteService.buscarClientePorId(id)
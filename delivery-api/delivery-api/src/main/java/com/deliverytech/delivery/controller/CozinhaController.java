@@ -0,0 +1,42 @@
+package com.deliverytech.delivery.controller;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.deliverytech.delivery.dto.response.ItemFilaCozinhaResponse;
+import com.deliverytech.delivery.service.FilaCozinhaService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/cozinha")
+@RequiredArgsConstructor
+public class CozinhaController {
+    private static final Logger logger = LoggerFactory.getLogger(CozinhaController.class);
+
+    private static final int LIMITE_MAXIMO = 100;
+
+    private final FilaCozinhaService filaCozinhaService;
+
+    @GetMapping("/restaurantes/{restauranteId}/proximos")
+    public List<ItemFilaCozinhaResponse> proximos(@PathVariable Long restauranteId,
+            @RequestParam(defaultValue = "10") int limite) {
+        return filaCozinhaService.proximos(restauranteId, Math.min(limite, LIMITE_MAXIMO)).stream()
+                .map(i -> new ItemFilaCozinhaResponse(i.pedidoId(), i.status(), i.dataPedido(), i.prioridade()))
+                .collect(Collectors.toList());
+    }
+
+    @PatchMapping("/pedidos/{pedidoId}/prioridade")
+    public ResponseEntity<Void> priorizar(@PathVariable Long pedidoId, @RequestParam int valor) {
+        if (!filaCozinhaService.priorizar(pedidoId, valor)) {
+            return ResponseEntity.notFound().build();
+        }
+        logger.info("Prioridade do pedido {} na cozinha alterada para {}", pedidoId, valor);
+        return ResponseEntity.noContent().build();
+    }
+}
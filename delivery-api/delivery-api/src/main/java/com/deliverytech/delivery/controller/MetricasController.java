@@ -0,0 +1,68 @@
+package com.deliverytech.delivery.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.deliverytech.delivery.config.AmostragemRequisicoes;
+import com.deliverytech.delivery.config.EstatisticasSql;
+import com.deliverytech.delivery.config.SingleFlight;
+import com.deliverytech.delivery.config.SingleFlightRegistro;
+import com.deliverytech.delivery.service.FiltroEmailService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/metricas")
+@RequiredArgsConstructor
+public class MetricasController {
+
+    private final SingleFlightRegistro singleFlightRegistro;
+    private final AmostragemRequisicoes amostragemRequisicoes;
+    private final EstatisticasSql estatisticasSql;
+    private final FiltroEmailService filtroEmailService;
+
+    @GetMapping("/single-flight")
+    public Map<String, SingleFlight.Estatisticas> singleFlight() {
+        return singleFlightRegistro.estatisticas();
+    }
+
+    // As N requisições mais lentas de cada endpoint, com os comandos SQL de cada uma
+    @GetMapping("/requisicoes-lentas")
+    public Map<String, List<AmostragemRequisicoes.Amostra>> requisicoesLentas() {
+        return amostragemRequisicoes.amostras();
+    }
+
+    @DeleteMapping("/requisicoes-lentas")
+    public ResponseEntity<Void> limparRequisicoesLentas() {
+        amostragemRequisicoes.limpar();
+        return ResponseEntity.noContent().build();
+    }
+
+    // Comandos SQL agrupados por fingerprint, do que mais consumiu tempo de banco para o que menos
+    @GetMapping("/sql")
+    public ResponseEntity<List<EstatisticasSql.Estatistica>> sql(@RequestParam(defaultValue = "20") int limite) {
+        if (limite <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(estatisticasSql.maisCustosos(limite));
+    }
+
+    @DeleteMapping("/sql")
+    public ResponseEntity<Void> limparSql() {
+        estatisticasSql.limpar();
+        return ResponseEntity.noContent().build();
+    }
+
+    // Consultas de email de cliente respondidas pelo filtro de Bloom sem ir ao banco
+    @GetMapping("/filtro-email")
+    public FiltroEmailService.Estatisticas filtroEmail() {
+        return filtroEmailService.estatisticas();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -23,11 +25,13 @@ import com.deliverytech.delivery.dto.response.ItemPedidoResponse;
 import com.deliverytech.delivery.dto.response.PedidoResponse;
 import com.deliverytech.delivery.model.Cliente;
 import com.deliverytech.delivery.model.ItemPedido;
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Pedido;
 import com.deliverytech.delivery.model.Produto;
 import com.deliverytech.delivery.model.Restaurante;
 import com.deliverytech.delivery.model.StatusPedido;
 import com.deliverytech.delivery.service.ClienteService;
+import com.deliverytech.delivery.service.IdempotenciaService;
 import com.deliverytech.delivery.service.PedidoService;
 import com.deliverytech.delivery.service.ProdutoService;
 import com.deliverytech.delivery.service.RestauranteService;
@@ -40,13 +44,41 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PedidoController {
     private static final Logger logger = LoggerFactory.getLogger(PedidoController.class);
+
+    private static final int TAMANHO_MAXIMO_IDEMPOTENCY_KEY = 255;
+    private static final int TAMANHO_MAXIMO_PAGINA_HISTORICO = 100;
     
     private final PedidoService pedidoService;
     private final ClienteService clienteService;
     private final RestauranteService restauranteService;
+    private final IdempotenciaService idempotenciaService;
 
     @PostMapping
-    public ResponseEntity<PedidoResponse> criarPedido(@Valid @RequestBody PedidoRequest request) {
+    public ResponseEntity<PedidoResponse> criarPedido(@Valid @RequestBody PedidoRequest request,
+            @RequestHeader(value = "X-API-Key", required = false) String apiKey,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return ResponseEntity.ok(criar(request));
+        }
+        if (idempotencyKey.length() > TAMANHO_MAXIMO_IDEMPOTENCY_KEY) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // A chave vale por cliente (ou API key)
+        IdempotenciaService.Resultado<PedidoResponse> resultado = idempotenciaService.executar(
+                escopoIdempotencia(apiKey, request) + '|' + idempotencyKey, request, () -> criar(request));
+        HttpHeaders headers = new HttpHeaders();
+        if (resultado.conflito()) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+        if (resultado.repetido()) {
+            logger.info("Pedido {} devolvido para Idempotency-Key repetida", resultado.valor().getId());
+            headers.add("Idempotent-Replayed", "true");
+        }
+        return ResponseEntity.ok().headers(headers).body(resultado.valor());
+    }
+
+    private PedidoResponse criar(PedidoRequest request) {
         Cliente cliente = clienteService.buscarClientePorId(request.getClienteId())
                 .orElseThrow(() -> new RuntimeException("Cliente não encontrado"));
         Restaurante restaurante = restauranteService.buscarRestaurantePorId(request.getRestauranteId())
@@ -56,20 +88,20 @@ public class PedidoController {
         
         List<ItemPedidoResponse> itensResp = salvo.getItens() != null ? 
                 salvo.getItens().stream()
-                    .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario()))
+                    .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario().toBigDecimal()))
                     .collect(Collectors.toList()) :
                 new ArrayList<>();
 
-        return ResponseEntity.ok(new PedidoResponse(
+        return new PedidoResponse(
                 salvo.getId(),
                 cliente.getId(),
                 restaurante.getId(),
                 salvo.getEnderecoEntrega(),
-                salvo.getTotal(),
+                Money.paraBigDecimal(salvo.getTotal()),
                 salvo.getStatus(),
                 salvo.getDataPedido(),
                 itensResp
-        ));
+        );
     }
 
     @PostMapping("/calcular")
@@ -88,32 +120,30 @@ public class PedidoController {
     @GetMapping("/cliente/{clienteId}")
     public List<PedidoResponse> listarPedidosPorCliente(@PathVariable Long clienteId) {
         return pedidoService.buscarPedidosPorCliente(clienteId).stream()
-                .map(p -> {
-                    List<ItemPedidoResponse> itensResp = p.getItens().stream()
-                            .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario()))
-                            .collect(Collectors.toList());
-                    
-                    return new PedidoResponse(
-                            p.getId(),
-                            p.getCliente().getId(),
-                            p.getRestaurante().getId(),
-                            p.getEnderecoEntrega(),
-                            p.getTotal(),
-                            p.getStatus(),
-                            p.getDataPedido(),
-                            itensResp
-                    );
-                })
+                .map(this::paraResponse)
                 .collect(Collectors.toList());
     }
 
+    // Inclui os pedidos já arquivados; o arquivo só é consultado quando a página chega até eles
+    @GetMapping("/cliente/{clienteId}/historico")
+    public ResponseEntity<List<PedidoResponse>> historicoPorCliente(@PathVariable Long clienteId,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        if (pagina < 0 || tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA_HISTORICO) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(pedidoService.buscarHistoricoPorCliente(clienteId, pagina, tamanho).stream()
+                .map(this::paraResponse)
+                .collect(Collectors.toList()));
+    }
+
     @GetMapping("/{id}")
     public List<ItemPedidoResponse> buscarPedidoPorId(@PathVariable Long id) {
         Pedido pedido = pedidoService.buscarPedidoPorId(id)
                 .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
         
         return pedido.getItens().stream()
-                .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario()))
+                .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario().toBigDecimal()))
                 .collect(Collectors.toList());
     }
 
@@ -132,4 +162,27 @@ public class PedidoController {
         return ResponseEntity.noContent().build();
     }
 
+    private PedidoResponse paraResponse(Pedido pedido) {
+        List<ItemPedidoResponse> itensResp = pedido.getItens().stream()
+                .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario().toBigDecimal()))
+                .collect(Collectors.toList());
+
+        return new PedidoResponse(
+                pedido.getId(),
+                pedido.getCliente().getId(),
+                pedido.getRestaurante().getId(),
+                pedido.getEnderecoEntrega(),
+                Money.paraBigDecimal(pedido.getTotal()),
+                pedido.getStatus(),
+                pedido.getDataPedido(),
+                itensResp
+        );
+    }
+
+    private String escopoIdempotencia(String apiKey, PedidoRequest request) {
+        if (apiKey != null && !apiKey.isBlank()) {
+            return "api-key:" + apiKey;
+        }
+        return "cliente:" + request.getClienteId();
+    }
 }
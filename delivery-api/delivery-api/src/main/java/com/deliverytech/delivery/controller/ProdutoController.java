@@ -1,10 +1,14 @@
 package com.deliverytech.delivery.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -12,14 +16,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.deliverytech.delivery.dto.request.ProdutoRequest;
+import com.deliverytech.delivery.dto.response.ImportacaoProdutosResponse;
 import com.deliverytech.delivery.dto.response.ProdutoResponse;
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Produto;
 import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.service.ImportacaoProdutoService;
 import com.deliverytech.delivery.service.ProdutoService;
 import com.deliverytech.delivery.service.RestauranteService;
 
@@ -34,6 +42,7 @@ public class ProdutoController {
 
     private final ProdutoService produtoService;
     private final RestauranteService restauranteService;
+    private final ImportacaoProdutoService importacaoProdutoService;
 
     
     @PostMapping
@@ -53,14 +62,36 @@ public class ProdutoController {
         Produto salvo = produtoService.cadastrarProduto(novoRequest);
         logger.debug("Produto salvo com ID {}", salvo.getId());
         return ResponseEntity.ok(new ProdutoResponse(
-                salvo.getId(), salvo.getNome(), salvo.getCategoria(), salvo.getDescricao(), salvo.getPreco(), salvo.getDisponivel()));
+                salvo.getId(), salvo.getNome(), salvo.getCategoria(), salvo.getDescricao(), Money.paraBigDecimal(salvo.getPreco()), salvo.getDisponivel()));
+    }
+
+    // Corpo lido em streaming: text/csv ou application/x-ndjson
+    @PostMapping("/restaurante/{restauranteId}/importar")
+    public ResponseEntity<ImportacaoProdutosResponse> importar(@PathVariable Long restauranteId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream corpo) throws IOException {
+        ImportacaoProdutoService.Formato formato = contentType != null && contentType.contains("json")
+                ? ImportacaoProdutoService.Formato.NDJSON
+                : ImportacaoProdutoService.Formato.CSV;
+        logger.info("Importação de cardápio ({}) iniciada para o restaurante {}", formato, restauranteId);
+        try {
+            ImportacaoProdutoService.Resultado resultado = importacaoProdutoService.importar(restauranteId, corpo, formato);
+            return ResponseEntity.ok(new ImportacaoProdutosResponse(resultado.importados(), resultado.rejeitados(),
+                    resultado.erros().stream()
+                            .map(e -> "linha " + e.linha() + ": " + e.mensagem())
+                            .collect(Collectors.toList()),
+                    resultado.duracaoMs()));
+        } catch (RuntimeException e) {
+            logger.warn("Importação de cardápio recusada para o restaurante {}: {}", restauranteId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/restaurante/{restauranteId}")
     public List<ProdutoResponse> listarPorRestaurante(@PathVariable Long restauranteId) {
         logger.debug("Listando produtos do restaurante com ID {}", restauranteId);
         return produtoService.buscarProdutosPorRestaurante(restauranteId).stream()
-                .map(p -> new ProdutoResponse(p.getId(), p.getNome(), p.getCategoria(), p.getDescricao(), p.getPreco(), p.getDisponivel()))
+                .map(p -> new ProdutoResponse(p.id(), p.nome(), p.categoria(), p.descricao(), p.preco(), p.disponivel()))
                 .collect(Collectors.toList());
     }
 
@@ -68,7 +99,7 @@ public class ProdutoController {
     public List<ProdutoResponse> listarPorCategoria(@PathVariable String categoria) {
         logger.debug("Listando produtos da categoria {}", categoria);
         return produtoService.buscarProdutosPorCategoria(categoria).stream()
-                .map(p -> new ProdutoResponse(p.getId(), p.getNome(), p.getCategoria(), p.getDescricao(), p.getPreco(), p.getDisponivel()))
+                .map(p -> new ProdutoResponse(p.getId(), p.getNome(), p.getCategoria(), p.getDescricao(), Money.paraBigDecimal(p.getPreco()), p.getDisponivel()))
                 .collect(Collectors.toList());
     }
 
@@ -77,7 +108,28 @@ public class ProdutoController {
         logger.info("Atualização de produto iniciada para ID {}", id);
         Produto salvo = produtoService.atualizarProduto(id, request);
         logger.debug("Produto atualizado com ID {}", salvo.getId());
-        return ResponseEntity.ok(new ProdutoResponse(salvo.getId(), salvo.getNome(), salvo.getCategoria(), salvo.getDescricao(), salvo.getPreco(), salvo.getDisponivel()));
+        return ResponseEntity.ok(new ProdutoResponse(salvo.getId(), salvo.getNome(), salvo.getCategoria(), salvo.getDescricao(), Money.paraBigDecimal(salvo.getPreco()), salvo.getDisponivel()));
+    }
+
+    @PatchMapping("/restaurante/{restauranteId}/precos")
+    public ResponseEntity<Integer> reajustarPrecos(@PathVariable Long restauranteId,
+            @RequestParam BigDecimal percentual, @RequestParam(required = false) String categoria) {
+        try {
+            int alterados = produtoService.reajustarPrecos(restauranteId, categoria, percentual);
+            logger.info("Preços de {} produtos do restaurante {} reajustados em {}%", alterados, restauranteId, percentual);
+            return ResponseEntity.ok(alterados);
+        } catch (RuntimeException e) {
+            logger.warn("Reajuste recusado para o restaurante {}: {}", restauranteId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PatchMapping("/restaurante/{restauranteId}/disponibilidade")
+    public ResponseEntity<Integer> alterarDisponibilidadeEmLote(@PathVariable Long restauranteId,
+            @RequestParam boolean disponivel, @RequestParam(required = false) String categoria) {
+        int alterados = produtoService.alterarDisponibilidadeEmLote(restauranteId, categoria, disponivel);
+        logger.info("Disponibilidade de {} produtos do restaurante {} alterada para {}", alterados, restauranteId, disponivel);
+        return ResponseEntity.ok(alterados);
     }
 
     @PatchMapping("/{id}/disponibilidade")
@@ -0,0 +1,66 @@
+package com.deliverytech.delivery.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.deliverytech.delivery.service.RelatorioService;
+import com.deliverytech.delivery.service.RelatorioService.Relatorio;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/relatorios")
+@RequiredArgsConstructor
+public class RelatorioController {
+    private static final Logger logger = LoggerFactory.getLogger(RelatorioController.class);
+
+    private final RelatorioService relatorioService;
+
+    @GetMapping("/vendas-por-restaurante")
+    public ResponseEntity<List<RelatorioService.VendasRestaurante>> vendasPorRestaurante() {
+        logger.debug("Gerando relatório de vendas por restaurante");
+        return responder(relatorioService.vendasPorRestaurante());
+    }
+
+    @GetMapping("/faturamento-por-categoria")
+    public ResponseEntity<List<RelatorioService.FaturamentoCategoria>> faturamentoPorCategoria() {
+        logger.debug("Gerando relatório de faturamento por categoria");
+        return responder(relatorioService.faturamentoPorCategoria());
+    }
+
+    @GetMapping("/ranking-clientes")
+    public ResponseEntity<List<RelatorioService.ClientePedidos>> rankingClientes(
+            @RequestParam(defaultValue = "10") int limite) {
+        return responder(relatorioService.rankingClientes(limite));
+    }
+
+    @GetMapping("/faturamento")
+    public ResponseEntity<BigDecimal> faturamentoPorPeriodo(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim) {
+        return responder(relatorioService.faturamentoPorPeriodo(inicio, fim));
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<List<RelatorioService.ResumoStatus>> resumoPorStatus() {
+        return responder(relatorioService.resumoPorStatus());
+    }
+
+    // O corpo continua sendo só o relatório; a origem e a idade dos dados vão nos cabeçalhos
+    private static <T> ResponseEntity<T> responder(Relatorio<T> relatorio) {
+        return ResponseEntity.ok()
+                .header("X-Dados-Gerados-Em", relatorio.geradoEm().toString())
+                .header("X-Dados-Origem", relatorio.snapshot() ? "snapshot" : "banco")
+                .body(relatorio.dados());
+    }
+}
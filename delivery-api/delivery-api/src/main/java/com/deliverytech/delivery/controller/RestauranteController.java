@@ -1,6 +1,7 @@
 package com.deliverytech.delivery.controller;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -10,8 +11,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.deliverytech.delivery.dto.request.RestauranteRequest;
+import com.deliverytech.delivery.dto.response.RankingRestauranteResponse;
+import com.deliverytech.delivery.dto.response.RestauranteProximoResponse;
 import com.deliverytech.delivery.dto.response.RestauranteResponse;
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.service.BuscaGeograficaService;
+import com.deliverytech.delivery.service.EtaService;
+import com.deliverytech.delivery.service.RankingService;
 import com.deliverytech.delivery.service.RestauranteService;
 
 import jakarta.validation.Valid;
@@ -23,23 +30,26 @@ import lombok.RequiredArgsConstructor;
 public class RestauranteController {
     private static final Logger logger = LoggerFactory.getLogger(RestauranteController.class);
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
     private final RestauranteService restauranteService;
+    private final EtaService etaService;
+    private final RankingService rankingService;
+    private final BuscaGeograficaService buscaGeograficaService;
 
     @PostMapping
     public ResponseEntity<RestauranteResponse> cadastrar(@Valid @RequestBody RestauranteRequest request) {
         logger.info("Cadastro de restaurante iniciado: {}", request.getNome());
         Restaurante salvo = restauranteService.cadastrarRestaurante(request);
         logger.debug("Restaurante salvo com ID {}", salvo.getId());
-        return ResponseEntity.ok(new RestauranteResponse(
-                salvo.getId(), salvo.getNome(), salvo.getCategoria(), salvo.getTelefone(),
-                salvo.getTaxaEntrega(), salvo.getTempoEntregaMinutos(), salvo.getAtivo()));
+        return ResponseEntity.ok(toResponse(salvo));
     }
 
     @GetMapping
     public List<RestauranteResponse> listarTodos() {
         logger.debug("Listando todos os restaurantes");
         return restauranteService.listarRestaurantes().stream()
-                .map(r -> new RestauranteResponse(r.getId(), r.getNome(), r.getCategoria(), r.getTelefone(), r.getTaxaEntrega(), r.getTempoEntregaMinutos(), r.getAtivo()))
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -47,7 +57,7 @@ public class RestauranteController {
     public ResponseEntity<RestauranteResponse> buscarPorId(@PathVariable Long id) {
         logger.debug("Buscando restaurante por ID {}", id);
         return restauranteService.buscarRestaurantePorId(id)
-                .map(r -> new RestauranteResponse(r.getId(), r.getNome(), r.getCategoria(), r.getTelefone(), r.getTaxaEntrega(), r.getTempoEntregaMinutos(), r.getAtivo()))
+                .map(this::toResponse)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -56,7 +66,7 @@ public class RestauranteController {
     public List<RestauranteResponse> buscarPorCategoria(@PathVariable String categoria) {
         logger.debug("Buscando restaurantes por categoria {}", categoria);
         return restauranteService.buscarRestaurantesPorCategoria(categoria).stream()
-                .map(r -> new RestauranteResponse(r.getId(), r.getNome(), r.getCategoria(), r.getTelefone(), r.getTaxaEntrega(), r.getTempoEntregaMinutos(), r.getAtivo()))
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -72,10 +82,49 @@ public class RestauranteController {
         }
     }
 
+    @GetMapping("/{id}/eta")
+    public ResponseEntity<EtaService.Estimativa> estimarEntrega(@PathVariable Long id) {
+        return etaService.estimar(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/ranking/avaliacao")
+    public List<RankingRestauranteResponse> rankingPorAvaliacao(@RequestParam(required = false) String categoria,
+            @RequestParam(defaultValue = "0") int pagina, @RequestParam(defaultValue = "10") int tamanho) {
+        int tamanhoPagina = Math.min(tamanho, TAMANHO_MAXIMO_PAGINA);
+        return toRanking(rankingService.melhorAvaliados(categoria, pagina, tamanhoPagina), pagina, tamanhoPagina);
+    }
+
+    @GetMapping("/ranking/mais-pedidos-hoje")
+    public List<RankingRestauranteResponse> rankingMaisPedidosHoje(@RequestParam(required = false) String categoria,
+            @RequestParam(defaultValue = "0") int pagina, @RequestParam(defaultValue = "10") int tamanho) {
+        int tamanhoPagina = Math.min(tamanho, TAMANHO_MAXIMO_PAGINA);
+        return toRanking(rankingService.maisPedidosHoje(categoria, pagina, tamanhoPagina), pagina, tamanhoPagina);
+    }
+
+    @GetMapping("/proximos")
+    public List<RestauranteProximoResponse> buscarProximos(@RequestParam double latitude, @RequestParam double longitude,
+            @RequestParam(defaultValue = "5") double raioKm, @RequestParam(defaultValue = "20") int limite) {
+        logger.debug("Buscando restaurantes a até {} km de ({}, {})", raioKm, latitude, longitude);
+        return buscaGeograficaService.buscarProximos(latitude, longitude, raioKm, Math.min(limite, TAMANHO_MAXIMO_PAGINA)).stream()
+                .map(r -> new RestauranteProximoResponse(r.restauranteId(), r.nome(), r.categoria(),
+                        Math.round(r.distanciaKm() * 100) / 100.0,
+                        etaService.estimar(r.restauranteId()).map(EtaService.Estimativa::minutos).orElse(null)))
+                .collect(Collectors.toList());
+    }
+
+    @PatchMapping("/{id}/avaliacao")
+    public ResponseEntity<RestauranteResponse> avaliar(@PathVariable Long id, @RequestParam Integer nota) {
+        logger.info("Avaliação do restaurante {} alterada para {}", id, nota);
+        Restaurante salvo = restauranteService.avaliarRestaurante(id, nota);
+        return ResponseEntity.ok(toResponse(salvo));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<RestauranteResponse> atualizar(@PathVariable Long id, @Valid @RequestBody RestauranteRequest request) {
         Restaurante salvo = restauranteService.atualizarRestaurante(id, request);
-        return ResponseEntity.ok(new RestauranteResponse(salvo.getId(), salvo.getNome(), salvo.getCategoria(), salvo.getTelefone(), salvo.getTaxaEntrega(), salvo.getTempoEntregaMinutos(), salvo.getAtivo()));
+        return ResponseEntity.ok(toResponse(salvo));
     }
 
     @DeleteMapping("/{id}")
@@ -89,4 +138,19 @@ public class RestauranteController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    private List<RankingRestauranteResponse> toRanking(List<RankingService.ItemRanking> itens, int pagina, int tamanho) {
+        List<RankingRestauranteResponse> resposta = new ArrayList<>(itens.size());
+        int posicao = pagina * tamanho;
+        for (RankingService.ItemRanking item : itens) {
+            resposta.add(new RankingRestauranteResponse(++posicao, item.restauranteId(), item.nome(), item.categoria(), item.valor()));
+        }
+        return resposta;
+    }
+
+    private RestauranteResponse toResponse(Restaurante r) {
+        return new RestauranteResponse(r.getId(), r.getNome(), r.getCategoria(), r.getTelefone(), Money.paraBigDecimal(r.getTaxaEntrega()),
+                r.getTempoEntregaMinutos(), etaService.estimarMinutos(r.getId(), r.getTempoEntregaMinutos()), r.getAtivo(),
+                r.getEndereco());
+    }
 }
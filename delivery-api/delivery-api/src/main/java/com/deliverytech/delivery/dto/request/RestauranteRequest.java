@@ -5,6 +5,8 @@ import lombok.*;
 
 import java.math.BigDecimal;
 
+import com.deliverytech.delivery.model.Endereco;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,4 +27,6 @@ public class RestauranteRequest {
     @Min(10)
     @Max(120)
     private Integer tempoEntregaMinutos;
+
+    private Endereco endereco;
 }
@@ -0,0 +1,20 @@
+package com.deliverytech.delivery.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarrinhoResponse {
+    private String id;
+    private Long clienteId;
+    private Long restauranteId;
+    private Integer quantidadeItens;
+    private BigDecimal total;
+    private List<ItemCarrinhoResponse> itens;
+}
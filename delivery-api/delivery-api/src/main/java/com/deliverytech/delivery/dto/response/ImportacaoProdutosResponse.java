@@ -0,0 +1,17 @@
+package com.deliverytech.delivery.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoProdutosResponse {
+    private Long importados;
+    private Long rejeitados;
+    private List<String> erros;
+    private Long duracaoMs;
+}
@@ -0,0 +1,18 @@
+package com.deliverytech.delivery.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemCarrinhoResponse {
+    private Long produtoId;
+    private String nome;
+    private Integer quantidade;
+    private BigDecimal precoUnitario;
+    private BigDecimal subtotal;
+}
@@ -0,0 +1,19 @@
+package com.deliverytech.delivery.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.deliverytech.delivery.model.StatusPedido;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemFilaCozinhaResponse {
+    private Long pedidoId;
+    private StatusPedido status;
+    private LocalDateTime dataPedido;
+    private Integer prioridade;
+}
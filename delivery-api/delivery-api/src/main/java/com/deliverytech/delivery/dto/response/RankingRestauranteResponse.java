@@ -0,0 +1,16 @@
+package com.deliverytech.delivery.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingRestauranteResponse {
+    private Integer posicao;
+    private Long restauranteId;
+    private String nome;
+    private String categoria;
+    private Long valor;
+}
@@ -2,6 +2,8 @@ package com.deliverytech.delivery.dto.response;
 
 import java.math.BigDecimal;
 
+import com.deliverytech.delivery.model.Endereco;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,5 +18,7 @@ public class RestauranteResponse {
     private String telefone;
     private BigDecimal taxaEntrega;
     private Integer tempoEntregaMinutos;
+    private Integer tempoEstimadoMinutos;
     private Boolean ativo;
+    private Endereco endereco;
 }
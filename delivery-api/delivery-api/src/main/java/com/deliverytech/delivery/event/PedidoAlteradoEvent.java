@@ -0,0 +1,37 @@
+package com.deliverytech.delivery.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.StatusPedido;
+
+/**
+ * Publicado pelo PedidoService a cada criação ou transição de status.
+ * Os consumidores em memória o recebem somente após o commit da transação.
+ *
+ * @param statusAnterior nulo quando o pedido acabou de ser criado
+ */
+public record PedidoAlteradoEvent(
+        Long pedidoId,
+        Long restauranteId,
+        Long clienteId,
+        StatusPedido statusAnterior,
+        StatusPedido statusAtual,
+        LocalDateTime dataPedido,
+        BigDecimal total,
+        LocalDateTime ocorridoEm) {
+
+    public static PedidoAlteradoEvent de(Pedido pedido, StatusPedido statusAnterior) {
+        return new PedidoAlteradoEvent(
+                pedido.getId(),
+                pedido.getRestaurante().getId(),
+                pedido.getCliente().getId(),
+                statusAnterior,
+                pedido.getStatus(),
+                pedido.getDataPedido(),
+                Money.paraBigDecimal(pedido.getTotal()),
+                LocalDateTime.now());
+    }
+}
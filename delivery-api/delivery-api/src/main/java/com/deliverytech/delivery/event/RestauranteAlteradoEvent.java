@@ -0,0 +1,31 @@
+package com.deliverytech.delivery.event;
+
+import com.deliverytech.delivery.model.Restaurante;
+
+/**
+ * Publicado pelo RestauranteService ao cadastrar, atualizar, avaliar ou remover um restaurante,
+ * para que os caches em memória não precisem consultar o banco.
+ */
+public record RestauranteAlteradoEvent(
+        Long restauranteId,
+        String nome,
+        String categoria,
+        Integer avaliacao,
+        Integer tempoEntregaMinutos,
+        Boolean ativo,
+        Double latitude,
+        Double longitude,
+        boolean removido) {
+
+    public static RestauranteAlteradoEvent de(Restaurante restaurante) {
+        return new RestauranteAlteradoEvent(restaurante.getId(), restaurante.getNome(), restaurante.getCategoria(),
+                restaurante.getAvaliacao(), restaurante.getTempoEntregaMinutos(), restaurante.getAtivo(),
+                restaurante.getEndereco() != null ? restaurante.getEndereco().getLatitude() : null,
+                restaurante.getEndereco() != null ? restaurante.getEndereco().getLongitude() : null,
+                false);
+    }
+
+    public static RestauranteAlteradoEvent removido(Long restauranteId) {
+        return new RestauranteAlteradoEvent(restauranteId, null, null, null, null, false, null, null, true);
+    }
+}
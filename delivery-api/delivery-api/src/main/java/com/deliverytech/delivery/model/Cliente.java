@@ -3,11 +3,13 @@ package com.deliverytech.delivery.model;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.deliverytech.delivery.config.ReplicacaoReferenciaListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(ReplicacaoReferenciaListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,4 +18,6 @@ public class Endereco {
     private String cidade;
     private String estado;
     private String cep;
+    private Double latitude;
+    private Double longitude;
 }
\ No newline at end of file
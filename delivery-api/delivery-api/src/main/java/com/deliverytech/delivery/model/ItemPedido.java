@@ -1,7 +1,6 @@
 package com.deliverytech.delivery.model;
 
-import java.math.BigDecimal;
-
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -33,5 +32,6 @@ public class ItemPedido {
 
     private Integer quantidade;
 
-    private BigDecimal precoUnitario;
+    @Convert(converter = MoneyConverter.class)
+    private Money precoUnitario;
 }
@@ -0,0 +1,77 @@
+package com.deliverytech.delivery.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetário em centavos (long). Soma e multiplicação por quantidade são exatas e
+ * lançam ArithmeticException em overflow; multiplicação por fator racional e conversão de
+ * BigDecimal com mais de duas casas arredondam para o centavo com HALF_UP, a mesma regra
+ * do NUMERIC(38, 2) das colunas de valor.
+ */
+public record Money(long centavos) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int ESCALA = 2;
+
+    public static Money deCentavos(long centavos) {
+        return centavos == 0 ? ZERO : new Money(centavos);
+    }
+
+    public static Money de(BigDecimal valor) {
+        if (valor == null) {
+            return null;
+        }
+        return deCentavos(valor.setScale(ESCALA, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    // Para os DTOs e colunas que continuam em BigDecimal; null passa como null, como em de()
+    public static BigDecimal paraBigDecimal(Money valor) {
+        return valor != null ? valor.toBigDecimal() : null;
+    }
+
+    public Money mais(Money outro) {
+        return deCentavos(Math.addExact(centavos, outro.centavos));
+    }
+
+    public Money vezes(long quantidade) {
+        return deCentavos(Math.multiplyExact(centavos, quantidade));
+    }
+
+    // Ex.: vezes(3, 2) para 1,5x
+    public Money vezes(long numerador, long denominador) {
+        return deCentavos(multiplicar(centavos, numerador, denominador));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(centavos, ESCALA);
+    }
+
+    /**
+     * centavos * numerador / denominador arredondado HALF_UP (empate afasta de zero),
+     * sem alocar nada; para os laços que trabalham direto com long.
+     */
+    public static long multiplicar(long centavos, long numerador, long denominador) {
+        if (denominador <= 0) {
+            throw new ArithmeticException("Denominador deve ser positivo");
+        }
+        long produto = Math.multiplyExact(centavos, numerador);
+        long quociente = produto / denominador;
+        long resto = produto % denominador;
+        if (Math.abs(resto) >= denominador - Math.abs(resto)) {
+            quociente += Long.signum(produto);
+        }
+        return quociente;
+    }
+
+    @Override
+    public int compareTo(Money outro) {
+        return Long.compare(centavos, outro.centavos);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
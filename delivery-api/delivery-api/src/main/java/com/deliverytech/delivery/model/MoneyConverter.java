@@ -0,0 +1,23 @@
+package com.deliverytech.delivery.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Mapeia Money para as colunas NUMERIC(38, 2) existentes.
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money valor) {
+        return Money.paraBigDecimal(valor);
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal valor) {
+        return Money.de(valor);
+    }
+}
@@ -0,0 +1,30 @@
+package com.deliverytech.delivery.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvento {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long pedidoId;
+
+    @Enumerated(EnumType.STRING)
+    private TipoEventoPedido tipo;
+
+    @Lob
+    private String payload;
+
+    @Builder.Default
+    private LocalDateTime criadoEm = LocalDateTime.now();
+
+    private LocalDateTime publicadoEm;
+}
@@ -2,7 +2,6 @@ package com.deliverytech.delivery.model;
 
 import jakarta.persistence.*;
 import lombok.*;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -24,7 +23,8 @@ public class Pedido {
     @JoinColumn(name = "restaurante_id")
     private Restaurante restaurante;
 
-    private BigDecimal total;
+    @Convert(converter = MoneyConverter.class)
+    private Money total;
 
     @Enumerated(EnumType.STRING)
     private StatusPedido status;
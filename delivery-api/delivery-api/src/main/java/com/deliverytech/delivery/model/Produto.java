@@ -1,10 +1,12 @@
 package com.deliverytech.delivery.model;
 
+import com.deliverytech.delivery.config.ReplicacaoReferenciaListener;
+
 import jakarta.persistence.*;
 import lombok.*;
-import java.math.BigDecimal;
 
 @Entity
+@EntityListeners(ReplicacaoReferenciaListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +22,8 @@ public class Produto {
 
     private String descricao;
 
-    private BigDecimal preco;
+    @Convert(converter = MoneyConverter.class)
+    private Money preco;
 
     private Boolean disponivel = true;
 
@@ -1,11 +1,13 @@
 package com.deliverytech.delivery.model;
 
+import com.deliverytech.delivery.config.ReplicacaoReferenciaListener;
+
 import jakarta.persistence.*;
 import lombok.*;
-import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
+@EntityListeners(ReplicacaoReferenciaListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +22,8 @@ public class Restaurante {
 
     private String telefone;
 
-    private BigDecimal taxaEntrega;
+    @Convert(converter = MoneyConverter.class)
+    private Money taxaEntrega;
 
     private Integer tempoEntregaMinutos;
 
@@ -28,6 +31,9 @@ public class Restaurante {
 
     private Boolean ativo = true;
 
+    @Embedded
+    private Endereco endereco;
+
     @OneToMany(mappedBy = "restaurante", cascade = CascadeType.ALL)
     private List<Produto> produtos;
 }
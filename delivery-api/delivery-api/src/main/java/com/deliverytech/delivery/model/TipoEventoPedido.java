@@ -0,0 +1,7 @@
+package com.deliverytech.delivery.model;
+
+public enum TipoEventoPedido {
+    PEDIDO_CRIADO,
+    STATUS_ALTERADO,
+    PEDIDO_CANCELADO
+}
@@ -0,0 +1,8 @@
+package com.deliverytech.delivery.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.deliverytech.delivery.model.ItemPedido;
+
+public interface ItemPedidoRepository extends JpaRepository<ItemPedido, Long> {
+}
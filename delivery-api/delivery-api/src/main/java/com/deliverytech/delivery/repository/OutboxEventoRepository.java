@@ -0,0 +1,33 @@
+package com.deliverytech.delivery.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliverytech.delivery.model.OutboxEvento;
+
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, Long> {
+
+    // Próximo lote pendente, na ordem em que os eventos foram gravados
+    List<OutboxEvento> findByPublicadoEmIsNullOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Checkpoint do relay: marca o lote entregue ao sink
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvento e SET e.publicadoEm = :publicadoEm WHERE e.id IN :ids")
+    int marcarPublicados(@Param("ids") Collection<Long> ids, @Param("publicadoEm") LocalDateTime publicadoEm);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvento e WHERE e.publicadoEm < :limite")
+    int removerPublicadosAntesDe(@Param("limite") LocalDateTime limite);
+}
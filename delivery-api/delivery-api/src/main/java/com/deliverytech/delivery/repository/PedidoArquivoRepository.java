@@ -0,0 +1,182 @@
+package com.deliverytech.delivery.repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliverytech.delivery.model.Cliente;
+import com.deliverytech.delivery.model.Endereco;
+import com.deliverytech.delivery.model.ItemPedido;
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.model.StatusPedido;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Acesso via JDBC às tabelas pedido_arquivo e item_pedido_arquivo. Não há entidades para
+ * elas: os pedidos arquivados são devolvidos como Pedido desanexados (cliente, restaurante
+ * e produto só com id e, no produto, o nome), apenas para leitura.
+ *
+ * As consultas de relatório devolvem linhas no mesmo formato das de PedidoRepository, para
+ * serem somadas aos parciais da tabela quente.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PedidoArquivoRepository {
+
+    private static final String COLUNAS_PEDIDO = "id, cliente_id, restaurante_id, total, status, data_pedido, "
+            + "relatorio_pedido, rua, numero, bairro, cidade, estado, cep, latitude, longitude";
+
+    private static final String COLUNAS_ITEM = "id, pedido_id, produto_id, quantidade, preco_unitario";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Ids de pedidos ENTREGUE ou CANCELADO anteriores ao limite, ainda na tabela quente.
+     * Sem ORDER BY: qualquer lote serve, e cada lote arquivado deixa de aparecer aqui.
+     */
+    public List<Long> findIdsArquivaveis(LocalDateTime limite, int quantidade) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM pedido WHERE status IN ('ENTREGUE', 'CANCELADO') AND data_pedido < :limite LIMIT :quantidade",
+                new MapSqlParameterSource("limite", Timestamp.valueOf(limite)).addValue("quantidade", quantidade),
+                Long.class);
+    }
+
+    /**
+     * Copia os pedidos e seus itens para o arquivo e os remove das tabelas quentes, em uma
+     * transação: o lote é movido por inteiro ou não é movido.
+     */
+    @Transactional
+    public int arquivar(Collection<Long> ids, LocalDateTime arquivadoEm) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource("ids", ids)
+                .addValue("arquivadoEm", Timestamp.valueOf(arquivadoEm));
+        int movidos = jdbcTemplate.update("INSERT INTO pedido_arquivo (" + COLUNAS_PEDIDO + ", arquivado_em) "
+                + "SELECT " + COLUNAS_PEDIDO + ", :arquivadoEm FROM pedido WHERE id IN (:ids)", parametros);
+        jdbcTemplate.update("INSERT INTO item_pedido_arquivo (" + COLUNAS_ITEM + ") "
+                + "SELECT " + COLUNAS_ITEM + " FROM item_pedido WHERE pedido_id IN (:ids)", parametros);
+        jdbcTemplate.update("DELETE FROM item_pedido WHERE pedido_id IN (:ids)", parametros);
+        jdbcTemplate.update("DELETE FROM pedido WHERE id IN (:ids)", parametros);
+        return movidos;
+    }
+
+    // Data do pedido arquivado mais recente do cliente (índice cliente_id, data_pedido)
+    public Optional<LocalDateTime> findUltimaDataPorCliente(Long clienteId) {
+        Timestamp ultima = jdbcTemplate.queryForObject(
+                "SELECT MAX(data_pedido) FROM pedido_arquivo WHERE cliente_id = :clienteId",
+                new MapSqlParameterSource("clienteId", clienteId), Timestamp.class);
+        return Optional.ofNullable(ultima).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * Os primeiros pedidos arquivados do cliente (id, dataPedido), do mais recente para o
+     * mais antigo, na mesma ordem de PedidoRepository.findIdsEDatasPorCliente.
+     */
+    public List<Object[]> findIdsEDatasPorCliente(Long clienteId, int quantidade) {
+        return jdbcTemplate.query(
+                "SELECT id, data_pedido FROM pedido_arquivo WHERE cliente_id = :clienteId "
+                        + "ORDER BY data_pedido DESC, id DESC LIMIT :quantidade",
+                new MapSqlParameterSource("clienteId", clienteId).addValue("quantidade", quantidade),
+                (rs, linha) -> new Object[] { rs.getLong(1), rs.getTimestamp(2).toLocalDateTime() });
+    }
+
+    // Todos os pedidos arquivados do cliente (índice cliente_id, data_pedido), sem ordem
+    public List<Pedido> findByClienteIdComItens(Long clienteId) {
+        return findAllByIdComItens(jdbcTemplate.queryForList("SELECT id FROM pedido_arquivo WHERE cliente_id = :clienteId",
+                new MapSqlParameterSource("clienteId", clienteId), Long.class));
+    }
+
+    // (restaurante, totalVendas, quantidadePedidos), como PedidoRepository.findTotalVendasPorRestaurante
+    public List<Object[]> findTotalVendasPorRestaurante() {
+        return jdbcTemplate.query("SELECT r.nome, SUM(p.total), COUNT(*) FROM pedido_arquivo p "
+                        + "JOIN restaurante r ON r.id = p.restaurante_id "
+                        + "WHERE p.status IN ('ENTREGUE', 'CONFIRMADO') GROUP BY r.id, r.nome",
+                (rs, linha) -> new Object[] { rs.getString(1), rs.getBigDecimal(2), rs.getLong(3) });
+    }
+
+    // (categoria, faturamento, totalPedidos), como PedidoRepository.findFaturamentoPorCategoriaNative
+    public List<Object[]> findFaturamentoPorCategoria() {
+        return jdbcTemplate.query("SELECT r.categoria, SUM(p.total), COUNT(*) FROM pedido_arquivo p "
+                        + "JOIN restaurante r ON r.id = p.restaurante_id "
+                        + "WHERE p.status IN ('ENTREGUE', 'CONFIRMADO') GROUP BY r.categoria",
+                (rs, linha) -> new Object[] { rs.getString(1), rs.getBigDecimal(2), rs.getLong(3) });
+    }
+
+    // (cliente, totalPedidos, valorTotal), como PedidoRepository.findRankingClientesPorPedidos
+    public List<Object[]> findRankingClientesPorPedidos() {
+        return jdbcTemplate.query("SELECT c.nome, COUNT(*), SUM(p.total) FROM pedido_arquivo p "
+                        + "JOIN cliente c ON c.id = p.cliente_id GROUP BY c.id, c.nome",
+                (rs, linha) -> new Object[] { rs.getString(1), rs.getLong(2), rs.getBigDecimal(3) });
+    }
+
+    public BigDecimal findFaturamentoPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        return jdbcTemplate.queryForObject("SELECT SUM(total) FROM pedido_arquivo "
+                        + "WHERE data_pedido BETWEEN :inicio AND :fim AND status IN ('ENTREGUE', 'CONFIRMADO')",
+                new MapSqlParameterSource("inicio", Timestamp.valueOf(inicio)).addValue("fim", Timestamp.valueOf(fim)),
+                BigDecimal.class);
+    }
+
+    // (status, quantidade, valorTotal), como PedidoRepository.findTotaisPorStatus
+    public List<Object[]> findTotaisPorStatus() {
+        return jdbcTemplate.query("SELECT status, COUNT(*), SUM(total) FROM pedido_arquivo WHERE status IS NOT NULL GROUP BY status",
+                (rs, linha) -> new Object[] { StatusPedido.valueOf(rs.getString(1)), rs.getLong(2), rs.getBigDecimal(3) });
+    }
+
+    public Optional<Pedido> findByIdComItens(Long id) {
+        List<Pedido> pedidos = findAllByIdComItens(List.of(id));
+        return pedidos.isEmpty() ? Optional.empty() : Optional.of(pedidos.get(0));
+    }
+
+    public List<Pedido> findAllByIdComItens(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        MapSqlParameterSource parametros = new MapSqlParameterSource("ids", ids);
+        Map<Long, Pedido> pedidos = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT " + COLUNAS_PEDIDO + " FROM pedido_arquivo WHERE id IN (:ids)", parametros, rs -> {
+            Timestamp data = rs.getTimestamp("data_pedido");
+            Pedido pedido = Pedido.builder()
+                    .id(rs.getLong("id"))
+                    .cliente(Cliente.builder().id(rs.getLong("cliente_id")).build())
+                    .restaurante(Restaurante.builder().id(rs.getLong("restaurante_id")).build())
+                    .total(Money.de(rs.getBigDecimal("total")))
+                    .status(rs.getString("status") != null ? StatusPedido.valueOf(rs.getString("status")) : null)
+                    .dataPedido(data != null ? data.toLocalDateTime() : null)
+                    .relatorioPedido(rs.getString("relatorio_pedido"))
+                    .enderecoEntrega(new Endereco(rs.getString("rua"), rs.getString("numero"), rs.getString("bairro"),
+                            rs.getString("cidade"), rs.getString("estado"), rs.getString("cep"),
+                            rs.getObject("latitude", Double.class), rs.getObject("longitude", Double.class)))
+                    .itens(new ArrayList<>())
+                    .build();
+            pedidos.put(pedido.getId(), pedido);
+        });
+
+        jdbcTemplate.query("SELECT i.id, i.pedido_id, i.produto_id, p.nome, i.quantidade, i.preco_unitario "
+                + "FROM item_pedido_arquivo i LEFT JOIN produto p ON p.id = i.produto_id "
+                + "WHERE i.pedido_id IN (:ids) ORDER BY i.id", parametros, rs -> {
+            Pedido pedido = pedidos.get(rs.getLong("pedido_id"));
+            pedido.getItens().add(ItemPedido.builder()
+                    .id(rs.getLong("id"))
+                    .pedido(pedido)
+                    .produto(Produto.builder().id(rs.getLong("produto_id")).nome(rs.getString("nome")).build())
+                    .quantidade(rs.getObject("quantidade", Integer.class))
+                    .precoUnitario(Money.de(rs.getBigDecimal("preco_unitario")))
+                    .build());
+        });
+        return new ArrayList<>(pedidos.values());
+    }
+}
@@ -2,31 +2,44 @@ package com.deliverytech.delivery.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Pedido;
 import com.deliverytech.delivery.model.StatusPedido;
 
 public interface PedidoRepository extends JpaRepository<Pedido, Long> {
     
-    // Buscar pedidos por cliente
-    List<Pedido> findByClienteId(Long clienteId);
+    // Buscar pedidos por cliente (pela FK: o método derivado faz LEFT JOIN em cliente e varre pedido)
+    @Query("SELECT p FROM Pedido p WHERE p.cliente.id = :clienteId")
+    List<Pedido> findByClienteId(@Param("clienteId") Long clienteId);
     
     // Buscar pedidos por cliente com itens carregados (evita LazyInitializationException)
     @Query("SELECT DISTINCT p FROM Pedido p LEFT JOIN FETCH p.itens i LEFT JOIN FETCH i.produto WHERE p.cliente.id = :clienteId ORDER BY p.dataPedido DESC")
     List<Pedido> findByClienteIdWithItens(@Param("clienteId") Long clienteId);
     
+    // Página do histórico do cliente: só (id, dataPedido), para paginar sem JOIN FETCH de coleção
+    @Query("SELECT p.id, p.dataPedido FROM Pedido p WHERE p.cliente.id = :clienteId ORDER BY p.dataPedido DESC, p.id DESC")
+    List<Object[]> findIdsEDatasPorCliente(@Param("clienteId") Long clienteId, Pageable pageable);
+    
+    // Buscar pedidos por IDs com itens carregados
+    @Query("SELECT DISTINCT p FROM Pedido p LEFT JOIN FETCH p.itens i LEFT JOIN FETCH i.produto WHERE p.id IN :ids")
+    List<Pedido> findAllByIdInWithItens(@Param("ids") Collection<Long> ids);
+    
     // Buscar pedido por ID com itens carregados
     @Query("SELECT DISTINCT p FROM Pedido p LEFT JOIN FETCH p.itens i LEFT JOIN FETCH i.produto WHERE p.id = :id")
     Optional<Pedido> findByIdWithItens(@Param("id") Long id);
     
-    // Buscar pedidos por restaurante
-    List<Pedido> findByRestauranteId(Long restauranteId);
+    // Buscar pedidos por restaurante (pela FK, como findByClienteId)
+    @Query("SELECT p FROM Pedido p WHERE p.restaurante.id = :restauranteId")
+    List<Pedido> findByRestauranteId(@Param("restauranteId") Long restauranteId);
     
     // Buscar pedidos por status
     List<Pedido> findByStatus(StatusPedido status);
@@ -53,7 +66,7 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
      * Pedidos com valor acima de X
      */
     @Query("SELECT p FROM Pedido p WHERE p.total > :valor ORDER BY p.total DESC")
-    List<Pedido> findPedidosComValorAcimaDe(@Param("valor") BigDecimal valor);
+    List<Pedido> findPedidosComValorAcimaDe(@Param("valor") Money valor);
     
     /**
      * Relatório por período e status
@@ -85,6 +98,12 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
            "ORDER BY totalPedidos DESC")
     List<Object[]> findRankingClientesPorPedidos();
     
+    /**
+     * Quantidade e valor dos pedidos por status
+     */
+    @Query("SELECT p.status, COUNT(p), SUM(p.total) FROM Pedido p GROUP BY p.status")
+    List<Object[]> findTotaisPorStatus();
+    
     // === CONSULTAS NATIVAS (opcional) ===
     
     /**
@@ -109,6 +128,18 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
                    "ORDER BY faturamento_total DESC", nativeQuery = true)
     List<Object[]> findFaturamentoPorCategoriaNative();
     
+    /**
+     * Projeção enxuta dos pedidos em aberto (id, restaurante, status, data) para reconstruir as filas em memória
+     */
+    @Query("SELECT p.id, p.restaurante.id, p.status, p.dataPedido FROM Pedido p WHERE p.status IN :status")
+    List<Object[]> findResumoPorStatus(@Param("status") Collection<StatusPedido> status);
+    
+    /**
+     * Quantidade de pedidos por restaurante a partir de um instante (ranking "mais pedidos hoje")
+     */
+    @Query("SELECT p.restaurante.id, COUNT(p) FROM Pedido p WHERE p.dataPedido >= :inicio GROUP BY p.restaurante.id")
+    List<Object[]> countPorRestauranteDesde(@Param("inicio") LocalDateTime inicio);
+    
     // Query customizada para relatório de pedidos
     @Query("SELECT p FROM Pedido p ORDER BY p.dataPedido DESC")
     List<Pedido> relatorioPedidos();
@@ -4,13 +4,18 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Produto;
 
 public interface ProdutoRepository extends JpaRepository<Produto, Long> {
 
-    // Buscar produtos por restaurante
-    List<Produto> findByRestauranteId(Long restauranteId);
+    // Buscar produtos por restaurante (pela FK: o método derivado faz LEFT JOIN em restaurante e varre produto)
+    @Query("SELECT p FROM Produto p WHERE p.restaurante.id = :restauranteId")
+    List<Produto> findByRestauranteId(@Param("restauranteId") Long restauranteId);
     
     // Buscar produtos disponíveis
     List<Produto> findByDisponivelTrue();
@@ -19,8 +24,22 @@ public interface ProdutoRepository extends JpaRepository<Produto, Long> {
     List<Produto> findByCategoria(String categoria);
     
     // Buscar produtos com preço menor ou igual ao especificado
-    List<Produto> findByPrecoLessThanEqual(BigDecimal preco);
+    List<Produto> findByPrecoLessThanEqual(Money preco);
     
     // Buscar produtos por nome (contém, ignora maiúsculas/minúsculas)
     List<Produto> findByNomeContainingIgnoreCase(String nome);
+
+    // Operações em lote: um único UPDATE por restaurante (e categoria, se informada).
+    // Nativo porque preco é Money no modelo e o fator é decimal; a conta fica na coluna NUMERIC.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE produto SET preco = ROUND(preco * :fator, 2) " +
+           "WHERE restaurante_id = :restauranteId AND (:categoria IS NULL OR categoria = :categoria)", nativeQuery = true)
+    int reajustarPrecos(@Param("restauranteId") Long restauranteId, @Param("categoria") String categoria,
+            @Param("fator") BigDecimal fator);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Produto p SET p.disponivel = :disponivel " +
+           "WHERE p.restaurante.id = :restauranteId AND (:categoria IS NULL OR p.categoria = :categoria)")
+    int alterarDisponibilidade(@Param("restauranteId") Long restauranteId, @Param("categoria") String categoria,
+            @Param("disponivel") boolean disponivel);
 }
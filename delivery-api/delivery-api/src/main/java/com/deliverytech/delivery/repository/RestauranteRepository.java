@@ -1,10 +1,11 @@
 package com.deliverytech.delivery.repository;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Restaurante;
 
 public interface RestauranteRepository extends JpaRepository<Restaurante, Long> {
@@ -16,7 +17,7 @@ public interface RestauranteRepository extends JpaRepository<Restaurante, Long>
     List<Restaurante> findByAtivoTrue();
     
     // Buscar por taxa de entrega menor ou igual
-    List<Restaurante> findByTaxaEntregaLessThanEqual(BigDecimal taxa);
+    List<Restaurante> findByTaxaEntregaLessThanEqual(Money taxa);
     
     // Top 5 restaurantes ordenados por nome (A-Z)
     List<Restaurante> findTop5ByOrderByNomeAsc();
@@ -25,4 +26,17 @@ public interface RestauranteRepository extends JpaRepository<Restaurante, Long>
     List<Restaurante> findByNomeContainingIgnoreCase(String nome);
     List<Restaurante> findAllByOrderByAvaliacaoDesc();
     boolean existsByNome(String nome);
+    
+    // Projeção (id, tempoEntregaMinutos) para o cache do estimador de entrega
+    @Query("SELECT r.id, r.tempoEntregaMinutos FROM Restaurante r")
+    List<Object[]> findTemposEntrega();
+    
+    // Projeção (id, nome, categoria, avaliacao) dos restaurantes ativos para os rankings em memória
+    @Query("SELECT r.id, r.nome, r.categoria, r.avaliacao FROM Restaurante r WHERE r.ativo = true")
+    List<Object[]> findResumoAtivos();
+    
+    // Projeção (id, nome, categoria, latitude, longitude) dos restaurantes ativos localizados, para o índice geográfico
+    @Query("SELECT r.id, r.nome, r.categoria, r.endereco.latitude, r.endereco.longitude FROM Restaurante r "
+            + "WHERE r.ativo = true AND r.endereco.latitude IS NOT NULL AND r.endereco.longitude IS NOT NULL")
+    List<Object[]> findLocalizacoesAtivas();
 }
@@ -0,0 +1,10 @@
+package com.deliverytech.delivery.service;
+
+public interface ArquivamentoPedidoService {
+
+    /**
+     * Move para o arquivo, em lotes, os pedidos finalizados mais antigos que a janela quente;
+     * retorna quantos foram movidos.
+     */
+    int arquivarFinalizados();
+}
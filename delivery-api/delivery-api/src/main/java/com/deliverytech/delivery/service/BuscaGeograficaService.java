@@ -0,0 +1,12 @@
+package com.deliverytech.delivery.service;
+
+import java.util.List;
+
+public interface BuscaGeograficaService {
+
+    List<RestauranteProximo> buscarProximos(double latitude, double longitude, double raioKm, int limite);
+    int restaurantesIndexados();
+
+    record RestauranteProximo(Long restauranteId, String nome, String categoria, double distanciaKm) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.deliverytech.delivery.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import com.deliverytech.delivery.model.Endereco;
+import com.deliverytech.delivery.model.Pedido;
+
+public interface CarrinhoService {
+
+    Resumo criar(Long clienteId, Long restauranteId);
+    Resumo adicionarItem(String carrinhoId, Long produtoId, int quantidade);
+    Resumo definirQuantidade(String carrinhoId, Long produtoId, int quantidade);
+    Optional<Resumo> removerItem(String carrinhoId, Long produtoId);
+    Optional<Cotacao> cotar(String carrinhoId);
+    Pedido finalizar(String carrinhoId, Endereco enderecoEntrega);
+    boolean descartar(String carrinhoId);
+    int removerOciosos();
+
+    record Resumo(String carrinhoId, int quantidadeItens, BigDecimal total) {
+    }
+
+    record ItemCotacao(Long produtoId, String nome, int quantidade, BigDecimal precoUnitario, BigDecimal subtotal) {
+    }
+
+    record Cotacao(String carrinhoId, Long clienteId, Long restauranteId, List<ItemCotacao> itens,
+            int quantidadeItens, BigDecimal total) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.deliverytech.delivery.service;
+
+import java.util.List;
+
+import com.deliverytech.delivery.dto.request.ClienteRequest;
+
+public interface ClienteLoteService {
+
+    Resultado cadastrar(List<ClienteRequest> clientes);
+
+    enum Situacao { CADASTRADO, INVALIDO, DUPLICADO_NO_LOTE, EMAIL_JA_CADASTRADO }
+
+    // indice é a posição do cliente na lista recebida
+    record Registro(int indice, String email, Situacao situacao, Long id, String mensagem) {
+    }
+
+    record Resultado(int cadastrados, int rejeitados, List<Registro> registros, long duracaoMs) {
+    }
+}
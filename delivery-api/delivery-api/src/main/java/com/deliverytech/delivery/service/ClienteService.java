@@ -3,12 +3,9 @@ package com.deliverytech.delivery.service;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.cache.annotation.Cacheable;
-
 import com.deliverytech.delivery.dto.request.ClienteRequest;
 import com.deliverytech.delivery.model.Cliente;
 
-@Cacheable("clientes")
 public interface ClienteService {
     Cliente cadastrarCliente(ClienteRequest dto);
     Optional<Cliente> buscarClientePorId(Long id);
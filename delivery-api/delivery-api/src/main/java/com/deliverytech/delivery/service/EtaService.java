@@ -0,0 +1,13 @@
+package com.deliverytech.delivery.service;
+
+import java.util.Optional;
+
+public interface EtaService {
+
+    Optional<Estimativa> estimar(Long restauranteId);
+    int estimarMinutos(Long restauranteId, Integer tempoBase);
+
+    record Estimativa(Long restauranteId, int minutos, int tempoBaseMinutos, int pedidosAbertos,
+            double preparoMedioMinutos, int amostras) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.deliverytech.delivery.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.deliverytech.delivery.model.StatusPedido;
+
+public interface FilaCozinhaService {
+
+    // Status que mantêm o pedido na fila da cozinha
+    Set<StatusPedido> STATUS_NA_FILA = EnumSet.of(StatusPedido.CRIADO, StatusPedido.CONFIRMADO, StatusPedido.EM_PREPARACAO);
+
+    List<ItemFila> proximos(Long restauranteId, int limite);
+    boolean priorizar(Long pedidoId, int prioridade);
+    int tamanho(Long restauranteId);
+    void reconstruir();
+
+    record ItemFila(Long pedidoId, Long restauranteId, StatusPedido status, LocalDateTime dataPedido, int prioridade) {
+    }
+}
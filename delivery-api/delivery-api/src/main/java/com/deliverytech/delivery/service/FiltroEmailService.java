@@ -0,0 +1,17 @@
+package com.deliverytech.delivery.service;
+
+import java.util.function.Predicate;
+
+public interface FiltroEmailService {
+
+    // Consulta o banco só quando o filtro não garante que o email está ausente
+    boolean existe(String email, Predicate<String> consulta);
+    void registrar(String email);
+    void reconstruir();
+    Estatisticas estatisticas();
+
+    record Estatisticas(boolean pronto, long bits, int funcoesHash, long capacidade, long elementos,
+            double taxaAlvo, double taxaEstimada, long consultas, long consultasEvitadas, long positivos,
+            long falsosPositivos, double taxaFalsoPositivoObservada, long reconstrucoes) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.deliverytech.delivery.service;
+
+import java.util.function.Supplier;
+
+public interface IdempotenciaService {
+
+    /**
+     * Executa a ação uma única vez por chave enquanto o resultado estiver guardado.
+     * Chamadas concorrentes com a mesma chave aguardam a execução em andamento; as seguintes
+     * recebem o resultado guardado. Reusar a chave com outra requisição não executa a ação
+     * e devolve um resultado com conflito.
+     */
+    <T> Resultado<T> executar(String chave, Object requisicao, Supplier<T> acao);
+
+    record Resultado<T>(T valor, boolean repetido, boolean conflito) {
+
+        public Resultado(T valor, boolean repetido) {
+            this(valor, repetido, false);
+        }
+
+        public static <T> Resultado<T> comConflito() {
+            return new Resultado<>(null, false, true);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.deliverytech.delivery.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface ImportacaoProdutoService {
+
+    // Guarda no máximo esse número de erros detalhados; os demais só entram na contagem
+    int MAXIMO_ERROS_DETALHADOS = 1000;
+
+    Resultado importar(Long restauranteId, InputStream entrada, Formato formato) throws IOException;
+
+    enum Formato { CSV, NDJSON }
+
+    record ErroLinha(long linha, String mensagem) {
+    }
+
+    record Resultado(long importados, long rejeitados, List<ErroLinha> erros, long duracaoMs) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.deliverytech.delivery.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.TipoEventoPedido;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public interface OutboxService {
+
+    /**
+     * Grava o evento na transação corrente da alteração do pedido.
+     */
+    void registrarEvento(Pedido pedido, TipoEventoPedido tipo);
+
+    /**
+     * Drena os eventos pendentes para o sink em lotes; retorna quantos foram publicados.
+     */
+    int publicarPendentes();
+
+    // Payload JSON do evento; itens só no PEDIDO_CRIADO. Campos ausentes saem como null
+    record EventoPedido(String tipo, Long pedidoId, Long clienteId, Long restauranteId, String status,
+            BigDecimal total, String dataPedido, @JsonInclude(JsonInclude.Include.NON_NULL) List<ItemEvento> itens) {
+    }
+
+    record ItemEvento(Long produtoId, Integer quantidade, BigDecimal precoUnitario) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.deliverytech.delivery.service;
+
+import java.util.List;
+
+import com.deliverytech.delivery.model.OutboxEvento;
+
+/**
+ * Destino dos eventos drenados do outbox. Recebe os lotes em ordem de gravação e deve
+ * lançar exceção se não conseguir entregar o lote inteiro; o relay então tenta de novo
+ * o mesmo lote (entrega at-least-once, consumidores deduplicam pelo id do evento).
+ */
+public interface OutboxSink {
+
+    void publicar(List<OutboxEvento> eventos) throws Exception;
+}
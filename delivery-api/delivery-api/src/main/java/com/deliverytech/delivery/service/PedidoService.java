@@ -13,6 +13,7 @@ public interface PedidoService {
     Pedido criarPedido(PedidoRequest dto);
     Optional<Pedido> buscarPedidoPorId(Long id);
     List<Pedido> buscarPedidosPorCliente(Long clienteId);
+    List<Pedido> buscarHistoricoPorCliente(Long clienteId, int pagina, int tamanho);
     Pedido atualizarStatusPedido(Long id, StatusPedido status);
     BigDecimal calcularTotalPedido(Long pedidoId);
     BigDecimal calcularTotalSemSalvar(PedidoRequest dto);
@@ -1,5 +1,6 @@
 package com.deliverytech.delivery.service;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,9 +10,16 @@ import com.deliverytech.delivery.model.Produto;
 public interface ProdutoService {
 
     Produto cadastrarProduto(ProdutoRequest dto);
-    List<Produto> buscarProdutosPorRestaurante(Long restauranteId);
+    List<ProdutoCardapio> buscarProdutosPorRestaurante(Long restauranteId);
     Optional<Produto> buscarProdutoPorId(Long id);
     Produto atualizarProduto(Long id, ProdutoRequest dto);
-    void alterarDisponibilidade(Long id, boolean disponivel);
+    Produto alterarDisponibilidade(Long id, boolean disponivel);
     List<Produto> buscarProdutosPorCategoria(String categoria);
+    int reajustarPrecos(Long restauranteId, String categoria, BigDecimal percentual);
+    int alterarDisponibilidadeEmLote(Long restauranteId, String categoria, boolean disponivel);
+
+    // Item do cardápio como fica no cache: imutável e sem a entidade, compartilhado entre requisições
+    record ProdutoCardapio(Long id, String nome, String categoria, String descricao, BigDecimal preco,
+            Boolean disponivel) {
+    }
 }
@@ -0,0 +1,14 @@
+package com.deliverytech.delivery.service;
+
+import java.util.List;
+
+public interface RankingService {
+
+    // categoria nula = todas as categorias
+    List<ItemRanking> melhorAvaliados(String categoria, int pagina, int tamanho);
+    List<ItemRanking> maisPedidosHoje(String categoria, int pagina, int tamanho);
+    void reconstruir();
+
+    record ItemRanking(Long restauranteId, String nome, String categoria, long valor) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.deliverytech.delivery.service;
+
+public interface RateLimitService {
+
+    String PEDIDOS_CRIAR = "pedidos.criar";
+    String PEDIDOS_CALCULAR = "pedidos.calcular";
+
+    /**
+     * Consome uma ficha do bucket do cliente para o endpoint informado.
+     */
+    Resultado tentarConsumir(String endpoint, String chave);
+
+    record Resultado(boolean permitido, long limite, long restante, long resetSegundos) {}
+}
@@ -0,0 +1,40 @@
+package com.deliverytech.delivery.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.deliverytech.delivery.model.StatusPedido;
+
+public interface RelatorioService {
+
+    Relatorio<List<VendasRestaurante>> vendasPorRestaurante();
+    Relatorio<List<FaturamentoCategoria>> faturamentoPorCategoria();
+    Relatorio<List<ClientePedidos>> rankingClientes(int limite);
+    Relatorio<BigDecimal> faturamentoPorPeriodo(LocalDateTime inicio, LocalDateTime fim);
+    Relatorio<List<ResumoStatus>> resumoPorStatus();
+
+    // geradoEm é o instante dos dados: o da consulta quando vêm do banco, o do snapshot caso contrário
+    record Relatorio<T>(T dados, LocalDateTime geradoEm, boolean snapshot) {
+
+        public static <T> Relatorio<T> doBanco(T dados) {
+            return new Relatorio<>(dados, LocalDateTime.now(), false);
+        }
+
+        public static <T> Relatorio<T> doSnapshot(T dados, SnapshotPedidos snapshot) {
+            return new Relatorio<>(dados, snapshot.getGeradoEm(), true);
+        }
+    }
+
+    record VendasRestaurante(String restaurante, BigDecimal totalVendas, long quantidadePedidos) {
+    }
+
+    record FaturamentoCategoria(String categoria, BigDecimal faturamento, long totalPedidos) {
+    }
+
+    record ClientePedidos(String cliente, long totalPedidos, BigDecimal valorTotal) {
+    }
+
+    record ResumoStatus(StatusPedido status, long quantidade, BigDecimal valorTotal) {
+    }
+}
@@ -15,6 +15,7 @@ public interface RestauranteService {
     List<Restaurante> buscarRestaurantesDisponiveis();
     List<Restaurante> listarRestaurantes();
     Restaurante atualizarRestaurante(Long id, RestauranteRequest dto);
+    Restaurante avaliarRestaurante(Long id, Integer avaliacao);
     BigDecimal calcularTaxaEntrega(Long restauranteId, String cepDestino);
     void removerRestaurante(Long id);
 }
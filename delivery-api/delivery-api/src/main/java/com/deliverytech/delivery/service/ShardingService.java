@@ -0,0 +1,19 @@
+package com.deliverytech.delivery.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Roteamento de pedidos entre shards. Com o sharding desabilitado há um único shard
+ * e as operações executam diretamente, sem contexto.
+ */
+public interface ShardingService {
+
+    int quantidadeShards();
+    int shardDoRestaurante(Long restauranteId);
+    int shardDoPedido(Long pedidoId);
+    <T> T executarNoShard(int shard, Supplier<T> acao);
+
+    // Executa em todos os shards em paralelo; resultados na ordem dos shards
+    <T> List<T> executarEmTodos(Supplier<T> acao);
+}
@@ -0,0 +1,343 @@
+package com.deliverytech.delivery.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.service.RelatorioService.ClientePedidos;
+import com.deliverytech.delivery.service.RelatorioService.FaturamentoCategoria;
+import com.deliverytech.delivery.service.RelatorioService.ResumoStatus;
+import com.deliverytech.delivery.service.RelatorioService.VendasRestaurante;
+
+/**
+ * Cópia imutável dos pedidos em colunas de arrays primitivos (uma posição por pedido):
+ * restaurante, cliente, status, minuto desde a época (UTC) e total em centavos.
+ * Restaurantes, clientes e categorias são codificados em índices densos, de modo que cada
+ * agregação acumula direto em um long[] indexado pelo código, sem mapas nem boxing.
+ *
+ * As agregações dividem as linhas em faixas e varrem em paralelo no ForkJoinPool comum;
+ * cada faixa devolve seu acumulador parcial e os parciais são somados posição a posição.
+ */
+public final class SnapshotPedidos {
+
+    // Abaixo disso o custo de dividir a tarefa supera o ganho do paralelismo
+    private static final int LIMIAR_MINIMO = 16_384;
+
+    private static final StatusPedido[] STATUS = StatusPedido.values();
+
+    private final LocalDateTime geradoEm;
+    private final int tamanho;
+
+    private final int[] restaurantes;
+    private final int[] clientes;
+    private final byte[] status;
+    private final int[] minutos;
+    private final long[] totais;
+
+    private final long[] idsRestaurantes;
+    private final String[] nomesRestaurantes;
+    private final int[] categoriaDoRestaurante;
+    private final String[] categorias;
+    private final long[] idsClientes;
+    private final String[] nomesClientes;
+
+    private SnapshotPedidos(Construtor construtor, LocalDateTime geradoEm) {
+        this.geradoEm = geradoEm;
+        this.tamanho = construtor.tamanho;
+        this.restaurantes = Arrays.copyOf(construtor.restaurantes, tamanho);
+        this.clientes = Arrays.copyOf(construtor.clientes, tamanho);
+        this.status = Arrays.copyOf(construtor.status, tamanho);
+        this.minutos = Arrays.copyOf(construtor.minutos, tamanho);
+        this.totais = Arrays.copyOf(construtor.totais, tamanho);
+
+        int quantidadeRestaurantes = construtor.idsRestaurantes.size();
+        this.idsRestaurantes = construtor.idsRestaurantes.stream().mapToLong(Long::longValue).toArray();
+        this.nomesRestaurantes = new String[quantidadeRestaurantes];
+        this.categoriaDoRestaurante = new int[quantidadeRestaurantes];
+        Map<String, Integer> codigosCategorias = new HashMap<>();
+        List<String> listaCategorias = new ArrayList<>();
+        for (int r = 0; r < quantidadeRestaurantes; r++) {
+            String[] dados = construtor.dadosRestaurantes.get(idsRestaurantes[r]);
+            String categoria = dados != null ? dados[1] : null;
+            nomesRestaurantes[r] = dados != null ? dados[0] : null;
+            categoriaDoRestaurante[r] = codigosCategorias.computeIfAbsent(categoria, c -> {
+                listaCategorias.add(c);
+                return listaCategorias.size() - 1;
+            });
+        }
+        this.categorias = listaCategorias.toArray(String[]::new);
+
+        this.idsClientes = construtor.idsClientes.stream().mapToLong(Long::longValue).toArray();
+        this.nomesClientes = new String[idsClientes.length];
+        for (int c = 0; c < idsClientes.length; c++) {
+            nomesClientes[c] = construtor.nomesClientes.get(idsClientes[c]);
+        }
+    }
+
+    public LocalDateTime getGeradoEm() {
+        return geradoEm;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Mesmo critério de PedidoRepository.findTotalVendasPorRestaurante: pedidos ENTREGUE ou
+     * CONFIRMADO, agrupados por restaurante, do maior faturamento para o menor.
+     */
+    public List<VendasRestaurante> vendasPorRestaurante() {
+        int[] restaurantes = this.restaurantes;
+        byte[] status = this.status;
+        long[] totais = this.totais;
+        long[] acumulado = agregar(2 * idsRestaurantes.length, (inicio, fim, soma) -> {
+            for (int i = inicio; i < fim; i++) {
+                if (faturado(status[i])) {
+                    int r = restaurantes[i];
+                    soma[2 * r] += totais[i];
+                    soma[2 * r + 1]++;
+                }
+            }
+        });
+
+        List<VendasRestaurante> vendas = new ArrayList<>();
+        for (int r = 0; r < idsRestaurantes.length; r++) {
+            if (acumulado[2 * r + 1] > 0) {
+                vendas.add(new VendasRestaurante(nomesRestaurantes[r], reais(acumulado[2 * r]), acumulado[2 * r + 1]));
+            }
+        }
+        vendas.sort(Comparator.comparing(VendasRestaurante::totalVendas).reversed());
+        return vendas;
+    }
+
+    /**
+     * Mesmo critério de PedidoRepository.findFaturamentoPorCategoriaNative.
+     */
+    public List<FaturamentoCategoria> faturamentoPorCategoria() {
+        int[] restaurantes = this.restaurantes;
+        int[] categoriaDoRestaurante = this.categoriaDoRestaurante;
+        byte[] status = this.status;
+        long[] totais = this.totais;
+        long[] acumulado = agregar(2 * categorias.length, (inicio, fim, soma) -> {
+            for (int i = inicio; i < fim; i++) {
+                if (faturado(status[i])) {
+                    int c = categoriaDoRestaurante[restaurantes[i]];
+                    soma[2 * c] += totais[i];
+                    soma[2 * c + 1]++;
+                }
+            }
+        });
+
+        List<FaturamentoCategoria> faturamento = new ArrayList<>();
+        for (int c = 0; c < categorias.length; c++) {
+            if (acumulado[2 * c + 1] > 0) {
+                faturamento.add(new FaturamentoCategoria(categorias[c], reais(acumulado[2 * c]), acumulado[2 * c + 1]));
+            }
+        }
+        faturamento.sort(Comparator.comparing(FaturamentoCategoria::faturamento).reversed());
+        return faturamento;
+    }
+
+    /**
+     * Mesmo critério de PedidoRepository.findRankingClientesPorPedidos: todos os status,
+     * do cliente com mais pedidos para o com menos.
+     */
+    public List<ClientePedidos> rankingClientes(int limite) {
+        int[] clientes = this.clientes;
+        long[] totais = this.totais;
+        long[] acumulado = agregar(2 * idsClientes.length, (inicio, fim, soma) -> {
+            for (int i = inicio; i < fim; i++) {
+                int c = clientes[i];
+                soma[2 * c] += totais[i];
+                soma[2 * c + 1]++;
+            }
+        });
+
+        List<ClientePedidos> ranking = new ArrayList<>();
+        for (int c = 0; c < idsClientes.length; c++) {
+            if (acumulado[2 * c + 1] > 0) {
+                ranking.add(new ClientePedidos(nomesClientes[c], acumulado[2 * c + 1], reais(acumulado[2 * c])));
+            }
+        }
+        return ranking.stream()
+                .sorted(Comparator.comparingLong(ClientePedidos::totalPedidos).reversed())
+                .limit(limite)
+                .toList();
+    }
+
+    /**
+     * Faturamento (ENTREGUE ou CONFIRMADO) dos pedidos cujo minuto está entre o minuto de
+     * inicio e o de fim, inclusive: a resolução do snapshot é de um minuto.
+     */
+    public BigDecimal faturamentoPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        int minutoInicio = minuto(inicio);
+        int minutoFim = minuto(fim);
+        int[] minutos = this.minutos;
+        byte[] status = this.status;
+        long[] totais = this.totais;
+        long[] acumulado = agregar(1, (de, ate, soma) -> {
+            for (int i = de; i < ate; i++) {
+                int m = minutos[i];
+                if (m >= minutoInicio && m <= minutoFim && faturado(status[i])) {
+                    soma[0] += totais[i];
+                }
+            }
+        });
+        return reais(acumulado[0]);
+    }
+
+    public List<ResumoStatus> resumoPorStatus() {
+        byte[] status = this.status;
+        long[] totais = this.totais;
+        long[] acumulado = agregar(2 * STATUS.length, (inicio, fim, soma) -> {
+            for (int i = inicio; i < fim; i++) {
+                int s = status[i];
+                soma[2 * s] += totais[i];
+                soma[2 * s + 1]++;
+            }
+        });
+
+        List<ResumoStatus> resumo = new ArrayList<>();
+        for (int s = 0; s < STATUS.length; s++) {
+            if (acumulado[2 * s + 1] > 0) {
+                resumo.add(new ResumoStatus(STATUS[s], acumulado[2 * s + 1], reais(acumulado[2 * s])));
+            }
+        }
+        return resumo;
+    }
+
+    public static int minuto(LocalDateTime dataHora) {
+        return (int) Math.floorDiv(dataHora.toEpochSecond(ZoneOffset.UTC), 60L);
+    }
+
+    private static boolean faturado(byte status) {
+        return status == StatusPedido.ENTREGUE.ordinal() || status == StatusPedido.CONFIRMADO.ordinal();
+    }
+
+    private static BigDecimal reais(long centavos) {
+        return Money.deCentavos(centavos).toBigDecimal();
+    }
+
+    private long[] agregar(int posicoes, Agregador agregador) {
+        int paralelismo = ForkJoinPool.getCommonPoolParallelism();
+        // Poucas faixas por núcleo: cada uma aloca um acumulador com todas as posições
+        int limiar = Math.max(LIMIAR_MINIMO, tamanho / (paralelismo * 4) + 1);
+        return ForkJoinPool.commonPool().invoke(new Varredura(agregador, posicoes, limiar, 0, tamanho));
+    }
+
+    @FunctionalInterface
+    private interface Agregador {
+        void acumular(int inicio, int fim, long[] soma);
+    }
+
+    private static final class Varredura extends RecursiveTask<long[]> {
+
+        private final Agregador agregador;
+        private final int posicoes;
+        private final int limiar;
+        private final int inicio;
+        private final int fim;
+
+        Varredura(Agregador agregador, int posicoes, int limiar, int inicio, int fim) {
+            this.agregador = agregador;
+            this.posicoes = posicoes;
+            this.limiar = limiar;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (fim - inicio <= limiar) {
+                long[] soma = new long[posicoes];
+                agregador.acumular(inicio, fim, soma);
+                return soma;
+            }
+            int meio = (inicio + fim) >>> 1;
+            Varredura esquerda = new Varredura(agregador, posicoes, limiar, inicio, meio);
+            esquerda.fork();
+            long[] soma = new Varredura(agregador, posicoes, limiar, meio, fim).compute();
+            long[] parcial = esquerda.join();
+            for (int i = 0; i < posicoes; i++) {
+                soma[i] += parcial[i];
+            }
+            return soma;
+        }
+    }
+
+    /**
+     * Monta o snapshot linha a linha (não é thread-safe). Os pedidos podem vir antes dos
+     * nomes: restaurantes e clientes ganham código no primeiro pedido em que aparecem.
+     */
+    public static final class Construtor {
+
+        private int tamanho;
+        private int[] restaurantes = new int[1024];
+        private int[] clientes = new int[1024];
+        private byte[] status = new byte[1024];
+        private int[] minutos = new int[1024];
+        private long[] totais = new long[1024];
+
+        private final Map<Long, Integer> codigosRestaurantes = new HashMap<>();
+        private final List<Long> idsRestaurantes = new ArrayList<>();
+        private final Map<Long, String[]> dadosRestaurantes = new HashMap<>();
+        private final Map<Long, Integer> codigosClientes = new HashMap<>();
+        private final List<Long> idsClientes = new ArrayList<>();
+        private final Map<Long, String> nomesClientes = new HashMap<>();
+
+        public Construtor adicionarPedido(long restauranteId, long clienteId, StatusPedido statusPedido,
+                LocalDateTime dataPedido, long totalCentavos) {
+            if (tamanho == totais.length) {
+                int capacidade = tamanho * 2;
+                restaurantes = Arrays.copyOf(restaurantes, capacidade);
+                clientes = Arrays.copyOf(clientes, capacidade);
+                status = Arrays.copyOf(status, capacidade);
+                minutos = Arrays.copyOf(minutos, capacidade);
+                totais = Arrays.copyOf(totais, capacidade);
+            }
+            restaurantes[tamanho] = codigo(restauranteId, codigosRestaurantes, idsRestaurantes);
+            clientes[tamanho] = codigo(clienteId, codigosClientes, idsClientes);
+            status[tamanho] = (byte) statusPedido.ordinal();
+            minutos[tamanho] = minuto(dataPedido);
+            totais[tamanho] = totalCentavos;
+            tamanho++;
+            return this;
+        }
+
+        // Restaurantes sem pedidos são ignorados: não aparecem em nenhum relatório
+        public Construtor nomearRestaurante(long restauranteId, String nome, String categoria) {
+            if (codigosRestaurantes.containsKey(restauranteId)) {
+                dadosRestaurantes.put(restauranteId, new String[] { nome, categoria });
+            }
+            return this;
+        }
+
+        public Construtor nomearCliente(long clienteId, String nome) {
+            if (codigosClientes.containsKey(clienteId)) {
+                nomesClientes.put(clienteId, nome);
+            }
+            return this;
+        }
+
+        public SnapshotPedidos construir(LocalDateTime geradoEm) {
+            return new SnapshotPedidos(this, geradoEm);
+        }
+
+        private static int codigo(long id, Map<Long, Integer> codigos, List<Long> ids) {
+            return codigos.computeIfAbsent(id, chave -> {
+                ids.add(chave);
+                return ids.size() - 1;
+            });
+        }
+    }
+}
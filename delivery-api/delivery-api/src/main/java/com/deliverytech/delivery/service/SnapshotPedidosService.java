@@ -0,0 +1,13 @@
+package com.deliverytech.delivery.service;
+
+import java.util.Optional;
+
+/**
+ * Mantém o SnapshotPedidos usado pelos relatórios, reconstruído periodicamente a partir
+ * do banco. Vazio enquanto não houver snapshot ou se o último estiver velho demais.
+ */
+public interface SnapshotPedidosService {
+
+    Optional<SnapshotPedidos> atual();
+    SnapshotPedidos atualizar();
+}
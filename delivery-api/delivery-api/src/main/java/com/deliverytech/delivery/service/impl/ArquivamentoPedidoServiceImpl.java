@@ -0,0 +1,79 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.repository.PedidoArquivoRepository;
+import com.deliverytech.delivery.service.ArquivamentoPedidoService;
+import com.deliverytech.delivery.service.ShardingService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Arquivamento dos pedidos ENTREGUE e CANCELADO mais antigos que delivery.arquivamento.dias-quentes.
+ * Cada lote é movido na própria transação, então uma execução interrompida (erro, restart)
+ * não deixa nada pela metade: a próxima encontra os pedidos restantes e continua dali.
+ * O limite de lotes por ciclo evita que um acúmulo grande segure o agendador.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "delivery.arquivamento.habilitado", havingValue = "true")
+@RequiredArgsConstructor
+public class ArquivamentoPedidoServiceImpl implements ArquivamentoPedidoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArquivamentoPedidoServiceImpl.class);
+
+    private final PedidoArquivoRepository pedidoArquivoRepository;
+    private final ShardingService shardingService;
+
+    @Value("${delivery.arquivamento.dias-quentes:180}")
+    private int diasQuentes;
+
+    @Value("${delivery.arquivamento.lote:500}")
+    private int tamanhoLote;
+
+    @Value("${delivery.arquivamento.max-lotes-por-ciclo:20}")
+    private int maxLotesPorCiclo;
+
+    @Override
+    @Scheduled(fixedDelayString = "${delivery.arquivamento.intervalo-ms:300000}")
+    public int arquivarFinalizados() {
+        LocalDateTime limite = LocalDateTime.now().minusDays(diasQuentes);
+        int arquivados = 0;
+        for (int shard = 0; shard < shardingService.quantidadeShards(); shard++) {
+            arquivados += shardingService.executarNoShard(shard, () -> arquivarDoShard(limite));
+        }
+        if (arquivados > 0) {
+            logger.info("{} pedidos anteriores a {} movidos para o arquivo", arquivados, limite);
+        }
+        return arquivados;
+    }
+
+    private int arquivarDoShard(LocalDateTime limite) {
+        int arquivados = 0;
+        for (int lote = 0; lote < maxLotesPorCiclo; lote++) {
+            List<Long> ids = pedidoArquivoRepository.findIdsArquivaveis(limite, tamanhoLote);
+            if (ids.isEmpty()) {
+                break;
+            }
+            try {
+                arquivados += pedidoArquivoRepository.arquivar(ids, LocalDateTime.now());
+            } catch (RuntimeException e) {
+                logger.error("Falha ao arquivar lote a partir do pedido {}: {}", ids.get(0), e.getMessage());
+                break;
+            }
+            if (ids.size() < tamanhoLote) {
+                break;
+            }
+        }
+        return arquivados;
+    }
+}
@@ -0,0 +1,55 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.deliverytech.delivery.model.OutboxEvento;
+import com.deliverytech.delivery.service.OutboxSink;
+
+/**
+ * Publica os eventos como NDJSON (uma linha por evento) em um arquivo de append.
+ * Cada lote é gravado de uma vez e sincronizado em disco antes de ser confirmado.
+ */
+@Component
+@ConditionalOnProperty(name = "delivery.outbox.sink", havingValue = "arquivo")
+public class ArquivoOutboxSink implements OutboxSink {
+
+    @Value("${delivery.outbox.arquivo:data/outbox-pedidos.ndjson}")
+    private String arquivo;
+
+    @Override
+    public synchronized void publicar(List<OutboxEvento> eventos) throws IOException {
+        StringBuilder linhas = new StringBuilder(eventos.size() * 256);
+        for (OutboxEvento evento : eventos) {
+            linhas.append("{\"id\":").append(evento.getId())
+                    .append(",\"pedidoId\":").append(evento.getPedidoId())
+                    .append(",\"tipo\":\"").append(evento.getTipo().name())
+                    .append("\",\"criadoEm\":\"").append(evento.getCriadoEm())
+                    .append("\",\"payload\":").append(evento.getPayload())
+                    .append("}\n");
+        }
+
+        Path destino = Path.of(arquivo);
+        if (destino.getParent() != null) {
+            Files.createDirectories(destino.getParent());
+        }
+        try (FileChannel canal = FileChannel.open(destino,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(linhas.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(false);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery.event.RestauranteAlteradoEvent;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.BuscaGeograficaService;
+
+/**
+ * Índice geográfico em grade: o plano lat/long é dividido em células de tamanho fixo (em graus)
+ * e cada célula guarda os restaurantes ativos nela. Uma busca visita só as células que cobrem
+ * o retângulo envolvente do raio, filtra pela distância haversine e ordena os candidatos.
+ */
+@Service
+@Lazy(false)
+public class BuscaGeograficaServiceImpl implements BuscaGeograficaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuscaGeograficaServiceImpl.class);
+
+    private static final double RAIO_TERRA_KM = 6371.0088;
+    private static final double KM_POR_GRAU = 111.32;
+
+    private final RestauranteRepository restauranteRepository;
+    private final double celulaGraus;
+    private final double raioMaximoKm;
+
+    private final ConcurrentHashMap<Long, Set<Localizacao>> celulas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Localizacao> localizacoes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BuscaGeograficaServiceImpl(RestauranteRepository restauranteRepository, Environment environment) {
+        this.restauranteRepository = restauranteRepository;
+        this.celulaGraus = environment.getProperty("delivery.geo.celula-graus", Double.class, 0.02);
+        this.raioMaximoKm = environment.getProperty("delivery.geo.raio-maximo-km", Double.class, 50.0);
+    }
+
+    @Override
+    public List<RestauranteProximo> buscarProximos(double latitude, double longitude, double raioKm, int limite) {
+        double raio = Math.min(raioKm, raioMaximoKm);
+        if (raio <= 0 || limite <= 0) {
+            return List.of();
+        }
+        double deltaLat = raio / KM_POR_GRAU;
+        double deltaLon = raio / (KM_POR_GRAU * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        long latMin = indice(latitude - deltaLat);
+        long latMax = indice(latitude + deltaLat);
+        long lonMin = indice(longitude - deltaLon);
+        long lonMax = indice(longitude + deltaLon);
+
+        List<RestauranteProximo> candidatos = new ArrayList<>();
+        for (long i = latMin; i <= latMax; i++) {
+            for (long j = lonMin; j <= lonMax; j++) {
+                Set<Localizacao> celula = celulas.get(chave(i, j));
+                if (celula == null) {
+                    continue;
+                }
+                for (Localizacao local : celula) {
+                    double distancia = distanciaKm(latitude, longitude, local.latitude(), local.longitude());
+                    if (distancia <= raio) {
+                        candidatos.add(new RestauranteProximo(local.restauranteId(), local.nome(), local.categoria(), distancia));
+                    }
+                }
+            }
+        }
+        candidatos.sort(Comparator.comparingDouble(RestauranteProximo::distanciaKm));
+        return candidatos.size() > limite ? new ArrayList<>(candidatos.subList(0, limite)) : candidatos;
+    }
+
+    @Override
+    public int restaurantesIndexados() {
+        return localizacoes.size();
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarRestaurante(RestauranteAlteradoEvent evento) {
+        if (evento.removido() || !Boolean.TRUE.equals(evento.ativo())
+                || evento.latitude() == null || evento.longitude() == null) {
+            remover(evento.restauranteId());
+        } else {
+            indexar(evento.restauranteId(), evento.nome(), evento.categoria(), evento.latitude(), evento.longitude());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        long inicio = System.nanoTime();
+        for (Object[] linha : restauranteRepository.findLocalizacoesAtivas()) {
+            Long id = (Long) linha[0];
+            if (!localizacoes.containsKey(id)) {
+                indexar(id, (String) linha[1], (String) linha[2], (Double) linha[3], (Double) linha[4]);
+            }
+        }
+        logger.info("Índice geográfico carregado: {} restaurantes em {} células em {} ms",
+                localizacoes.size(), celulas.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private void indexar(Long id, String nome, String categoria, double latitude, double longitude) {
+        long celula = chave(indice(latitude), indice(longitude));
+        Localizacao nova = new Localizacao(id, nome, categoria, latitude, longitude, celula);
+        localizacoes.compute(id, (chave, atual) -> {
+            // Inserção e remoção na célula acontecem dentro do compute para não perder itens
+            // quando uma célula esvaziada é descartada ao mesmo tempo
+            celulas.compute(celula, (c, itens) -> {
+                Set<Localizacao> destino = itens != null ? itens : ConcurrentHashMap.newKeySet();
+                destino.add(nova);
+                return destino;
+            });
+            if (atual != null && !atual.equals(nova)) {
+                removerDaCelula(atual);
+            }
+            return nova;
+        });
+    }
+
+    private void remover(Long id) {
+        localizacoes.computeIfPresent(id, (chave, atual) -> {
+            removerDaCelula(atual);
+            return null;
+        });
+    }
+
+    private void removerDaCelula(Localizacao local) {
+        celulas.computeIfPresent(local.celula(), (c, celula) -> {
+            celula.remove(local);
+            return celula.isEmpty() ? null : celula;
+        });
+    }
+
+    private long indice(double graus) {
+        return (long) Math.floor(graus / celulaGraus);
+    }
+
+    private static long chave(long indiceLat, long indiceLon) {
+        return (indiceLat << 32) ^ (indiceLon & 0xFFFFFFFFL);
+    }
+
+    static double distanciaKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private record Localizacao(Long restauranteId, String nome, String categoria, double latitude, double longitude,
+            long celula) {
+    }
+}
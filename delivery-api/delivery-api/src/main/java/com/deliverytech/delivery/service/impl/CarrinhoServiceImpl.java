@@ -0,0 +1,322 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.dto.request.ItemPedidoRequest;
+import com.deliverytech.delivery.dto.request.PedidoRequest;
+import com.deliverytech.delivery.model.Endereco;
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.repository.ClienteRepository;
+import com.deliverytech.delivery.repository.ProdutoRepository;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.CarrinhoService;
+import com.deliverytech.delivery.service.PedidoService;
+
+/**
+ * Carrinhos em memória, limitados a delivery.carrinho.maximo e descartados após
+ * delivery.carrinho.ocioso-minutos sem uso.
+ * O preço de um produto é lido do banco só quando ele entra no carrinho; depois disso cada
+ * alteração ajusta o total, em centavos, pela diferença (O(1)). O pedido final é recalculado pelo
+ * PedidoService, que continua sendo a fonte do preço cobrado.
+ *
+ * Cada carrinho tem um ReentrantLock, que não prende a thread de plataforma de uma virtual
+ * thread bloqueada como o synchronized. A finalização copia os itens com o carrinho travado
+ * e cria o pedido fora do lock; enquanto isso o carrinho recusa alterações.
+ */
+@Service
+public class CarrinhoServiceImpl implements CarrinhoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarrinhoServiceImpl.class);
+
+    private final ClienteRepository clienteRepository;
+    private final RestauranteRepository restauranteRepository;
+    private final ProdutoRepository produtoRepository;
+    private final PedidoService pedidoService;
+    private final LongSupplier relogio;
+    private final int maximo;
+    private final long ociosoMs;
+
+    private final ConcurrentHashMap<String, Carrinho> carrinhos = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CarrinhoServiceImpl(ClienteRepository clienteRepository, RestauranteRepository restauranteRepository,
+            ProdutoRepository produtoRepository, PedidoService pedidoService, Environment environment) {
+        this(clienteRepository, restauranteRepository, produtoRepository, pedidoService, environment,
+                System::currentTimeMillis);
+    }
+
+    public CarrinhoServiceImpl(ClienteRepository clienteRepository, RestauranteRepository restauranteRepository,
+            ProdutoRepository produtoRepository, PedidoService pedidoService, Environment environment,
+            LongSupplier relogio) {
+        this.clienteRepository = clienteRepository;
+        this.restauranteRepository = restauranteRepository;
+        this.produtoRepository = produtoRepository;
+        this.pedidoService = pedidoService;
+        this.relogio = relogio;
+        this.maximo = environment.getProperty("delivery.carrinho.maximo", Integer.class, 10_000);
+        this.ociosoMs = TimeUnit.MINUTES.toMillis(
+                environment.getProperty("delivery.carrinho.ocioso-minutos", Long.class, 30L));
+    }
+
+    @Override
+    public Resumo criar(Long clienteId, Long restauranteId) {
+        if (!clienteRepository.existsById(clienteId)) {
+            throw new RuntimeException("Cliente não encontrado");
+        }
+        Restaurante restaurante = restauranteRepository.findById(restauranteId)
+                .orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
+        if (!Boolean.TRUE.equals(restaurante.getAtivo())) {
+            throw new RuntimeException("Restaurante inativo");
+        }
+        if (carrinhos.size() >= maximo && removerOciosos() == 0 && carrinhos.size() >= maximo) {
+            throw new RuntimeException("Limite de carrinhos abertos atingido");
+        }
+
+        Carrinho carrinho = new Carrinho(UUID.randomUUID().toString(), clienteId, restauranteId, relogio.getAsLong());
+        carrinhos.put(carrinho.id, carrinho);
+        return carrinho.resumo();
+    }
+
+    @Override
+    public Resumo adicionarItem(String carrinhoId, Long produtoId, int quantidade) {
+        if (quantidade <= 0) {
+            throw new RuntimeException("Quantidade deve ser positiva");
+        }
+        Carrinho carrinho = obter(carrinhoId);
+        carrinho.trava.lock();
+        try {
+            Linha linha = carrinho.linhas.get(produtoId);
+            return alterar(carrinho, produtoId, (linha != null ? linha.quantidade : 0) + quantidade);
+        } finally {
+            carrinho.trava.unlock();
+        }
+    }
+
+    @Override
+    public Resumo definirQuantidade(String carrinhoId, Long produtoId, int quantidade) {
+        if (quantidade < 0) {
+            throw new RuntimeException("Quantidade não pode ser negativa");
+        }
+        Carrinho carrinho = obter(carrinhoId);
+        carrinho.trava.lock();
+        try {
+            return alterar(carrinho, produtoId, quantidade);
+        } finally {
+            carrinho.trava.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Resumo> removerItem(String carrinhoId, Long produtoId) {
+        Carrinho carrinho = carrinhos.get(carrinhoId);
+        if (carrinho == null) {
+            return Optional.empty();
+        }
+        carrinho.trava.lock();
+        try {
+            if (carrinho.finalizado || !carrinho.linhas.containsKey(produtoId)) {
+                return Optional.empty();
+            }
+            return Optional.of(alterar(carrinho, produtoId, 0));
+        } finally {
+            carrinho.trava.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Cotacao> cotar(String carrinhoId) {
+        Carrinho carrinho = carrinhos.get(carrinhoId);
+        if (carrinho == null) {
+            return Optional.empty();
+        }
+        carrinho.trava.lock();
+        try {
+            carrinho.ultimoAcesso = relogio.getAsLong();
+            List<ItemCotacao> itens = new ArrayList<>(carrinho.linhas.size());
+            for (Linha linha : carrinho.linhas.values()) {
+                itens.add(new ItemCotacao(linha.produtoId, linha.nome, linha.quantidade,
+                        Money.deCentavos(linha.precoCentavos).toBigDecimal(),
+                        Money.deCentavos(Math.multiplyExact(linha.precoCentavos, linha.quantidade)).toBigDecimal()));
+            }
+            return Optional.of(new Cotacao(carrinho.id, carrinho.clienteId, carrinho.restauranteId, itens,
+                    carrinho.quantidadeItens, Money.deCentavos(carrinho.totalCentavos).toBigDecimal()));
+        } finally {
+            carrinho.trava.unlock();
+        }
+    }
+
+    @Override
+    public Pedido finalizar(String carrinhoId, Endereco enderecoEntrega) {
+        Carrinho carrinho = obter(carrinhoId);
+        List<ItemPedidoRequest> itens;
+        carrinho.trava.lock();
+        try {
+            if (carrinho.finalizado) {
+                throw new RuntimeException("Carrinho não encontrado");
+            }
+            if (carrinho.finalizando) {
+                throw new RuntimeException("Carrinho já está sendo finalizado");
+            }
+            if (carrinho.linhas.isEmpty()) {
+                throw new RuntimeException("Carrinho vazio");
+            }
+            itens = new ArrayList<>(carrinho.linhas.size());
+            for (Linha linha : carrinho.linhas.values()) {
+                itens.add(new ItemPedidoRequest(linha.produtoId, linha.quantidade));
+            }
+            carrinho.finalizando = true;
+        } finally {
+            carrinho.trava.unlock();
+        }
+
+        // Fora do lock: a criação do pedido abre transação e vai ao banco
+        Pedido pedido;
+        try {
+            pedido = pedidoService.criarPedido(
+                    new PedidoRequest(carrinho.clienteId, carrinho.restauranteId, enderecoEntrega, itens));
+        } catch (RuntimeException e) {
+            carrinho.trava.lock();
+            try {
+                carrinho.finalizando = false;
+            } finally {
+                carrinho.trava.unlock();
+            }
+            throw e;
+        }
+        carrinho.trava.lock();
+        try {
+            carrinho.finalizado = true;
+        } finally {
+            carrinho.trava.unlock();
+        }
+        carrinhos.remove(carrinhoId, carrinho);
+        return pedido;
+    }
+
+    @Override
+    public boolean descartar(String carrinhoId) {
+        return carrinhos.remove(carrinhoId) != null;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${delivery.carrinho.limpeza-ms:60000}")
+    public int removerOciosos() {
+        long limite = relogio.getAsLong() - ociosoMs;
+        int antes = carrinhos.size();
+        carrinhos.values().removeIf(carrinho -> carrinho.ultimoAcesso < limite);
+        int removidos = Math.max(0, antes - carrinhos.size());
+        if (removidos > 0) {
+            logger.debug("{} carrinhos ociosos descartados", removidos);
+        }
+        return removidos;
+    }
+
+    private Carrinho obter(String carrinhoId) {
+        Carrinho carrinho = carrinhos.get(carrinhoId);
+        if (carrinho == null) {
+            throw new RuntimeException("Carrinho não encontrado");
+        }
+        return carrinho;
+    }
+
+    // Chamado com o carrinho travado
+    private Resumo alterar(Carrinho carrinho, Long produtoId, int quantidade) {
+        if (carrinho.finalizado) {
+            throw new RuntimeException("Carrinho não encontrado");
+        }
+        if (carrinho.finalizando) {
+            throw new RuntimeException("Carrinho já está sendo finalizado");
+        }
+        carrinho.ultimoAcesso = relogio.getAsLong();
+        Linha linha = carrinho.linhas.get(produtoId);
+        if (linha == null) {
+            if (quantidade == 0) {
+                return carrinho.resumo();
+            }
+            linha = novaLinha(carrinho, produtoId);
+            carrinho.linhas.put(produtoId, linha);
+        }
+
+        int diferenca = quantidade - linha.quantidade;
+        carrinho.totalCentavos = Math.addExact(carrinho.totalCentavos, Math.multiplyExact(linha.precoCentavos, diferenca));
+        carrinho.quantidadeItens += diferenca;
+        linha.quantidade = quantidade;
+        if (quantidade == 0) {
+            carrinho.linhas.remove(produtoId);
+        }
+        return carrinho.resumo();
+    }
+
+    private Linha novaLinha(Carrinho carrinho, Long produtoId) {
+        Produto produto = produtoRepository.findById(produtoId)
+                .orElseThrow(() -> new RuntimeException("Produto não encontrado: " + produtoId));
+        if (produto.getRestaurante() == null || !carrinho.restauranteId.equals(produto.getRestaurante().getId())) {
+            throw new RuntimeException("Produto não pertence ao restaurante do carrinho");
+        }
+        if (!Boolean.TRUE.equals(produto.getDisponivel())) {
+            throw new RuntimeException("Produto indisponível: " + produtoId);
+        }
+        if (produto.getPreco() == null) {
+            throw new RuntimeException("Produto sem preço: " + produtoId);
+        }
+        return new Linha(produtoId, produto.getNome(), produto.getPreco().centavos());
+    }
+
+    private static final class Carrinho {
+
+        private final String id;
+        private final Long clienteId;
+        private final Long restauranteId;
+        private final ReentrantLock trava = new ReentrantLock();
+        private final Map<Long, Linha> linhas = new LinkedHashMap<>();
+        private long totalCentavos;
+        private int quantidadeItens;
+        private boolean finalizando;
+        private boolean finalizado;
+        private volatile long ultimoAcesso;
+
+        Carrinho(String id, Long clienteId, Long restauranteId, long agora) {
+            this.id = id;
+            this.clienteId = clienteId;
+            this.restauranteId = restauranteId;
+            this.ultimoAcesso = agora;
+        }
+
+        Resumo resumo() {
+            return new Resumo(id, quantidadeItens, Money.deCentavos(totalCentavos).toBigDecimal());
+        }
+    }
+
+    private static final class Linha {
+
+        private final Long produtoId;
+        private final String nome;
+        private final long precoCentavos;
+        private int quantidade;
+
+        Linha(Long produtoId, String nome, long precoCentavos) {
+            this.produtoId = produtoId;
+            this.nome = nome;
+            this.precoCentavos = precoCentavos;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverytech.delivery.config.ReplicadorReferencias;
+import com.deliverytech.delivery.dto.request.ClienteRequest;
+import com.deliverytech.delivery.model.Endereco;
+import com.deliverytech.delivery.service.ClienteLoteService;
+import com.deliverytech.delivery.service.FiltroEmailService;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cadastro de clientes em lote para parceiros: valida cada registro com as anotações de
+ * ClienteRequest (o mesmo Validator do @Valid do cadastro avulso), descarta emails repetidos
+ * dentro do próprio lote, verifica os já cadastrados com uma consulta IN por lote JDBC e grava
+ * via JDBC batch, sem ModelMapper nem entidades. Cada lote JDBC é gravado na própria transação.
+ *
+ * Um email cadastrado por outra requisição entre a verificação e a gravação faz a constraint
+ * uk_cliente_email derrubar o lote inteiro; nesse caso o lote é refeito registro a registro
+ * para isolar os conflitos (e valores que o banco recusa, como textos longos demais).
+ */
+@Service
+@RequiredArgsConstructor
+public class ClienteLoteServiceImpl implements ClienteLoteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteLoteServiceImpl.class);
+
+    private static final String INSERT_CLIENTE = "INSERT INTO cliente (nome, telefone, rua, numero, bairro, cidade, "
+            + "estado, cep, latitude, longitude, email, ativo, data_criacao) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FiltroEmailService filtroEmailService;
+    private final Validator validator;
+    private final Optional<ReplicadorReferencias> replicadorReferencias;
+
+    @Value("${delivery.clientes.lote-maximo:5000}")
+    private int loteMaximo;
+
+    @Value("${delivery.clientes.lote-jdbc:500}")
+    private int loteJdbc;
+
+    @Override
+    public Resultado cadastrar(List<ClienteRequest> clientes) {
+        if (clientes == null || clientes.isEmpty()) {
+            throw new RuntimeException("Lote vazio");
+        }
+        if (clientes.size() > loteMaximo) {
+            throw new RuntimeException("Lote excede " + loteMaximo + " clientes");
+        }
+        long inicio = System.currentTimeMillis();
+        long maiorIdAnterior = maiorIdCliente();
+        Registro[] registros = new Registro[clientes.size()];
+        Map<String, Integer> primeiroIndice = new HashMap<>();
+        List<Pendente> pendentes = new ArrayList<>(clientes.size());
+
+        for (int indice = 0; indice < clientes.size(); indice++) {
+            ClienteRequest dto = clientes.get(indice);
+            String erro = validar(dto);
+            if (erro != null) {
+                registros[indice] = new Registro(indice, dto != null ? dto.getEmail() : null, Situacao.INVALIDO, null, erro);
+                continue;
+            }
+            String email = dto.getEmail().toLowerCase();
+            Integer anterior = primeiroIndice.putIfAbsent(email, indice);
+            if (anterior != null) {
+                registros[indice] = new Registro(indice, email, Situacao.DUPLICADO_NO_LOTE, null,
+                        "Email repetido no lote (registro " + anterior + ")");
+                continue;
+            }
+            pendentes.add(new Pendente(indice, email, dto));
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        for (int de = 0; de < pendentes.size(); de += loteJdbc) {
+            List<Pendente> lote = pendentes.subList(de, Math.min(de + loteJdbc, pendentes.size()));
+            Set<String> existentes = emailsCadastrados(lote);
+            List<Pendente> novos = new ArrayList<>(lote.size());
+            for (Pendente pendente : lote) {
+                if (existentes.contains(pendente.email())) {
+                    registros[pendente.indice()] = jaCadastrado(pendente);
+                } else {
+                    novos.add(pendente);
+                }
+            }
+            gravar(novos, agora, registros);
+        }
+
+        int cadastrados = 0;
+        for (Registro registro : registros) {
+            if (registro.situacao() == Situacao.CADASTRADO) {
+                cadastrados++;
+            }
+        }
+        if (cadastrados > 0) {
+            replicadorReferencias.ifPresent(r -> r.replicarNovos("cliente", maiorIdAnterior));
+        }
+        long duracao = System.currentTimeMillis() - inicio;
+        logger.info("Cadastro em lote: {} clientes cadastrados, {} rejeitados em {} ms",
+                cadastrados, registros.length - cadastrados, duracao);
+        return new Resultado(cadastrados, registros.length - cadastrados, List.of(registros), duracao);
+    }
+
+    private void gravar(List<Pendente> novos, LocalDateTime agora, Registro[] registros) {
+        if (novos.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Long> ids = transactionTemplate.execute(status -> inserir(novos, agora));
+            cadastrados(novos, ids, registros);
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Lote de {} clientes recusado pelo banco; gravando um a um", novos.size());
+            for (Pendente pendente : novos) {
+                try {
+                    Map<String, Long> ids = transactionTemplate.execute(status -> inserir(List.of(pendente), agora));
+                    cadastrados(List.of(pendente), ids, registros);
+                } catch (DuplicateKeyException conflito) {
+                    registros[pendente.indice()] = jaCadastrado(pendente);
+                } catch (DataIntegrityViolationException recusado) {
+                    registros[pendente.indice()] = new Registro(pendente.indice(), pendente.email(), Situacao.INVALIDO,
+                            null, "Dados recusados pelo banco");
+                }
+            }
+        }
+    }
+
+    // Insere e devolve os ids gerados por email, lidos na mesma transação
+    private Map<String, Long> inserir(List<Pendente> novos, LocalDateTime agora) {
+        Timestamp dataCriacao = Timestamp.valueOf(agora);
+        List<Object[]> linhas = new ArrayList<>(novos.size());
+        for (Pendente pendente : novos) {
+            ClienteRequest dto = pendente.dto();
+            Endereco endereco = dto.getEndereco();
+            linhas.add(new Object[] { dto.getNome(), dto.getTelefone(), endereco.getRua(), endereco.getNumero(),
+                    endereco.getBairro(), endereco.getCidade(), endereco.getEstado(), endereco.getCep(),
+                    endereco.getLatitude(), endereco.getLongitude(), pendente.email(), true, dataCriacao });
+        }
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_CLIENTE, linhas);
+
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, email FROM cliente WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", novos.stream().map(Pendente::email).toList()),
+                rs -> {
+                    ids.put(rs.getString("email"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    private void cadastrados(List<Pendente> novos, Map<String, Long> ids, Registro[] registros) {
+        for (Pendente pendente : novos) {
+            filtroEmailService.registrar(pendente.email());
+            registros[pendente.indice()] = new Registro(pendente.indice(), pendente.email(), Situacao.CADASTRADO,
+                    ids != null ? ids.get(pendente.email()) : null, null);
+        }
+    }
+
+    private Set<String> emailsCadastrados(List<Pendente> lote) {
+        Set<String> existentes = new HashSet<>();
+        jdbcTemplate.query("SELECT email FROM cliente WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", lote.stream().map(Pendente::email).toList()),
+                rs -> {
+                    existentes.add(rs.getString(1));
+                });
+        return existentes;
+    }
+
+    private long maiorIdCliente() {
+        Long maior = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COALESCE(MAX(id), 0) FROM cliente", Long.class);
+        return maior != null ? maior : 0L;
+    }
+
+    private static Registro jaCadastrado(Pendente pendente) {
+        return new Registro(pendente.indice(), pendente.email(), Situacao.EMAIL_JA_CADASTRADO, null, "Email já cadastrado");
+    }
+
+    // Todas as violações do registro, "campo: mensagem" em ordem de campo; null se válido
+    private String validar(ClienteRequest dto) {
+        if (dto == null) {
+            return "Registro vazio";
+        }
+        Set<ConstraintViolation<ClienteRequest>> violacoes = validator.validate(dto);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private record Pendente(int indice, String email, ClienteRequest dto) {
+    }
+}
@@ -3,7 +3,9 @@ package com.deliverytech.delivery.service.impl;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +13,7 @@ import com.deliverytech.delivery.dto.request.ClienteRequest;
 import com.deliverytech.delivery.model.Cliente;
 import com.deliverytech.delivery.repository.ClienteRepository;
 import com.deliverytech.delivery.service.ClienteService;
+import com.deliverytech.delivery.service.FiltroEmailService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,13 +21,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Transactional
 public class ClienteServiceImpl implements ClienteService {
+
+    private static final String UK_CLIENTE_EMAIL = "uk_cliente_email";
     
     private final ClienteRepository clienteRepository;
     private final ModelMapper modelMapper;
+    private final FiltroEmailService filtroEmailService;
     
     @Override
     public Cliente cadastrarCliente(ClienteRequest dto) {
-        if (clienteRepository.existsByEmail(dto.getEmail().toLowerCase())) {
+        if (filtroEmailService.existe(dto.getEmail().toLowerCase(), clienteRepository::existsByEmail)) {
             throw new RuntimeException("Email já cadastrado");
         }
         
@@ -32,7 +38,7 @@ public class ClienteServiceImpl implements ClienteService {
         cliente.setEmail(dto.getEmail().toLowerCase());
         cliente.setAtivo(true);
         
-        return clienteRepository.save(cliente);
+        return salvar(cliente);
     }
 
     @Override
@@ -52,14 +58,14 @@ public class ClienteServiceImpl implements ClienteService {
         return clienteRepository.findById(id)
                 .map(cliente -> {
                     if (!cliente.getEmail().equals(dto.getEmail().toLowerCase()) &&
-                        clienteRepository.existsByEmail(dto.getEmail().toLowerCase())) {
+                        filtroEmailService.existe(dto.getEmail().toLowerCase(), clienteRepository::existsByEmail)) {
                         throw new RuntimeException("Email já cadastrado");
                     }
                     
                     modelMapper.map(dto, cliente);
                     cliente.setEmail(dto.getEmail().toLowerCase());
                     
-                    return clienteRepository.save(cliente);
+                    return salvar(cliente);
                 }).orElseThrow(() -> new RuntimeException("Cliente não encontrado"));
     }
 
@@ -97,4 +103,33 @@ public class ClienteServiceImpl implements ClienteService {
     public List<Cliente> buscarClientesPorEmail(String email) {
         return clienteRepository.findByEmailContainingIgnoreCase(email);
     }
+
+    /**
+     * Grava e registra o email no filtro. O filtro pode pular a verificação prévia, então a
+     * constraint de email único é quem barra a duplicata; o flush imediato faz a violação
+     * aparecer aqui, e não no commit.
+     */
+    private Cliente salvar(Cliente cliente) {
+        Cliente salvo;
+        try {
+            salvo = clienteRepository.saveAndFlush(cliente);
+        } catch (DataIntegrityViolationException e) {
+            if (violouEmailUnico(e)) {
+                throw new RuntimeException("Email já cadastrado");
+            }
+            throw e;
+        }
+        filtroEmailService.registrar(salvo.getEmail());
+        return salvo;
+    }
+
+    // O H2 informa o índice da constraint (PUBLIC.UK_CLIENTE_EMAIL_INDEX_8); outros bancos, o nome dela
+    private static boolean violouEmailUnico(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException violacao) || violacao.getConstraintName() == null) {
+            return false;
+        }
+        String nome = violacao.getConstraintName();
+        nome = nome.substring(nome.lastIndexOf('.') + 1).toLowerCase();
+        return nome.equals(UK_CLIENTE_EMAIL) || nome.startsWith(UK_CLIENTE_EMAIL + "_index");
+    }
 }
@@ -0,0 +1,191 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery.event.PedidoAlteradoEvent;
+import com.deliverytech.delivery.event.RestauranteAlteradoEvent;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.EtaService;
+import com.deliverytech.delivery.service.FilaCozinhaService;
+
+/**
+ * Estimativa de entrega a partir da carga atual de cada restaurante.
+ * A carga vem do tamanho da fila da cozinha; o tempo de preparo é a média de uma janela
+ * deslizante (buckets de tempo) das durações EM_PREPARACAO -> ENVIADO observadas nos eventos.
+ *
+ * ETA = tempoEntregaMinutos + excesso do preparo médio sobre o padrão
+ *       + preparo médio * pedidos abertos / pedidos simultâneos.
+ */
+@Service
+@Lazy(false)
+public class EtaServiceImpl implements EtaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EtaServiceImpl.class);
+
+    private static final int BUCKETS = 12;
+
+    private final RestauranteRepository restauranteRepository;
+    private final FilaCozinhaService filaCozinhaService;
+    private final LongSupplier relogio;
+    private final long bucketMs;
+    private final double preparoPadraoMinutos;
+    private final int pedidosSimultaneos;
+    private final int amostrasMinimas;
+    private final long inicioExpiraMs;
+
+    private final ConcurrentHashMap<Long, Integer> temposBase = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, JanelaPreparo> janelas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> iniciosPreparo = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EtaServiceImpl(RestauranteRepository restauranteRepository, FilaCozinhaService filaCozinhaService,
+            Environment environment) {
+        this(restauranteRepository, filaCozinhaService, environment, System::currentTimeMillis);
+    }
+
+    public EtaServiceImpl(RestauranteRepository restauranteRepository, FilaCozinhaService filaCozinhaService,
+            Environment environment, LongSupplier relogio) {
+        this.restauranteRepository = restauranteRepository;
+        this.filaCozinhaService = filaCozinhaService;
+        this.relogio = relogio;
+        this.bucketMs = Math.max(1, TimeUnit.MINUTES.toMillis(
+                environment.getProperty("delivery.eta.janela-minutos", Long.class, 60L)) / BUCKETS);
+        this.preparoPadraoMinutos = environment.getProperty("delivery.eta.preparo-padrao-minutos", Double.class, 15.0);
+        this.pedidosSimultaneos = Math.max(1, environment.getProperty("delivery.eta.pedidos-simultaneos", Integer.class, 4));
+        this.amostrasMinimas = environment.getProperty("delivery.eta.amostras-minimas", Integer.class, 5);
+        this.inicioExpiraMs = TimeUnit.HOURS.toMillis(
+                environment.getProperty("delivery.eta.preparo-expira-horas", Long.class, 6L));
+    }
+
+    @Override
+    public Optional<Estimativa> estimar(Long restauranteId) {
+        Integer tempoBase = temposBase.get(restauranteId);
+        if (tempoBase == null) {
+            return Optional.empty();
+        }
+        return Optional.of(calcular(restauranteId, tempoBase));
+    }
+
+    @Override
+    public int estimarMinutos(Long restauranteId, Integer tempoBase) {
+        return calcular(restauranteId, tempoBase != null ? tempoBase : 0).minutos();
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarPedido(PedidoAlteradoEvent evento) {
+        long agora = relogio.getAsLong();
+        StatusPedido status = evento.statusAtual();
+        if (status == StatusPedido.CRIADO) {
+            iniciosPreparo.putIfAbsent(evento.pedidoId(), agora);
+        } else if (status == StatusPedido.EM_PREPARACAO) {
+            iniciosPreparo.put(evento.pedidoId(), agora);
+        } else if (status == StatusPedido.ENVIADO) {
+            Long inicio = iniciosPreparo.remove(evento.pedidoId());
+            if (inicio != null) {
+                janelas.computeIfAbsent(evento.restauranteId(), id -> new JanelaPreparo(bucketMs))
+                        .registrar(agora, agora - inicio);
+            }
+        } else if (status == StatusPedido.ENTREGUE || status == StatusPedido.CANCELADO) {
+            iniciosPreparo.remove(evento.pedidoId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarRestaurante(RestauranteAlteradoEvent evento) {
+        if (evento.removido()) {
+            temposBase.remove(evento.restauranteId());
+            janelas.remove(evento.restauranteId());
+        } else if (evento.tempoEntregaMinutos() != null) {
+            temposBase.put(evento.restauranteId(), evento.tempoEntregaMinutos());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarTemposBase() {
+        for (Object[] linha : restauranteRepository.findTemposEntrega()) {
+            if (linha[1] != null) {
+                temposBase.putIfAbsent((Long) linha[0], (Integer) linha[1]);
+            }
+        }
+        logger.info("Estimador de entrega carregado para {} restaurantes", temposBase.size());
+    }
+
+    // Pedidos que nunca chegaram a ENVIADO (ou iniciados antes de um restart) não devem acumular
+    @Scheduled(fixedDelayString = "${delivery.eta.limpeza-ms:600000}")
+    public void removerPreparosExpirados() {
+        long limite = relogio.getAsLong() - inicioExpiraMs;
+        iniciosPreparo.values().removeIf(inicio -> inicio < limite);
+    }
+
+    private Estimativa calcular(Long restauranteId, int tempoBase) {
+        int abertos = filaCozinhaService.tamanho(restauranteId);
+        JanelaPreparo janela = janelas.get(restauranteId);
+        long[] somaEQuantidade = janela != null ? janela.somaEQuantidade(relogio.getAsLong()) : new long[2];
+        int amostras = (int) somaEQuantidade[1];
+
+        double preparoMedio = amostras >= amostrasMinimas
+                ? somaEQuantidade[0] / (double) amostras / TimeUnit.MINUTES.toMillis(1)
+                : preparoPadraoMinutos;
+        double minutos = tempoBase
+                + Math.max(0, preparoMedio - preparoPadraoMinutos)
+                + preparoMedio * abertos / pedidosSimultaneos;
+
+        return new Estimativa(restauranteId, (int) Math.ceil(minutos), tempoBase, abertos, preparoMedio, amostras);
+    }
+
+    /**
+     * Janela circular de BUCKETS intervalos; cada bucket guarda a época a que pertence e é
+     * reaproveitado quando a janela avança. Leitura e escrita são O(BUCKETS).
+     */
+    static final class JanelaPreparo {
+
+        private final long bucketMs;
+        private final long[] epocas = new long[BUCKETS];
+        private final long[] somas = new long[BUCKETS];
+        private final long[] quantidades = new long[BUCKETS];
+
+        JanelaPreparo(long bucketMs) {
+            this.bucketMs = bucketMs;
+        }
+
+        synchronized void registrar(long agora, long duracaoMs) {
+            long epoca = agora / bucketMs;
+            int indice = (int) (epoca % BUCKETS);
+            if (epocas[indice] != epoca) {
+                epocas[indice] = epoca;
+                somas[indice] = 0;
+                quantidades[indice] = 0;
+            }
+            somas[indice] += duracaoMs;
+            quantidades[indice]++;
+        }
+
+        synchronized long[] somaEQuantidade(long agora) {
+            long epocaAtual = agora / bucketMs;
+            long soma = 0;
+            long quantidade = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (epocaAtual - epocas[i] < BUCKETS) {
+                    soma += somas[i];
+                    quantidade += quantidades[i];
+                }
+            }
+            return new long[] { soma, quantidade };
+        }
+    }
+}
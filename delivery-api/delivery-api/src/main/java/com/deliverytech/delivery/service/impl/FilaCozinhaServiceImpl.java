@@ -0,0 +1,187 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery.event.PedidoAlteradoEvent;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.repository.PedidoRepository;
+import com.deliverytech.delivery.service.FilaCozinhaService;
+import com.deliverytech.delivery.service.ShardingService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Filas da cozinha mantidas em memória, uma por restaurante.
+ * Cada fila é um ConcurrentSkipListSet ordenado por prioridade (maior primeiro), dataPedido e id;
+ * o índice pedidoId -> item serializa as atualizações de um mesmo pedido via compute() e é a
+ * fonte do estado atual: a fila guarda só a posição, então uma troca de status é uma única
+ * escrita no índice. A leitura dos próximos N não trava nem consulta o banco.
+ * O tamanho de cada fila é um contador mantido junto com o índice, já que size() do
+ * ConcurrentSkipListSet percorre a fila inteira.
+ */
+@Service
+@RequiredArgsConstructor
+@Lazy(false)
+public class FilaCozinhaServiceImpl implements FilaCozinhaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilaCozinhaServiceImpl.class);
+
+    private static final Comparator<ItemFila> ORDEM_PREPARO = Comparator
+            .comparingInt(ItemFila::prioridade).reversed()
+            .thenComparing(ItemFila::dataPedido)
+            .thenComparing(ItemFila::pedidoId);
+
+    private final PedidoRepository pedidoRepository;
+    private final ShardingService shardingService;
+
+    private final ConcurrentMap<Long, Fila> filas = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, ItemFila> indice = new ConcurrentHashMap<>();
+
+    // Eventos recebidos enquanto o banco é lido; reaplicados sobre o que a leitura carregou
+    private volatile Queue<PedidoAlteradoEvent> eventosDuranteReconstrucao;
+    private final AtomicBoolean reconstruindo = new AtomicBoolean();
+
+    @TransactionalEventListener
+    public void aoAlterarPedido(PedidoAlteradoEvent evento) {
+        Queue<PedidoAlteradoEvent> pendentes = eventosDuranteReconstrucao;
+        if (pendentes != null) {
+            pendentes.add(evento);
+        }
+        aplicar(evento);
+    }
+
+    private void aplicar(PedidoAlteradoEvent evento) {
+        if (STATUS_NA_FILA.contains(evento.statusAtual())) {
+            indice.compute(evento.pedidoId(), (id, atual) -> {
+                int prioridade = atual != null ? atual.prioridade() : 0;
+                return substituir(atual, new ItemFila(id, evento.restauranteId(), evento.statusAtual(),
+                        evento.dataPedido(), prioridade));
+            });
+        } else {
+            indice.computeIfPresent(evento.pedidoId(), (id, atual) -> substituir(atual, null));
+        }
+    }
+
+    @Override
+    public List<ItemFila> proximos(Long restauranteId, int limite) {
+        Fila fila = filas.get(restauranteId);
+        if (fila == null || limite <= 0) {
+            return List.of();
+        }
+        List<ItemFila> resultado = new ArrayList<>(Math.min(limite, 64));
+        for (ItemFila posicao : fila.itens) {
+            // Durante uma troca de prioridade a posição antiga pode ainda estar visível
+            ItemFila atual = indice.get(posicao.pedidoId());
+            if (atual != null && ORDEM_PREPARO.compare(atual, posicao) == 0) {
+                resultado.add(atual);
+                if (resultado.size() == limite) {
+                    break;
+                }
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public boolean priorizar(Long pedidoId, int prioridade) {
+        ItemFila atualizado = indice.computeIfPresent(pedidoId, (id, atual) -> substituir(atual,
+                new ItemFila(id, atual.restauranteId(), atual.status(), atual.dataPedido(), prioridade)));
+        return atualizado != null;
+    }
+
+    @Override
+    public int tamanho(Long restauranteId) {
+        Fila fila = filas.get(restauranteId);
+        return fila != null ? fila.tamanho.get() : 0;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        if (!reconstruindo.compareAndSet(false, true)) {
+            return;
+        }
+        long inicio = System.currentTimeMillis();
+        int carregados = 0;
+        Queue<PedidoAlteradoEvent> pendentes = new ConcurrentLinkedQueue<>();
+        eventosDuranteReconstrucao = pendentes;
+        try {
+            List<Object[]> linhas = shardingService.executarEmTodos(() -> pedidoRepository.findResumoPorStatus(STATUS_NA_FILA))
+                    .stream().flatMap(List::stream).toList();
+            for (Object[] linha : linhas) {
+                ItemFila item = new ItemFila((Long) linha[0], (Long) linha[1], (StatusPedido) linha[2],
+                        (LocalDateTime) linha[3], 0);
+                if (indice.putIfAbsent(item.pedidoId(), item) == null) {
+                    Fila fila = fila(item.restauranteId());
+                    fila.itens.add(item);
+                    fila.tamanho.incrementAndGet();
+                    carregados++;
+                }
+            }
+            // A leitura pode ser anterior a um evento já aplicado (um pedido entregue voltaria à
+            // fila); reaplicar os eventos do período, em ordem, deixa o estado igual ao do último
+            PedidoAlteradoEvent evento;
+            while ((evento = pendentes.poll()) != null) {
+                aplicar(evento);
+            }
+        } finally {
+            // Quem ainda enfileirar depois daqui aplica o evento diretamente, após a carga
+            eventosDuranteReconstrucao = null;
+            reconstruindo.set(false);
+        }
+        logger.info("Filas da cozinha reconstruídas: {} pedidos em {} restaurantes em {} ms",
+                carregados, filas.size(), System.currentTimeMillis() - inicio);
+    }
+
+    // Mesma posição (só o status mudou): a fila não muda e a troca é a escrita no índice.
+    // Posição nova: insere antes de remover a antiga para que o pedido nunca suma da fila.
+    // O contador segue o índice (um pedido por fila), não as duas posições da troca.
+    private ItemFila substituir(ItemFila atual, ItemFila novo) {
+        if (atual != null && novo != null && ORDEM_PREPARO.compare(atual, novo) == 0) {
+            return novo;
+        }
+        boolean mesmaFila = atual != null && novo != null && atual.restauranteId().equals(novo.restauranteId());
+        if (novo != null) {
+            Fila fila = fila(novo.restauranteId());
+            fila.itens.add(novo);
+            if (!mesmaFila) {
+                fila.tamanho.incrementAndGet();
+            }
+        }
+        if (atual != null) {
+            Fila fila = fila(atual.restauranteId());
+            fila.itens.remove(atual);
+            if (!mesmaFila) {
+                fila.tamanho.decrementAndGet();
+            }
+        }
+        return novo;
+    }
+
+    private Fila fila(Long restauranteId) {
+        return filas.computeIfAbsent(restauranteId, id -> new Fila());
+    }
+
+    private static final class Fila {
+        private final ConcurrentSkipListSet<ItemFila> itens = new ConcurrentSkipListSet<>(ORDEM_PREPARO);
+        private final AtomicInteger tamanho = new AtomicInteger();
+    }
+}
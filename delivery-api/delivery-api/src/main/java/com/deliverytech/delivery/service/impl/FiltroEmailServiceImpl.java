@@ -0,0 +1,156 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.config.FiltroBloom;
+import com.deliverytech.delivery.service.FiltroEmailService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Filtro de Bloom com os emails de cliente, exatamente como gravados (o ClienteService já os
+ * normaliza em minúsculas antes de gravar e de consultar). Quando o filtro responde "ausente"
+ * a consulta ao banco é pulada; a constraint uk_cliente_email continua sendo a garantia final.
+ *
+ * Até a primeira carga (ApplicationReadyEvent) e com o filtro desligado, toda verificação vai
+ * ao banco. Como o filtro não remove elementos, emails trocados ou clientes apagados só viram
+ * falsos positivos, que também vão ao banco. Quando os elementos passam da capacidade, o
+ * filtro é reconstruído com o dobro do tamanho atual da tabela; durante a reconstrução as
+ * gravações entram no filtro antigo e no novo.
+ */
+@Service
+@Lazy(false)
+@RequiredArgsConstructor
+public class FiltroEmailServiceImpl implements FiltroEmailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FiltroEmailServiceImpl.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${delivery.filtro-email.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${delivery.filtro-email.taxa-falso-positivo:0.01}")
+    private double taxaFalsoPositivo;
+
+    @Value("${delivery.filtro-email.capacidade-minima:100000}")
+    private long capacidadeMinima;
+
+    private volatile FiltroBloom filtro;
+    private volatile FiltroBloom emConstrucao;
+    private final AtomicBoolean reconstruindo = new AtomicBoolean();
+
+    private final LongAdder consultas = new LongAdder();
+    private final LongAdder consultasEvitadas = new LongAdder();
+    private final LongAdder positivos = new LongAdder();
+    private final LongAdder falsosPositivos = new LongAdder();
+    private final LongAdder reconstrucoes = new LongAdder();
+
+    @Override
+    public boolean existe(String email, Predicate<String> consulta) {
+        FiltroBloom atual = filtro;
+        if (atual == null || email == null) {
+            return consulta.test(email);
+        }
+        consultas.increment();
+        if (!atual.podeConter(email)) {
+            consultasEvitadas.increment();
+            return false;
+        }
+        positivos.increment();
+        boolean existe = consulta.test(email);
+        if (!existe) {
+            falsosPositivos.increment();
+        }
+        return existe;
+    }
+
+    @Override
+    public void registrar(String email) {
+        if (email == null) {
+            return;
+        }
+        // Primeiro o filtro em construção: depois da troca ele é o atual e a gravação já está nele
+        FiltroBloom novo = emConstrucao;
+        if (novo != null) {
+            novo.adicionar(email);
+        }
+        FiltroBloom atual = filtro;
+        if (atual != null) {
+            atual.adicionar(email);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        reconstruir();
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.filtro-email.intervalo-verificacao-ms:60000}")
+    public void verificarCapacidade() {
+        FiltroBloom atual = filtro;
+        if (atual != null && atual.getInseridos() > atual.getCapacidade()) {
+            logger.info("Filtro de emails com {} elementos para capacidade {}; reconstruindo",
+                    atual.getInseridos(), atual.getCapacidade());
+            reconstruir();
+        }
+    }
+
+    @Override
+    public void reconstruir() {
+        if (!habilitado || !reconstruindo.compareAndSet(false, true)) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        try {
+            Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cliente", Long.class);
+            FiltroBloom novo = new FiltroBloom(Math.max(capacidadeMinima, (total != null ? total : 0) * 2),
+                    taxaFalsoPositivo);
+            emConstrucao = novo;
+            jdbcTemplate.query("SELECT email FROM cliente WHERE email IS NOT NULL", rs -> {
+                novo.adicionar(rs.getString(1));
+            });
+            filtro = novo;
+            reconstrucoes.increment();
+            logger.info("Filtro de emails carregado: {} emails, {} bits, {} funções de hash em {} ms",
+                    novo.getInseridos(), novo.getBits(), novo.getFuncoesHash(), (System.nanoTime() - inicio) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Mantém o filtro anterior (ou nenhum, e tudo vai ao banco) até a próxima tentativa
+            logger.warn("Falha ao carregar o filtro de emails: {}", e.getMessage());
+        } finally {
+            emConstrucao = null;
+            reconstruindo.set(false);
+        }
+    }
+
+    @Override
+    public Estatisticas estatisticas() {
+        FiltroBloom atual = filtro;
+        long evitadas = consultasEvitadas.sum();
+        long totalFalsosPositivos = falsosPositivos.sum();
+        // Falsos positivos sobre as consultas de emails que não existiam
+        long ausentes = evitadas + totalFalsosPositivos;
+        return new Estatisticas(atual != null,
+                atual != null ? atual.getBits() : 0,
+                atual != null ? atual.getFuncoesHash() : 0,
+                atual != null ? atual.getCapacidade() : 0,
+                atual != null ? atual.getInseridos() : 0,
+                taxaFalsoPositivo,
+                atual != null ? atual.taxaFalsoPositivoEstimada() : 0,
+                consultas.sum(), evitadas, positivos.sum(), totalFalsosPositivos,
+                ausentes > 0 ? (double) totalFalsosPositivos / ausentes : 0,
+                reconstrucoes.sum());
+    }
+}
@@ -0,0 +1,120 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.service.IdempotenciaService;
+
+/**
+ * Guarda o resultado de cada chave por delivery.idempotencia.ttl-minutos, em memória.
+ * A primeira chamada registra um CompletableFuture via putIfAbsent e executa a ação;
+ * duplicatas concorrentes aguardam esse future em vez de executar de novo.
+ * Se a ação falhar (inclusive com Error) a chave é liberada e o future concluído com a falha,
+ * para que as duplicatas em espera não fiquem presas e um novo retry possa tentar outra vez.
+ * Com o limite de chaves atingido (mesmo após remover as expiradas) a ação roda sem ser guardada.
+ */
+@Service
+public class IdempotenciaServiceImpl implements IdempotenciaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotenciaServiceImpl.class);
+
+    private final LongSupplier relogio;
+    private final long ttlMs;
+    private final int maxChaves;
+
+    private final ConcurrentHashMap<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotenciaServiceImpl(Environment environment) {
+        this(environment, System::currentTimeMillis);
+    }
+
+    public IdempotenciaServiceImpl(Environment environment, LongSupplier relogio) {
+        this.relogio = relogio;
+        this.ttlMs = TimeUnit.MINUTES.toMillis(
+                environment.getProperty("delivery.idempotencia.ttl-minutos", Long.class, 1440L));
+        this.maxChaves = environment.getProperty("delivery.idempotencia.max-chaves", Integer.class, 100_000);
+    }
+
+    @Override
+    public <T> Resultado<T> executar(String chave, Object requisicao, Supplier<T> acao) {
+        long agora = relogio.getAsLong();
+        if (entradas.size() >= maxChaves && removerExpiradas() == 0 && entradas.size() >= maxChaves) {
+            logger.warn("Limite de chaves de idempotência atingido; executando sem guardar a chave {}", chave);
+            return new Resultado<>(acao.get(), false);
+        }
+
+        Entrada nova = new Entrada(new CompletableFuture<>(), requisicao, agora + ttlMs);
+        while (true) {
+            Entrada atual = entradas.putIfAbsent(chave, nova);
+            if (atual == null) {
+                break;
+            }
+            if (atual.expiraEm() <= agora) {
+                if (entradas.replace(chave, atual, nova)) {
+                    break;
+                }
+                continue;
+            }
+            if (!Objects.equals(atual.requisicao(), requisicao)) {
+                logger.warn("Idempotency-Key {} reutilizada com outra requisição", chave);
+                return Resultado.comConflito();
+            }
+            return new Resultado<>(aguardar(atual), true);
+        }
+
+        try {
+            T valor = acao.get();
+            nova.resultado().complete(valor);
+            return new Resultado<>(valor, false);
+        } catch (Throwable e) {
+            entradas.remove(chave, nova);
+            nova.resultado().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.idempotencia.limpeza-ms:60000}")
+    public int removerExpiradas() {
+        long agora = relogio.getAsLong();
+        int antes = entradas.size();
+        entradas.values().removeIf(entrada -> entrada.expiraEm() <= agora && entrada.resultado().isDone());
+        int removidas = Math.max(0, antes - entradas.size());
+        logger.debug("Idempotência: {} chaves expiradas removidas, {} ativas", removidas, entradas.size());
+        return removidas;
+    }
+
+    public int chavesAtivas() {
+        return entradas.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T aguardar(Entrada entrada) {
+        try {
+            return (T) entrada.resultado().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+
+    private record Entrada(CompletableFuture<Object> resultado, Object requisicao, long expiraEm) {
+    }
+}
@@ -0,0 +1,247 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliverytech.delivery.config.ReplicadorReferencias;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.ImportacaoProdutoService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Importa o cardápio de um restaurante lendo a entrada linha a linha: cada linha válida entra
+ * no lote atual, que é gravado via JDBC batch ao encher. A memória usada fica limitada ao
+ * tamanho do lote e aos erros detalhados, independente do tamanho do arquivo.
+ *
+ * CSV: cabeçalho com nome, preco e opcionalmente categoria, descricao e disponivel, em qualquer ordem.
+ * NDJSON: um objeto por linha com os mesmos campos.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportacaoProdutoServiceImpl implements ImportacaoProdutoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoProdutoServiceImpl.class);
+
+    private static final String INSERT_PRODUTO =
+            "INSERT INTO produto (nome, categoria, descricao, preco, disponivel, restaurante_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final int TAMANHO_MAXIMO_TEXTO = 255;
+
+    private final RestauranteRepository restauranteRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Optional<ReplicadorReferencias> replicadorReferencias;
+
+    @Value("${delivery.importacao.lote:1000}")
+    private int tamanhoLote;
+
+    /**
+     * Cada lote é confirmado ao ser gravado: uma falha no meio da importação preserva os lotes
+     * anteriores, e o resultado informa quantas linhas entraram.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = ProdutoServiceImpl.CACHE_PRODUTOS_POR_RESTAURANTE, key = "#restauranteId")
+    public Resultado importar(Long restauranteId, InputStream entrada, Formato formato) throws IOException {
+        if (!restauranteRepository.existsById(restauranteId)) {
+            throw new RuntimeException("Restaurante não encontrado");
+        }
+        long inicio = System.currentTimeMillis();
+        long maiorIdAnterior = maiorIdProduto();
+        Contagem contagem = new Contagem();
+        List<Object[]> lote = new ArrayList<>(tamanhoLote);
+
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            Map<String, Integer> cabecalho = null;
+            String texto;
+            long numeroLinha = 0;
+            while ((texto = leitor.readLine()) != null) {
+                numeroLinha++;
+                if (texto.isBlank()) {
+                    continue;
+                }
+                if (formato == Formato.CSV && cabecalho == null) {
+                    cabecalho = cabecalho(texto);
+                    continue;
+                }
+                try {
+                    Map<String, String> campos = formato == Formato.CSV ? camposCsv(cabecalho, texto) : camposJson(texto);
+                    lote.add(linhaProduto(campos, restauranteId));
+                } catch (RuntimeException e) {
+                    contagem.rejeitar(numeroLinha, e.getMessage());
+                    continue;
+                }
+                if (lote.size() == tamanhoLote) {
+                    contagem.importados += gravar(lote);
+                    lote = new ArrayList<>(tamanhoLote);
+                }
+            }
+        }
+        contagem.importados += gravar(lote);
+
+        replicadorReferencias.ifPresent(r -> r.replicarPorColuna("produto", "restaurante_id", restauranteId, maiorIdAnterior));
+        long duracao = System.currentTimeMillis() - inicio;
+        logger.info("Importação de cardápio do restaurante {}: {} produtos, {} linhas rejeitadas em {} ms",
+                restauranteId, contagem.importados, contagem.rejeitados, duracao);
+        return new Resultado(contagem.importados, contagem.rejeitados, contagem.erros, duracao);
+    }
+
+    private int gravar(List<Object[]> lote) {
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PRODUTO, lote);
+        return lote.size();
+    }
+
+    private long maiorIdProduto() {
+        Long maior = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM produto", Long.class);
+        return maior != null ? maior : 0L;
+    }
+
+    private Object[] linhaProduto(Map<String, String> campos, Long restauranteId) {
+        String nome = texto(campos, "nome");
+        if (nome == null) {
+            throw new RuntimeException("nome é obrigatório");
+        }
+        String preco = campos.get("preco");
+        if (preco == null || preco.isBlank()) {
+            throw new RuntimeException("preco é obrigatório");
+        }
+        BigDecimal valor;
+        try {
+            valor = new BigDecimal(preco.trim()).setScale(2, RoundingMode.HALF_UP);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new RuntimeException("preco inválido: " + preco);
+        }
+        if (valor.signum() <= 0) {
+            throw new RuntimeException("preco deve ser positivo");
+        }
+        String disponivel = campos.get("disponivel");
+        boolean estaDisponivel = disponivel == null || disponivel.isBlank() || Boolean.parseBoolean(disponivel.trim());
+        return new Object[] { nome, texto(campos, "categoria"), texto(campos, "descricao"), valor, estaDisponivel,
+                restauranteId };
+    }
+
+    private static String texto(Map<String, String> campos, String nome) {
+        String valor = campos.get(nome);
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        valor = valor.trim();
+        if (valor.length() > TAMANHO_MAXIMO_TEXTO) {
+            throw new RuntimeException(nome + " excede " + TAMANHO_MAXIMO_TEXTO + " caracteres");
+        }
+        return valor;
+    }
+
+    private static Map<String, Integer> cabecalho(String texto) {
+        List<String> nomes = separarCsv(texto);
+        Map<String, Integer> cabecalho = new HashMap<>();
+        for (int i = 0; i < nomes.size(); i++) {
+            cabecalho.put(nomes.get(i).trim().toLowerCase(), i);
+        }
+        if (!cabecalho.containsKey("nome") || !cabecalho.containsKey("preco")) {
+            throw new RuntimeException("Cabeçalho CSV deve conter as colunas nome e preco");
+        }
+        return cabecalho;
+    }
+
+    private static Map<String, String> camposCsv(Map<String, Integer> cabecalho, String texto) {
+        List<String> valores = separarCsv(texto);
+        Map<String, String> campos = new HashMap<>();
+        for (Map.Entry<String, Integer> coluna : cabecalho.entrySet()) {
+            if (coluna.getValue() < valores.size()) {
+                campos.put(coluna.getKey(), valores.get(coluna.getValue()));
+            }
+        }
+        return campos;
+    }
+
+    private Map<String, String> camposJson(String texto) {
+        JsonNode objeto;
+        try {
+            objeto = objectMapper.readTree(texto);
+        } catch (IOException e) {
+            throw new RuntimeException("JSON inválido");
+        }
+        if (objeto == null || !objeto.isObject()) {
+            throw new RuntimeException("linha deve ser um objeto JSON");
+        }
+        Map<String, String> campos = new HashMap<>();
+        for (Map.Entry<String, JsonNode> campo : objeto.properties()) {
+            if (!campo.getValue().isNull()) {
+                campos.put(campo.getKey().toLowerCase(), campo.getValue().asText());
+            }
+        }
+        return campos;
+    }
+
+    // Separação CSV com aspas duplas ("" escapa aspas); campos com quebra de linha não são suportados
+    static List<String> separarCsv(String texto) {
+        List<String> valores = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < texto.length() && texto.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                valores.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new RuntimeException("aspas não fechadas");
+        }
+        valores.add(atual.toString());
+        return valores;
+    }
+
+    private static final class Contagem {
+
+        private long importados;
+        private long rejeitados;
+        private final List<ErroLinha> erros = new ArrayList<>();
+
+        void rejeitar(long linha, String mensagem) {
+            rejeitados++;
+            if (erros.size() < MAXIMO_ERROS_DETALHADOS) {
+                erros.add(new ErroLinha(linha, mensagem));
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.deliverytech.delivery.model.OutboxEvento;
+import com.deliverytech.delivery.service.OutboxSink;
+
+/**
+ * Sink padrão: mantém os últimos eventos publicados em memória (útil em desenvolvimento e testes).
+ */
+@Component
+@ConditionalOnProperty(name = "delivery.outbox.sink", havingValue = "memoria", matchIfMissing = true)
+public class MemoriaOutboxSink implements OutboxSink {
+
+    private final Deque<OutboxEvento> publicados = new ArrayDeque<>();
+
+    @Value("${delivery.outbox.memoria.capacidade:10000}")
+    private int capacidade;
+
+    @Override
+    public synchronized void publicar(List<OutboxEvento> eventos) {
+        for (OutboxEvento evento : eventos) {
+            if (publicados.size() >= capacidade) {
+                publicados.pollFirst();
+            }
+            publicados.addLast(evento);
+        }
+    }
+
+    public synchronized List<OutboxEvento> eventosPublicados() {
+        return new ArrayList<>(publicados);
+    }
+}
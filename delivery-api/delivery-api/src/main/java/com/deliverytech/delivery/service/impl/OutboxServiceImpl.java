@@ -0,0 +1,143 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.OutboxEvento;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.TipoEventoPedido;
+import com.deliverytech.delivery.repository.OutboxEventoRepository;
+import com.deliverytech.delivery.service.OutboxService;
+import com.deliverytech.delivery.service.OutboxService.EventoPedido;
+import com.deliverytech.delivery.service.OutboxService.ItemEvento;
+import com.deliverytech.delivery.service.OutboxSink;
+import com.deliverytech.delivery.service.ShardingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outbox transacional dos pedidos. O relay roda em uma única instância por banco:
+ * lê os pendentes em ordem de id, entrega ao sink e só então marca o lote como publicado.
+ * Se o sink falhar o lote não avança, preservando a ordem dos eventos de cada pedido.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Lazy(false)
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxServiceImpl.class);
+
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final OutboxSink outboxSink;
+    private final ObjectMapper objectMapper;
+    private final ShardingService shardingService;
+
+    @Value("${delivery.outbox.lote:200}")
+    private int tamanhoLote;
+
+    @Value("${delivery.outbox.max-lotes-por-ciclo:50}")
+    private int maxLotesPorCiclo;
+
+    @Value("${delivery.outbox.retencao-horas:24}")
+    private int retencaoHoras;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarEvento(Pedido pedido, TipoEventoPedido tipo) {
+        OutboxEvento evento = OutboxEvento.builder()
+                .pedidoId(pedido.getId())
+                .tipo(tipo)
+                .payload(montarPayload(pedido, tipo))
+                .build();
+        outboxEventoRepository.save(evento);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${delivery.outbox.intervalo-ms:1000}")
+    public int publicarPendentes() {
+        // Cada shard tem seu próprio outbox, junto dos pedidos; a ordem por pedido é preservada em cada um
+        int publicados = 0;
+        for (int shard = 0; shard < shardingService.quantidadeShards(); shard++) {
+            publicados += shardingService.executarNoShard(shard, this::publicarPendentesDoShard);
+        }
+        if (publicados > 0) {
+            logger.debug("{} eventos do outbox publicados", publicados);
+        }
+        return publicados;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${delivery.outbox.limpeza-ms:3600000}")
+    public void removerPublicadosAntigos() {
+        LocalDateTime limite = LocalDateTime.now().minusHours(retencaoHoras);
+        int removidos = shardingService.executarEmTodos(() -> outboxEventoRepository.removerPublicadosAntesDe(limite))
+                .stream().mapToInt(Integer::intValue).sum();
+        if (removidos > 0) {
+            logger.info("{} eventos publicados removidos do outbox", removidos);
+        }
+    }
+
+    private int publicarPendentesDoShard() {
+        int publicados = 0;
+        for (int lote = 0; lote < maxLotesPorCiclo; lote++) {
+            List<OutboxEvento> eventos = outboxEventoRepository
+                    .findByPublicadoEmIsNullOrderByIdAsc(PageRequest.of(0, tamanhoLote));
+            if (eventos.isEmpty()) {
+                break;
+            }
+            try {
+                outboxSink.publicar(eventos);
+            } catch (Exception e) {
+                logger.error("Falha ao publicar lote do outbox a partir do evento {}: {}",
+                        eventos.get(0).getId(), e.getMessage());
+                break;
+            }
+            outboxEventoRepository.marcarPublicados(
+                    eventos.stream().map(OutboxEvento::getId).toList(), LocalDateTime.now());
+            publicados += eventos.size();
+            if (eventos.size() < tamanhoLote) {
+                break;
+            }
+        }
+        return publicados;
+    }
+
+    private String montarPayload(Pedido pedido, TipoEventoPedido tipo) {
+        List<ItemEvento> itens = null;
+        if (tipo == TipoEventoPedido.PEDIDO_CRIADO && pedido.getItens() != null) {
+            itens = pedido.getItens().stream()
+                    .map(item -> new ItemEvento(
+                            item.getProduto() != null ? item.getProduto().getId() : null,
+                            item.getQuantidade(),
+                            item.getPrecoUnitario() != null ? item.getPrecoUnitario().toBigDecimal() : null))
+                    .toList();
+        }
+        EventoPedido payload = new EventoPedido(tipo.name(), pedido.getId(),
+                pedido.getCliente() != null ? pedido.getCliente().getId() : null,
+                pedido.getRestaurante() != null ? pedido.getRestaurante().getId() : null,
+                pedido.getStatus() != null ? pedido.getStatus().name() : null,
+                Money.paraBigDecimal(pedido.getTotal()),
+                pedido.getDataPedido() != null ? pedido.getDataPedido().toString() : null,
+                itens);
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar evento do pedido " + pedido.getId(), e);
+        }
+    }
+}
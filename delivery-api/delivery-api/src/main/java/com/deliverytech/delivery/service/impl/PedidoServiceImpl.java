@@ -1,24 +1,39 @@
 package com.deliverytech.delivery.service.impl;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.deliverytech.delivery.dto.request.PedidoRequest;
+import com.deliverytech.delivery.event.PedidoAlteradoEvent;
 import com.deliverytech.delivery.model.Cliente;
 import com.deliverytech.delivery.model.ItemPedido;
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Pedido;
 import com.deliverytech.delivery.model.Produto;
 import com.deliverytech.delivery.model.Restaurante;
 import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.model.TipoEventoPedido;
 import com.deliverytech.delivery.repository.ClienteRepository;
+import com.deliverytech.delivery.repository.PedidoArquivoRepository;
 import com.deliverytech.delivery.repository.PedidoRepository;
 import com.deliverytech.delivery.repository.ProdutoRepository;
 import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.OutboxService;
 import com.deliverytech.delivery.service.PedidoService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,10 +43,22 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class PedidoServiceImpl implements PedidoService {
 
+    // Ordem do histórico: mais recente primeiro, id como desempate (mesma ordem das consultas)
+    static final Comparator<Pedido> ORDEM_HISTORICO = Comparator
+            .comparing(Pedido::getDataPedido, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Pedido::getId, Comparator.reverseOrder());
+
+    private static final Comparator<Object[]> ORDEM_IDS_E_DATAS = Comparator
+            .comparing((Object[] linha) -> (LocalDateTime) linha[1], Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(linha -> (Long) linha[0], Comparator.reverseOrder());
+
     private final PedidoRepository pedidoRepository;
+    private final PedidoArquivoRepository pedidoArquivoRepository;
     private final ClienteRepository clienteRepository;
     private final RestauranteRepository restauranteRepository;
     private final ProdutoRepository produtoRepository;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Pedido criarPedido(PedidoRequest dto) {
@@ -51,39 +78,79 @@ public class PedidoServiceImpl implements PedidoService {
 
         // Criar os itens do pedido
         List<ItemPedido> itens = new ArrayList<>();
-        BigDecimal total = BigDecimal.ZERO;
+        long totalCentavos = 0;
 
         for (var itemRequest : dto.getItens()) {
             Produto produto = produtoRepository.findById(itemRequest.getProdutoId())
                     .orElseThrow(() -> new RuntimeException("Produto não encontrado: " + itemRequest.getProdutoId()));
+            Money preco = precoDe(produto);
             
             ItemPedido item = ItemPedido.builder()
                     .pedido(pedido)
                     .produto(produto)
                     .quantidade(itemRequest.getQuantidade())
-                    .precoUnitario(produto.getPreco())
+                    .precoUnitario(preco)
                     .build();
             
             itens.add(item);
-            total = total.add(produto.getPreco().multiply(BigDecimal.valueOf(itemRequest.getQuantidade())));
+            totalCentavos = Math.addExact(totalCentavos, Math.multiplyExact(preco.centavos(), itemRequest.getQuantidade()));
         }
 
         pedido.setItens(itens);
-        pedido.setTotal(total);
+        pedido.setTotal(Money.deCentavos(totalCentavos));
         
-        return pedidoRepository.save(pedido);
+        // O evento é gravado na mesma transação do pedido (outbox); o flush garante o id
+        // e que o evento seja inserido depois da linha do pedido
+        Pedido salvo = pedidoRepository.saveAndFlush(pedido);
+        outboxService.registrarEvento(salvo, TipoEventoPedido.PEDIDO_CRIADO);
+        eventPublisher.publishEvent(PedidoAlteradoEvent.de(salvo, null));
+        return salvo;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Pedido> buscarPedidoPorId(Long id) {
-        return pedidoRepository.findByIdWithItens(id);
+        // Pedidos arquivados saem da tabela quente; o arquivo só é lido quando o pedido não está nela
+        return pedidoRepository.findByIdWithItens(id).or(() -> pedidoArquivoRepository.findByIdComItens(id));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Pedido> buscarPedidosPorCliente(Long clienteId) {
-        return pedidoRepository.findByClienteIdWithItens(clienteId);
+        List<Pedido> quentes = pedidoRepository.findByClienteIdWithItens(clienteId);
+        List<Pedido> arquivados = pedidoArquivoRepository.findByClienteIdComItens(clienteId);
+        if (arquivados.isEmpty()) {
+            return quentes;
+        }
+        return Stream.concat(quentes.stream(), arquivados.stream()).sorted(ORDEM_HISTORICO).toList();
+    }
+
+    /**
+     * Enquanto o pedido arquivado mais recente do cliente for anterior ao último da página,
+     * a página sai só da tabela quente. Caso contrário, os primeiros (pagina + 1) * tamanho
+     * de cada tabela são intercalados por data e a página é recortada do resultado.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Pedido> buscarHistoricoPorCliente(Long clienteId, int pagina, int tamanho) {
+        List<Object[]> quentes = pedidoRepository.findIdsEDatasPorCliente(clienteId, PageRequest.of(pagina, tamanho));
+        Optional<LocalDateTime> ultimaArquivada = pedidoArquivoRepository.findUltimaDataPorCliente(clienteId);
+        if (ultimaArquivada.isEmpty() || (quentes.size() == tamanho && quentes.get(tamanho - 1)[1] != null
+                && ultimaArquivada.get().isBefore((LocalDateTime) quentes.get(tamanho - 1)[1]))) {
+            return carregarHistorico(quentes, Set.of());
+        }
+
+        int ate = Math.multiplyExact(pagina + 1, tamanho);
+        List<Object[]> arquivados = pedidoArquivoRepository.findIdsEDatasPorCliente(clienteId, ate);
+        Set<Long> idsArquivados = arquivados.stream().map(linha -> (Long) linha[0]).collect(Collectors.toSet());
+        List<Object[]> recorte = Stream.concat(
+                        pedidoRepository.findIdsEDatasPorCliente(clienteId, PageRequest.of(0, ate)).stream(),
+                        arquivados.stream())
+                .sorted(ORDEM_IDS_E_DATAS)
+                .skip((long) pagina * tamanho)
+                .limit(tamanho)
+                .toList();
+        return carregarHistorico(recorte, idsArquivados);
     }
 
     @Override
@@ -93,15 +160,19 @@ public class PedidoServiceImpl implements PedidoService {
                     if (pedido.getStatus() == StatusPedido.CANCELADO) {
                         throw new RuntimeException("Não é possível alterar status de pedido cancelado");
                     }
+                    StatusPedido anterior = pedido.getStatus();
                     pedido.setStatus(status);
-                    return pedidoRepository.save(pedido);
+                    Pedido salvo = pedidoRepository.saveAndFlush(pedido);
+                    outboxService.registrarEvento(salvo, TipoEventoPedido.STATUS_ALTERADO);
+                    eventPublisher.publishEvent(PedidoAlteradoEvent.de(salvo, anterior));
+                    return salvo;
                 }).orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
     }
 
     @Override
     public BigDecimal calcularTotalPedido(Long pedidoId) {
         return pedidoRepository.findById(pedidoId)
-                .map(Pedido::getTotal)
+                .map(pedido -> Money.paraBigDecimal(pedido.getTotal()))
                 .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
     }
 
@@ -113,13 +184,14 @@ public class PedidoServiceImpl implements PedidoService {
         restauranteRepository.findById(dto.getRestauranteId())
                 .orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
 
-        return dto.getItens().stream()
-                .map(item -> {
-                    Produto produto = produtoRepository.findById(item.getProdutoId())
-                            .orElseThrow(() -> new RuntimeException("Produto não encontrado: " + item.getProdutoId()));
-                    return produto.getPreco().multiply(BigDecimal.valueOf(item.getQuantidade()));
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalCentavos = 0;
+        for (var item : dto.getItens()) {
+            Produto produto = produtoRepository.findById(item.getProdutoId())
+                    .orElseThrow(() -> new RuntimeException("Produto não encontrado: " + item.getProdutoId()));
+            totalCentavos = Math.addExact(totalCentavos,
+                    Math.multiplyExact(precoDe(produto).centavos(), item.getQuantidade()));
+        }
+        return Money.deCentavos(totalCentavos).toBigDecimal();
     }
 
     @Override
@@ -129,8 +201,30 @@ public class PedidoServiceImpl implements PedidoService {
                     if (pedido.getStatus() == StatusPedido.ENTREGUE) {
                         throw new RuntimeException("Não é possível cancelar pedido já entregue");
                     }
+                    StatusPedido anterior = pedido.getStatus();
                     pedido.setStatus(StatusPedido.CANCELADO);
-                    return pedidoRepository.save(pedido);
+                    Pedido salvo = pedidoRepository.saveAndFlush(pedido);
+                    outboxService.registrarEvento(salvo, TipoEventoPedido.PEDIDO_CANCELADO);
+                    eventPublisher.publishEvent(PedidoAlteradoEvent.de(salvo, anterior));
+                    return salvo;
                 }).orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
     }
+
+    // Preço nulo aqui é produto mal cadastrado, não NPE
+    private static Money precoDe(Produto produto) {
+        if (produto.getPreco() == null) {
+            throw new RuntimeException("Produto sem preço: " + produto.getId());
+        }
+        return produto.getPreco();
+    }
+
+    private List<Pedido> carregarHistorico(List<Object[]> idsEDatas, Set<Long> idsArquivados) {
+        List<Long> ids = idsEDatas.stream().map(linha -> (Long) linha[0]).toList();
+        Map<Long, Pedido> pedidos = new HashMap<>();
+        pedidoRepository.findAllByIdInWithItens(ids.stream().filter(id -> !idsArquivados.contains(id)).toList())
+                .forEach(pedido -> pedidos.put(pedido.getId(), pedido));
+        pedidoArquivoRepository.findAllByIdComItens(ids.stream().filter(idsArquivados::contains).toList())
+                .forEach(pedido -> pedidos.put(pedido.getId(), pedido));
+        return ids.stream().map(pedidos::get).filter(Objects::nonNull).toList();
+    }
 }
@@ -0,0 +1,97 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.dto.request.PedidoRequest;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.service.PedidoService;
+import com.deliverytech.delivery.service.ShardingService;
+
+/**
+ * PedidoService no modo particionado: escolhe o shard antes de a transação do
+ * PedidoServiceImpl começar. Operações de um restaurante ou de um pedido vão a um único
+ * shard; consultas por cliente consultam todos e juntam o resultado.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "delivery.sharding.habilitado", havingValue = "true")
+public class PedidoServiceShardImpl implements PedidoService {
+
+    private final PedidoService pedidoService;
+    private final ShardingService shardingService;
+
+    public PedidoServiceShardImpl(@Qualifier("pedidoServiceImpl") PedidoService pedidoService,
+            ShardingService shardingService) {
+        this.pedidoService = pedidoService;
+        this.shardingService = shardingService;
+    }
+
+    @Override
+    public Pedido criarPedido(PedidoRequest dto) {
+        return shardingService.executarNoShard(shardingService.shardDoRestaurante(dto.getRestauranteId()),
+                () -> pedidoService.criarPedido(dto));
+    }
+
+    @Override
+    public Optional<Pedido> buscarPedidoPorId(Long id) {
+        return noShardDoPedido(id, () -> pedidoService.buscarPedidoPorId(id));
+    }
+
+    @Override
+    public List<Pedido> buscarPedidosPorCliente(Long clienteId) {
+        return shardingService.executarEmTodos(() -> pedidoService.buscarPedidosPorCliente(clienteId)).stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(Pedido::getDataPedido, Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+    }
+
+    @Override
+    public List<Pedido> buscarHistoricoPorCliente(Long clienteId, int pagina, int tamanho) {
+        // A página global está contida nos primeiros (pagina + 1) * tamanho de cada shard
+        int ate = Math.multiplyExact(pagina + 1, tamanho);
+        return shardingService.executarEmTodos(() -> pedidoService.buscarHistoricoPorCliente(clienteId, 0, ate)).stream()
+                .flatMap(List::stream)
+                .sorted(PedidoServiceImpl.ORDEM_HISTORICO)
+                .skip((long) pagina * tamanho)
+                .limit(tamanho)
+                .toList();
+    }
+
+    @Override
+    public Pedido atualizarStatusPedido(Long id, StatusPedido status) {
+        return noShardDoPedido(id, () -> pedidoService.atualizarStatusPedido(id, status));
+    }
+
+    @Override
+    public BigDecimal calcularTotalPedido(Long pedidoId) {
+        return noShardDoPedido(pedidoId, () -> pedidoService.calcularTotalPedido(pedidoId));
+    }
+
+    @Override
+    public BigDecimal calcularTotalSemSalvar(PedidoRequest dto) {
+        // Só lê dados de referência, presentes em todos os shards
+        return pedidoService.calcularTotalSemSalvar(dto);
+    }
+
+    @Override
+    public void cancelarPedido(Long id) {
+        noShardDoPedido(id, () -> {
+            pedidoService.cancelarPedido(id);
+            return null;
+        });
+    }
+
+    private <T> T noShardDoPedido(Long pedidoId, Supplier<T> acao) {
+        return shardingService.executarNoShard(shardingService.shardDoPedido(pedidoId), acao);
+    }
+}
@@ -1,12 +1,22 @@
 package com.deliverytech.delivery.service.impl;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverytech.delivery.config.ReplicadorReferencias;
 
 import com.deliverytech.delivery.dto.request.ProdutoRequest;
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Produto;
 import com.deliverytech.delivery.model.Restaurante;
 import com.deliverytech.delivery.repository.ProdutoRepository;
@@ -20,10 +30,14 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class ProdutoServiceImpl implements ProdutoService {
 
+    public static final String CACHE_PRODUTOS_POR_RESTAURANTE = "produtosPorRestaurante";
+
     private final ProdutoRepository produtoRepository;
     private final RestauranteRepository restauranteRepository;
+    private final ObjectProvider<ReplicadorReferencias> replicadorReferencias;
 
     @Override
+    @CacheEvict(value = CACHE_PRODUTOS_POR_RESTAURANTE, key = "#dto.restauranteId")
     public Produto cadastrarProduto(ProdutoRequest dto) {
         Restaurante restaurante = restauranteRepository.findById(dto.getRestauranteId())
                 .orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
@@ -31,7 +45,7 @@ public class ProdutoServiceImpl implements ProdutoService {
         Produto produto = Produto.builder()
                 .nome(dto.getNome())
                 .descricao(dto.getDescricao())
-                .preco(dto.getPreco())
+                .preco(Money.de(dto.getPreco()))
                 .categoria(dto.getCategoria())
                 .restaurante(restaurante)
                 .disponivel(true)
@@ -41,8 +55,13 @@ public class ProdutoServiceImpl implements ProdutoService {
     }
 
     @Override
-    public List<Produto> buscarProdutosPorRestaurante(Long restauranteId) {
-        return produtoRepository.findByRestauranteId(restauranteId);
+    @Transactional(readOnly = true)
+    @Cacheable(CACHE_PRODUTOS_POR_RESTAURANTE)
+    public List<ProdutoCardapio> buscarProdutosPorRestaurante(Long restauranteId) {
+        return produtoRepository.findByRestauranteId(restauranteId).stream()
+                .map(p -> new ProdutoCardapio(p.getId(), p.getNome(), p.getCategoria(), p.getDescricao(), Money.paraBigDecimal(p.getPreco()),
+                        p.getDisponivel()))
+                .toList();
     }
 
     @Override
@@ -51,29 +70,64 @@ public class ProdutoServiceImpl implements ProdutoService {
     }
 
     @Override
+    @CacheEvict(value = CACHE_PRODUTOS_POR_RESTAURANTE, key = "#result.restaurante.id")
     public Produto atualizarProduto(Long id, ProdutoRequest dto) {
         return produtoRepository.findById(id)
                 .map(produto -> {
                     produto.setNome(dto.getNome());
                     produto.setDescricao(dto.getDescricao());
-                    produto.setPreco(dto.getPreco());
+                    produto.setPreco(Money.de(dto.getPreco()));
                     produto.setCategoria(dto.getCategoria());
                     return produtoRepository.save(produto);
                 }).orElseThrow(() -> new RuntimeException("Produto não encontrado"));
     }
 
     @Override
-    public void alterarDisponibilidade(Long id, boolean disponivel) {
-        produtoRepository.findById(id).ifPresentOrElse(produto -> {
-            produto.setDisponivel(disponivel);
-            produtoRepository.save(produto);
-        }, () -> {
-            throw new RuntimeException("Produto não encontrado com ID: " + id);
-        });
+    @CacheEvict(value = CACHE_PRODUTOS_POR_RESTAURANTE, key = "#result.restaurante.id")
+    public Produto alterarDisponibilidade(Long id, boolean disponivel) {
+        return produtoRepository.findById(id)
+                .map(produto -> {
+                    produto.setDisponivel(disponivel);
+                    return produtoRepository.save(produto);
+                }).orElseThrow(() -> new RuntimeException("Produto não encontrado com ID: " + id));
     }
 
     @Override
     public List<Produto> buscarProdutosPorCategoria(String categoria) {
         return produtoRepository.findByCategoria(categoria);
     }
+
+    @Override
+    @CacheEvict(value = CACHE_PRODUTOS_POR_RESTAURANTE, key = "#restauranteId")
+    public int reajustarPrecos(Long restauranteId, String categoria, BigDecimal percentual) {
+        if (percentual == null || percentual.compareTo(BigDecimal.valueOf(-100)) <= 0) {
+            throw new RuntimeException("Percentual de reajuste deve ser maior que -100");
+        }
+        BigDecimal fator = BigDecimal.ONE.add(percentual.divide(BigDecimal.valueOf(100), MathContext.DECIMAL64));
+        int alterados = produtoRepository.reajustarPrecos(restauranteId, categoria, fator);
+        replicarProdutosAposCommit(restauranteId);
+        return alterados;
+    }
+
+    @Override
+    @CacheEvict(value = CACHE_PRODUTOS_POR_RESTAURANTE, key = "#restauranteId")
+    public int alterarDisponibilidadeEmLote(Long restauranteId, String categoria, boolean disponivel) {
+        int alterados = produtoRepository.alterarDisponibilidade(restauranteId, categoria, disponivel);
+        replicarProdutosAposCommit(restauranteId);
+        return alterados;
+    }
+
+    // UPDATEs em lote não disparam o listener JPA que replica produtos entre shards
+    private void replicarProdutosAposCommit(Long restauranteId) {
+        ReplicadorReferencias replicador = replicadorReferencias.getIfAvailable();
+        if (replicador == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replicador.replicarPorColuna("produto", "restaurante_id", restauranteId, 0);
+            }
+        });
+    }
 }
@@ -0,0 +1,78 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.config.SingleFlight;
+import com.deliverytech.delivery.config.SingleFlightRegistro;
+import com.deliverytech.delivery.dto.request.ProdutoRequest;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.service.ProdutoService;
+
+/**
+ * ProdutoService com as leituras quentes passando por um SingleFlight. Fica na frente do
+ * cache produtosPorRestaurante, então uma invalidação do cardápio gera uma única consulta
+ * mesmo com muitas requisições simultâneas.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "delivery.single-flight.habilitado", havingValue = "true", matchIfMissing = true)
+public class ProdutoServiceSingleFlightImpl implements ProdutoService {
+
+    private final ProdutoService produtoService;
+    private final SingleFlight<Long, List<ProdutoCardapio>> porRestaurante;
+    private final SingleFlight<Long, Optional<Produto>> porId;
+
+    public ProdutoServiceSingleFlightImpl(@Qualifier("produtoServiceImpl") ProdutoService produtoService,
+            SingleFlightRegistro singleFlightRegistro) {
+        this.produtoService = produtoService;
+        this.porRestaurante = singleFlightRegistro.grupo("produtos.porRestaurante");
+        this.porId = singleFlightRegistro.grupo("produtos.porId");
+    }
+
+    @Override
+    public Produto cadastrarProduto(ProdutoRequest dto) {
+        return produtoService.cadastrarProduto(dto);
+    }
+
+    @Override
+    public List<ProdutoCardapio> buscarProdutosPorRestaurante(Long restauranteId) {
+        return porRestaurante.executar(restauranteId, () -> produtoService.buscarProdutosPorRestaurante(restauranteId));
+    }
+
+    @Override
+    public Optional<Produto> buscarProdutoPorId(Long id) {
+        return porId.executar(id, () -> produtoService.buscarProdutoPorId(id));
+    }
+
+    @Override
+    public Produto atualizarProduto(Long id, ProdutoRequest dto) {
+        return produtoService.atualizarProduto(id, dto);
+    }
+
+    @Override
+    public Produto alterarDisponibilidade(Long id, boolean disponivel) {
+        return produtoService.alterarDisponibilidade(id, disponivel);
+    }
+
+    @Override
+    public List<Produto> buscarProdutosPorCategoria(String categoria) {
+        return produtoService.buscarProdutosPorCategoria(categoria);
+    }
+
+    @Override
+    public int reajustarPrecos(Long restauranteId, String categoria, BigDecimal percentual) {
+        return produtoService.reajustarPrecos(restauranteId, categoria, percentual);
+    }
+
+    @Override
+    public int alterarDisponibilidadeEmLote(Long restauranteId, String categoria, boolean disponivel) {
+        return produtoService.alterarDisponibilidadeEmLote(restauranteId, categoria, disponivel);
+    }
+}
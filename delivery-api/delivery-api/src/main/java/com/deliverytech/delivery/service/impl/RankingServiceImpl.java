@@ -0,0 +1,238 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery.event.PedidoAlteradoEvent;
+import com.deliverytech.delivery.event.RestauranteAlteradoEvent;
+import com.deliverytech.delivery.repository.PedidoRepository;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.RankingService;
+import com.deliverytech.delivery.service.ShardingService;
+
+/**
+ * Rankings de restaurantes mantidos incrementalmente em skip lists (uma global e uma por categoria),
+ * atualizadas a cada avaliação e a cada pedido criado. Uma página é lida percorrendo a lista
+ * a partir do início (O(offset + tamanho)), sem ordenar a tabela.
+ * Só restaurantes ativos entram nos rankings.
+ */
+@Service
+@Lazy(false)
+public class RankingServiceImpl implements RankingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankingServiceImpl.class);
+
+    private final RestauranteRepository restauranteRepository;
+    private final PedidoRepository pedidoRepository;
+    private final ShardingService shardingService;
+    private final Supplier<LocalDate> hoje;
+
+    // Dados dos restaurantes ativos, fonte de nome/categoria para os dois rankings
+    private final ConcurrentMap<Long, ItemRanking> ativos = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> pedidosHoje = new ConcurrentHashMap<>();
+    private final Ranking porAvaliacao = new Ranking();
+    private volatile Ranking porPedidosHoje = new Ranking();
+    private volatile LocalDate diaContagem;
+
+    @Autowired
+    public RankingServiceImpl(RestauranteRepository restauranteRepository, PedidoRepository pedidoRepository,
+            ShardingService shardingService) {
+        this(restauranteRepository, pedidoRepository, shardingService, LocalDate::now);
+    }
+
+    public RankingServiceImpl(RestauranteRepository restauranteRepository, PedidoRepository pedidoRepository,
+            ShardingService shardingService, Supplier<LocalDate> hoje) {
+        this.restauranteRepository = restauranteRepository;
+        this.pedidoRepository = pedidoRepository;
+        this.shardingService = shardingService;
+        this.hoje = hoje;
+        this.diaContagem = hoje.get();
+    }
+
+    @Override
+    public List<ItemRanking> melhorAvaliados(String categoria, int pagina, int tamanho) {
+        return porAvaliacao.pagina(categoria, pagina, tamanho);
+    }
+
+    @Override
+    public List<ItemRanking> maisPedidosHoje(String categoria, int pagina, int tamanho) {
+        virarDiaSeNecessario();
+        return porPedidosHoje.pagina(categoria, pagina, tamanho);
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarRestaurante(RestauranteAlteradoEvent evento) {
+        Long id = evento.restauranteId();
+        if (evento.removido() || !Boolean.TRUE.equals(evento.ativo())) {
+            ativos.remove(id);
+            porAvaliacao.remover(id);
+            porPedidosHoje.remover(id);
+            if (evento.removido()) {
+                pedidosHoje.remove(id);
+            }
+            return;
+        }
+        ItemRanking base = new ItemRanking(id, evento.nome(), evento.categoria(), 0);
+        ativos.put(id, base);
+        porAvaliacao.atualizar(comValor(base, evento.avaliacao() != null ? evento.avaliacao() : 0));
+        Long pedidos = pedidosHoje.get(id);
+        if (pedidos != null) {
+            porPedidosHoje.atualizar(comValor(base, pedidos));
+        }
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarPedido(PedidoAlteradoEvent evento) {
+        // Só a criação conta; transições de status não alteram o ranking
+        if (evento.statusAnterior() != null || !evento.dataPedido().toLocalDate().equals(virarDiaSeNecessario())) {
+            return;
+        }
+        Long id = evento.restauranteId();
+        long total = pedidosHoje.merge(id, 1L, Long::sum);
+        ItemRanking base = ativos.get(id);
+        if (base != null) {
+            porPedidosHoje.atualizar(comValor(base, total));
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        for (Object[] linha : restauranteRepository.findResumoAtivos()) {
+            ItemRanking base = new ItemRanking((Long) linha[0], (String) linha[1], (String) linha[2], 0);
+            ativos.putIfAbsent(base.restauranteId(), base);
+            porAvaliacao.atualizar(comValor(base, linha[3] != null ? (Integer) linha[3] : 0));
+        }
+        carregarPedidosHoje(diaContagem);
+        logger.info("Rankings reconstruídos: {} restaurantes ativos, {} com pedidos hoje",
+                ativos.size(), pedidosHoje.size());
+    }
+
+    private synchronized LocalDate virarDiaSeNecessario() {
+        LocalDate dia = hoje.get();
+        if (!dia.equals(diaContagem)) {
+            pedidosHoje.clear();
+            porPedidosHoje = new Ranking();
+            diaContagem = dia;
+        }
+        return dia;
+    }
+
+    private void carregarPedidosHoje(LocalDate dia) {
+        // Soma por restaurante entre shards antes de mesclar com o que já chegou por evento
+        Map<Long, Long> contagens = new HashMap<>();
+        for (List<Object[]> linhas : shardingService.executarEmTodos(
+                () -> pedidoRepository.countPorRestauranteDesde(dia.atStartOfDay()))) {
+            for (Object[] linha : linhas) {
+                contagens.merge((Long) linha[0], (Long) linha[1], Long::sum);
+            }
+        }
+        for (Map.Entry<Long, Long> contagem : contagens.entrySet()) {
+            Long id = contagem.getKey();
+            long total = pedidosHoje.merge(id, contagem.getValue(), Math::max);
+            ItemRanking base = ativos.get(id);
+            if (base != null) {
+                porPedidosHoje.atualizar(comValor(base, total));
+            }
+        }
+    }
+
+    private static ItemRanking comValor(ItemRanking base, long valor) {
+        return new ItemRanking(base.restauranteId(), base.nome(), base.categoria(), valor);
+    }
+
+    /**
+     * Skip list global + uma por categoria, com índice restauranteId -> item.
+     * Atualizações de um mesmo restaurante são serializadas pelo compute() do índice;
+     * o novo item entra antes do antigo sair, e a leitura ignora itens que não são mais os atuais.
+     */
+    static final class Ranking {
+
+        private static final Comparator<ItemRanking> ORDEM = Comparator
+                .comparingLong(ItemRanking::valor).reversed()
+                .thenComparing(ItemRanking::restauranteId);
+
+        private final ConcurrentSkipListSet<ItemRanking> geral = new ConcurrentSkipListSet<>(ORDEM);
+        private final ConcurrentMap<String, ConcurrentSkipListSet<ItemRanking>> porCategoria = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Long, ItemRanking> indice = new ConcurrentHashMap<>();
+
+        void atualizar(ItemRanking novo) {
+            indice.compute(novo.restauranteId(), (id, atual) -> {
+                substituir(geral, atual, novo);
+                if (atual != null && !Objects.equals(atual.categoria(), novo.categoria())) {
+                    categoria(atual.categoria()).remove(atual);
+                    categoria(novo.categoria()).add(novo);
+                } else {
+                    substituir(categoria(novo.categoria()), atual, novo);
+                }
+                return novo;
+            });
+        }
+
+        void remover(Long restauranteId) {
+            indice.computeIfPresent(restauranteId, (id, atual) -> {
+                geral.remove(atual);
+                categoria(atual.categoria()).remove(atual);
+                return null;
+            });
+        }
+
+        List<ItemRanking> pagina(String categoria, int pagina, int tamanho) {
+            ConcurrentSkipListSet<ItemRanking> lista = categoria == null ? geral : porCategoria.get(categoria);
+            if (lista == null || tamanho <= 0 || pagina < 0) {
+                return List.of();
+            }
+            long pular = (long) pagina * tamanho;
+            List<ItemRanking> resultado = new ArrayList<>(tamanho);
+            Iterator<ItemRanking> it = lista.iterator();
+            while (it.hasNext() && resultado.size() < tamanho) {
+                ItemRanking item = it.next();
+                if (indice.get(item.restauranteId()) != item) {
+                    continue;
+                }
+                if (pular > 0) {
+                    pular--;
+                } else {
+                    resultado.add(item);
+                }
+            }
+            return resultado;
+        }
+
+        // Mesma posição (mesmo valor e id) é "igual" para o set: troca direta em vez de inserir antes
+        private static void substituir(ConcurrentSkipListSet<ItemRanking> lista, ItemRanking atual, ItemRanking novo) {
+            if (atual != null && ORDEM.compare(atual, novo) == 0) {
+                lista.remove(atual);
+                lista.add(novo);
+                return;
+            }
+            lista.add(novo);
+            if (atual != null) {
+                lista.remove(atual);
+            }
+        }
+
+        private ConcurrentSkipListSet<ItemRanking> categoria(String categoria) {
+            return porCategoria.computeIfAbsent(categoria != null ? categoria : "", c -> new ConcurrentSkipListSet<>(ORDEM));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.service.RateLimitService;
+
+/**
+ * Token bucket por cliente implementado como GCRA: cada bucket é um único
+ * AtomicLong com o "theoretical arrival time", atualizado via CAS, sem locks.
+ * Um bucket cujo TAT já passou está cheio, então removê-lo não altera o limite.
+ * A limpeza agendada remove os ociosos. Com o mapa no limite de chaves, uma chave nova
+ * substitui um bucket cheio achado entre os primeiros do mapa (busca limitada, sem varrer
+ * o mapa na requisição); sem nenhum cheio, a chave nova é recusada até abrir espaço.
+ */
+@Service
+public class RateLimitServiceImpl implements RateLimitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitServiceImpl.class);
+
+    private static final int MAX_EXAMINADOS_POR_INSERCAO = 16;
+
+    private final Environment environment;
+    private final LongSupplier relogio;
+    private final long ociosidadeNanos;
+    private final int maxChaves;
+
+    private final ConcurrentHashMap<String, Limite> limites = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean lotado = new AtomicBoolean();
+
+    @Autowired
+    public RateLimitServiceImpl(Environment environment) {
+        this(environment, System::nanoTime);
+    }
+
+    public RateLimitServiceImpl(Environment environment, LongSupplier relogio) {
+        this.environment = environment;
+        this.relogio = relogio;
+        this.ociosidadeNanos = TimeUnit.SECONDS.toNanos(
+                environment.getProperty("delivery.rate-limit.ociosidade-segundos", Long.class, 300L));
+        this.maxChaves = environment.getProperty("delivery.rate-limit.max-chaves", Integer.class, 100_000);
+    }
+
+    @Override
+    public Resultado tentarConsumir(String endpoint, String chave) {
+        Limite limite = limites.computeIfAbsent(endpoint, this::carregarLimite);
+        long agora = relogio.getAsLong();
+        AtomicLong bucket = buscarBucket(endpoint + '|' + chave, agora);
+        if (bucket == null) {
+            return new Resultado(false, limite.capacidade(), 0, segundos(limite.intervaloNanos()));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long novoTat = Math.max(tat, agora) + limite.intervaloNanos();
+            long ocupado = novoTat - agora;
+
+            if (ocupado > limite.rajadaNanos()) {
+                long espera = ocupado - limite.rajadaNanos();
+                return new Resultado(false, limite.capacidade(), 0, segundos(espera));
+            }
+            if (bucket.compareAndSet(tat, novoTat)) {
+                long restante = (limite.rajadaNanos() - ocupado) / limite.intervaloNanos();
+                return new Resultado(true, limite.capacidade(), restante, segundos(ocupado));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.rate-limit.limpeza-ms:60000}")
+    public void removerBucketsOciosos() {
+        long agora = relogio.getAsLong();
+        // Com o mapa lotado, todo bucket já cheio sai, não só os ociosos há mais tempo
+        long limite = lotado.getAndSet(false) || buckets.size() >= maxChaves ? agora : agora - ociosidadeNanos;
+        int antes = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - limite <= 0);
+        logger.debug("Rate limit: {} buckets removidos, {} ativos", antes - buckets.size(), buckets.size());
+    }
+
+    public int bucketsAtivos() {
+        return buckets.size();
+    }
+
+    // null quando o mapa está no limite e nenhum bucket examinado pode sair
+    private AtomicLong buscarBucket(String chaveBucket, long agora) {
+        AtomicLong bucket = buckets.get(chaveBucket);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxChaves && !liberarEspaco(agora)) {
+            if (lotado.compareAndSet(false, true)) {
+                logger.warn("Rate limit: limite de {} chaves atingido com os buckets em uso; recusando chaves novas", maxChaves);
+            }
+            return null;
+        }
+        return buckets.computeIfAbsent(chaveBucket, k -> new AtomicLong(agora));
+    }
+
+    // Remove um bucket já cheio (TAT no passado) entre os primeiros MAX_EXAMINADOS_POR_INSERCAO
+    private boolean liberarEspaco(long agora) {
+        int examinados = 0;
+        for (Map.Entry<String, AtomicLong> entrada : buckets.entrySet()) {
+            AtomicLong bucket = entrada.getValue();
+            if (bucket.get() - agora <= 0 && buckets.remove(entrada.getKey(), bucket)) {
+                return true;
+            }
+            if (++examinados >= MAX_EXAMINADOS_POR_INSERCAO) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private Limite carregarLimite(String endpoint) {
+        long capacidade = environment.getProperty("delivery.rate-limit." + endpoint + ".capacidade", Long.class,
+                environment.getProperty("delivery.rate-limit.padrao.capacidade", Long.class, 20L));
+        double porSegundo = environment.getProperty("delivery.rate-limit." + endpoint + ".por-segundo", Double.class,
+                environment.getProperty("delivery.rate-limit.padrao.por-segundo", Double.class, 5.0));
+        if (capacidade < 1 || porSegundo <= 0) {
+            throw new IllegalStateException("Configuração de rate limit inválida para " + endpoint);
+        }
+        long intervalo = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / porSegundo));
+        logger.info("Rate limit de {}: capacidade {} e {} requisições por segundo", endpoint, capacidade, porSegundo);
+        return new Limite(capacidade, intervalo, intervalo * capacidade);
+    }
+
+    private static long segundos(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private record Limite(long capacidade, long intervaloNanos, long rajadaNanos) {}
+}
@@ -0,0 +1,161 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.repository.PedidoArquivoRepository;
+import com.deliverytech.delivery.repository.PedidoRepository;
+import com.deliverytech.delivery.service.RelatorioService;
+import com.deliverytech.delivery.service.ShardingService;
+import com.deliverytech.delivery.service.SnapshotPedidos;
+import com.deliverytech.delivery.service.SnapshotPedidosService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Relatórios sobre pedidos. Com o snapshot analítico habilitado, os relatórios saem dele e
+ * não tocam o banco; o Relatorio informa de quando são os dados.
+ * Sem snapshot, cada consulta roda em todos os shards (em paralelo, cada uma em sua própria
+ * transação somente leitura) e os parciais são somados aqui.
+ * Sem sharding há um único shard e o resultado é o da consulta original.
+ * Em cada shard os pedidos arquivados (pedido_arquivo) entram como mais um parcial, para que
+ * o arquivamento não tire pedidos antigos dos relatórios.
+ */
+@Service
+@RequiredArgsConstructor
+public class RelatorioServiceImpl implements RelatorioService {
+
+    private final PedidoRepository pedidoRepository;
+    private final PedidoArquivoRepository pedidoArquivoRepository;
+    private final ShardingService shardingService;
+    private final ObjectProvider<SnapshotPedidosService> snapshotPedidosService;
+
+    @Override
+    public Relatorio<List<VendasRestaurante>> vendasPorRestaurante() {
+        SnapshotPedidos snapshot = snapshot();
+        if (snapshot != null) {
+            return Relatorio.doSnapshot(snapshot.vendasPorRestaurante(), snapshot);
+        }
+        Map<String, VendasRestaurante> vendas = new LinkedHashMap<>();
+        for (List<Object[]> linhas : shardingService.executarEmTodos(() -> juntar(
+                pedidoRepository.findTotalVendasPorRestaurante(), pedidoArquivoRepository.findTotalVendasPorRestaurante()))) {
+            for (Object[] linha : linhas) {
+                VendasRestaurante parcial = new VendasRestaurante((String) linha[0], decimal(linha[1]), inteiro(linha[2]));
+                vendas.merge(parcial.restaurante(), parcial, (a, b) -> new VendasRestaurante(a.restaurante(),
+                        a.totalVendas().add(b.totalVendas()), a.quantidadePedidos() + b.quantidadePedidos()));
+            }
+        }
+        return Relatorio.doBanco(vendas.values().stream()
+                .sorted(Comparator.comparing(VendasRestaurante::totalVendas).reversed())
+                .toList());
+    }
+
+    @Override
+    public Relatorio<List<FaturamentoCategoria>> faturamentoPorCategoria() {
+        SnapshotPedidos snapshot = snapshot();
+        if (snapshot != null) {
+            return Relatorio.doSnapshot(snapshot.faturamentoPorCategoria(), snapshot);
+        }
+        Map<String, FaturamentoCategoria> faturamento = new LinkedHashMap<>();
+        for (List<Object[]> linhas : shardingService.executarEmTodos(() -> juntar(
+                pedidoRepository.findFaturamentoPorCategoriaNative(), pedidoArquivoRepository.findFaturamentoPorCategoria()))) {
+            for (Object[] linha : linhas) {
+                FaturamentoCategoria parcial = new FaturamentoCategoria((String) linha[0], decimal(linha[1]), inteiro(linha[2]));
+                faturamento.merge(parcial.categoria(), parcial, (a, b) -> new FaturamentoCategoria(a.categoria(),
+                        a.faturamento().add(b.faturamento()), a.totalPedidos() + b.totalPedidos()));
+            }
+        }
+        return Relatorio.doBanco(faturamento.values().stream()
+                .sorted(Comparator.comparing(FaturamentoCategoria::faturamento).reversed())
+                .toList());
+    }
+
+    @Override
+    public Relatorio<List<ClientePedidos>> rankingClientes(int limite) {
+        SnapshotPedidos snapshot = snapshot();
+        if (snapshot != null) {
+            return Relatorio.doSnapshot(snapshot.rankingClientes(limite), snapshot);
+        }
+        // O top N global precisa dos totais completos de cada shard, não só do top N de cada um
+        Map<String, ClientePedidos> clientes = new LinkedHashMap<>();
+        for (List<Object[]> linhas : shardingService.executarEmTodos(() -> juntar(
+                pedidoRepository.findRankingClientesPorPedidos(), pedidoArquivoRepository.findRankingClientesPorPedidos()))) {
+            for (Object[] linha : linhas) {
+                ClientePedidos parcial = new ClientePedidos((String) linha[0], inteiro(linha[1]), decimal(linha[2]));
+                clientes.merge(parcial.cliente(), parcial, (a, b) -> new ClientePedidos(a.cliente(),
+                        a.totalPedidos() + b.totalPedidos(), a.valorTotal().add(b.valorTotal())));
+            }
+        }
+        return Relatorio.doBanco(clientes.values().stream()
+                .sorted(Comparator.comparingLong(ClientePedidos::totalPedidos).reversed())
+                .limit(limite)
+                .toList());
+    }
+
+    @Override
+    public Relatorio<BigDecimal> faturamentoPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        SnapshotPedidos snapshot = snapshot();
+        if (snapshot != null) {
+            return Relatorio.doSnapshot(snapshot.faturamentoPorPeriodo(inicio, fim), snapshot);
+        }
+        BigDecimal faturamento = shardingService.executarEmTodos(() -> decimal(pedidoRepository.findFaturamentoPorPeriodo(inicio, fim))
+                        .add(decimal(pedidoArquivoRepository.findFaturamentoPorPeriodo(inicio, fim)))).stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Relatorio.doBanco(faturamento);
+    }
+
+    @Override
+    public Relatorio<List<ResumoStatus>> resumoPorStatus() {
+        SnapshotPedidos snapshot = snapshot();
+        if (snapshot != null) {
+            return Relatorio.doSnapshot(snapshot.resumoPorStatus(), snapshot);
+        }
+        Map<StatusPedido, ResumoStatus> resumo = new EnumMap<>(StatusPedido.class);
+        for (List<Object[]> linhas : shardingService.executarEmTodos(() -> juntar(
+                pedidoRepository.findTotaisPorStatus(), pedidoArquivoRepository.findTotaisPorStatus()))) {
+            for (Object[] linha : linhas) {
+                ResumoStatus parcial = new ResumoStatus((StatusPedido) linha[0], inteiro(linha[1]), decimal(linha[2]));
+                resumo.merge(parcial.status(), parcial, (a, b) -> new ResumoStatus(a.status(),
+                        a.quantidade() + b.quantidade(), a.valorTotal().add(b.valorTotal())));
+            }
+        }
+        return Relatorio.doBanco(List.copyOf(resumo.values()));
+    }
+
+    private SnapshotPedidos snapshot() {
+        SnapshotPedidosService servico = snapshotPedidosService.getIfAvailable();
+        return servico != null ? servico.atual().orElse(null) : null;
+    }
+
+    // Parciais da tabela quente e do arquivo de um shard; o merge por chave soma os dois
+    private static List<Object[]> juntar(List<Object[]> quentes, List<Object[]> arquivados) {
+        if (arquivados.isEmpty()) {
+            return quentes;
+        }
+        List<Object[]> linhas = new ArrayList<>(quentes.size() + arquivados.size());
+        linhas.addAll(quentes);
+        linhas.addAll(arquivados);
+        return linhas;
+    }
+
+    private static BigDecimal decimal(Object valor) {
+        if (valor == null) {
+            return BigDecimal.ZERO;
+        }
+        return valor instanceof BigDecimal decimal ? decimal : new BigDecimal(valor.toString());
+    }
+
+    private static long inteiro(Object valor) {
+        return valor != null ? ((Number) valor).longValue() : 0L;
+    }
+}
@@ -4,10 +4,13 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.deliverytech.delivery.dto.request.RestauranteRequest;
+import com.deliverytech.delivery.event.RestauranteAlteradoEvent;
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Restaurante;
 import com.deliverytech.delivery.repository.RestauranteRepository;
 import com.deliverytech.delivery.service.RestauranteService;
@@ -20,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class RestauranteServiceImpl implements RestauranteService {
 
     private final RestauranteRepository restauranteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Restaurante cadastrarRestaurante(RestauranteRequest dto) {
@@ -30,11 +34,14 @@ public class RestauranteServiceImpl implements RestauranteService {
                 .nome(dto.getNome())
                 .categoria(dto.getCategoria())
                 .telefone(dto.getTelefone())
-                .taxaEntrega(dto.getTaxaEntrega())
+                .taxaEntrega(Money.de(dto.getTaxaEntrega()))
                 .tempoEntregaMinutos(dto.getTempoEntregaMinutos())
+                .endereco(dto.getEndereco())
                 .ativo(true)
                 .build();
-        return restauranteRepository.save(restaurante);
+        Restaurante salvo = restauranteRepository.save(restaurante);
+        eventPublisher.publishEvent(RestauranteAlteradoEvent.de(salvo));
+        return salvo;
     }
 
     @Override
@@ -68,9 +75,26 @@ public class RestauranteServiceImpl implements RestauranteService {
                     restaurante.setNome(dto.getNome());
                     restaurante.setCategoria(dto.getCategoria());
                     restaurante.setTelefone(dto.getTelefone());
-                    restaurante.setTaxaEntrega(dto.getTaxaEntrega());
+                    restaurante.setTaxaEntrega(Money.de(dto.getTaxaEntrega()));
                     restaurante.setTempoEntregaMinutos(dto.getTempoEntregaMinutos());
-                    return restauranteRepository.save(restaurante);
+                    restaurante.setEndereco(dto.getEndereco());
+                    Restaurante salvo = restauranteRepository.save(restaurante);
+                    eventPublisher.publishEvent(RestauranteAlteradoEvent.de(salvo));
+                    return salvo;
+                }).orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
+    }
+
+    @Override
+    public Restaurante avaliarRestaurante(Long id, Integer avaliacao) {
+        if (avaliacao == null || avaliacao < 1 || avaliacao > 5) {
+            throw new RuntimeException("Avaliação deve estar entre 1 e 5");
+        }
+        return restauranteRepository.findById(id)
+                .map(restaurante -> {
+                    restaurante.setAvaliacao(avaliacao);
+                    Restaurante salvo = restauranteRepository.save(restaurante);
+                    eventPublisher.publishEvent(RestauranteAlteradoEvent.de(salvo));
+                    return salvo;
                 }).orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
     }
 
@@ -80,23 +104,25 @@ public class RestauranteServiceImpl implements RestauranteService {
             throw new RuntimeException("Restaurante não encontrado com ID: " + id);
         }
         restauranteRepository.deleteById(id);
+        eventPublisher.publishEvent(RestauranteAlteradoEvent.removido(id));
     }
 
     @Override
     public BigDecimal calcularTaxaEntrega(Long restauranteId, String cepDestino) {
         return restauranteRepository.findById(restauranteId)
                 .map(restaurante -> {
-                    BigDecimal taxaBase = restaurante.getTaxaEntrega();
+                    long taxaBase = restaurante.getTaxaEntrega().centavos();
                     
                     String cepSemFormatacao = cepDestino.replaceAll("[^0-9]", "");
                     int primeirosDigitos = Integer.parseInt(cepSemFormatacao.substring(0, 2));
                     
+                    // Multiplicadores como frações (1,5 = 3/2), arredondados ao centavo com HALF_UP
                     if (primeirosDigitos >= 80 && primeirosDigitos <= 82) {
-                        return taxaBase;
+                        return Money.deCentavos(taxaBase).toBigDecimal();
                     } else if (primeirosDigitos >= 83 && primeirosDigitos <= 85) {
-                        return taxaBase.multiply(BigDecimal.valueOf(1.5));
+                        return Money.deCentavos(Money.multiplicar(taxaBase, 3, 2)).toBigDecimal();
                     } else {
-                        return taxaBase.multiply(BigDecimal.valueOf(2.0));
+                        return Money.deCentavos(Math.multiplyExact(taxaBase, 2)).toBigDecimal();
                     }
                 }).orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
     }
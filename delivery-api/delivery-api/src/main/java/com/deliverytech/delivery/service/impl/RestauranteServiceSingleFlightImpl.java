@@ -0,0 +1,80 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.config.SingleFlight;
+import com.deliverytech.delivery.config.SingleFlightRegistro;
+import com.deliverytech.delivery.dto.request.RestauranteRequest;
+import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.service.RestauranteService;
+
+/**
+ * RestauranteService com as leituras por id passando por um SingleFlight: buscas concorrentes
+ * pelo mesmo restaurante compartilham uma única consulta ao banco. As escritas só delegam.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "delivery.single-flight.habilitado", havingValue = "true", matchIfMissing = true)
+public class RestauranteServiceSingleFlightImpl implements RestauranteService {
+
+    private final RestauranteService restauranteService;
+    private final SingleFlight<Long, Optional<Restaurante>> porId;
+
+    public RestauranteServiceSingleFlightImpl(@Qualifier("restauranteServiceImpl") RestauranteService restauranteService,
+            SingleFlightRegistro singleFlightRegistro) {
+        this.restauranteService = restauranteService;
+        this.porId = singleFlightRegistro.grupo("restaurantes.porId");
+    }
+
+    @Override
+    public Restaurante cadastrarRestaurante(RestauranteRequest dto) {
+        return restauranteService.cadastrarRestaurante(dto);
+    }
+
+    @Override
+    public Optional<Restaurante> buscarRestaurantePorId(Long id) {
+        return porId.executar(id, () -> restauranteService.buscarRestaurantePorId(id));
+    }
+
+    @Override
+    public List<Restaurante> buscarRestaurantesPorCategoria(String categoria) {
+        return restauranteService.buscarRestaurantesPorCategoria(categoria);
+    }
+
+    @Override
+    public List<Restaurante> buscarRestaurantesDisponiveis() {
+        return restauranteService.buscarRestaurantesDisponiveis();
+    }
+
+    @Override
+    public List<Restaurante> listarRestaurantes() {
+        return restauranteService.listarRestaurantes();
+    }
+
+    @Override
+    public Restaurante atualizarRestaurante(Long id, RestauranteRequest dto) {
+        return restauranteService.atualizarRestaurante(id, dto);
+    }
+
+    @Override
+    public Restaurante avaliarRestaurante(Long id, Integer avaliacao) {
+        return restauranteService.avaliarRestaurante(id, avaliacao);
+    }
+
+    @Override
+    public BigDecimal calcularTaxaEntrega(Long restauranteId, String cepDestino) {
+        return restauranteService.calcularTaxaEntrega(restauranteId, cepDestino);
+    }
+
+    @Override
+    public void removerRestaurante(Long id) {
+        restauranteService.removerRestaurante(id);
+    }
+}
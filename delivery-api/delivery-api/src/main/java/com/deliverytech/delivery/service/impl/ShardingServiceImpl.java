@@ -0,0 +1,81 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.config.ShardContext;
+import com.deliverytech.delivery.config.ShardingConfig;
+import com.deliverytech.delivery.service.ShardingService;
+
+@Service
+public class ShardingServiceImpl implements ShardingService {
+
+    private final int shards;
+
+    public ShardingServiceImpl(Environment environment) {
+        boolean habilitado = environment.getProperty("delivery.sharding.habilitado", Boolean.class, false);
+        this.shards = habilitado ? environment.getProperty("delivery.sharding.urls", String[].class).length : 1;
+    }
+
+    @Override
+    public int quantidadeShards() {
+        return shards;
+    }
+
+    @Override
+    public int shardDoRestaurante(Long restauranteId) {
+        return (int) Math.floorMod(restauranteId, (long) shards);
+    }
+
+    @Override
+    public int shardDoPedido(Long pedidoId) {
+        int shard = (int) (pedidoId / ShardingConfig.FAIXA_IDS_POR_SHARD);
+        if (shard < 0 || shard >= shards) {
+            throw new RuntimeException("Pedido não encontrado");
+        }
+        return shard;
+    }
+
+    @Override
+    public <T> T executarNoShard(int shard, Supplier<T> acao) {
+        if (shards == 1) {
+            return acao.get();
+        }
+        return ShardContext.executar(shard, acao);
+    }
+
+    @Override
+    public <T> List<T> executarEmTodos(Supplier<T> acao) {
+        if (shards == 1) {
+            return List.of(acao.get());
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> tarefas = new ArrayList<>(shards);
+            for (int shard = 0; shard < shards; shard++) {
+                int alvo = shard;
+                tarefas.add(executor.submit(() -> ShardContext.executar(alvo, acao)));
+            }
+            List<T> resultados = new ArrayList<>(shards);
+            for (Future<T> tarefa : tarefas) {
+                resultados.add(tarefa.get());
+            }
+            return resultados;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Consulta aos shards interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new RuntimeException("Erro ao consultar os shards", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.deliverytech.delivery.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.service.ShardingService;
+import com.deliverytech.delivery.service.SnapshotPedidos;
+import com.deliverytech.delivery.service.SnapshotPedidosService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reconstrói o snapshot lendo só as cinco colunas necessárias de cada shard via JDBC, linha
+ * a linha, sem materializar entidades. Restaurantes e clientes vêm do banco principal
+ * (replicados nos demais shards). O snapshot novo substitui o anterior de uma vez; se a
+ * reconstrução falhar, o anterior continua valendo até passar da idade máxima.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "delivery.analitico.habilitado", havingValue = "true")
+@RequiredArgsConstructor
+public class SnapshotPedidosServiceImpl implements SnapshotPedidosService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotPedidosServiceImpl.class);
+
+    // Os pedidos arquivados continuam contando nos relatórios
+    private static final String SELECT_PEDIDOS =
+            "SELECT restaurante_id, cliente_id, status, data_pedido, total FROM pedido "
+            + "UNION ALL SELECT restaurante_id, cliente_id, status, data_pedido, total FROM pedido_arquivo";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardingService shardingService;
+
+    @Value("${delivery.analitico.idade-maxima-ms:600000}")
+    private long idadeMaximaMs;
+
+    private volatile SnapshotPedidos atual;
+    private volatile long atualizadoEmMs;
+
+    @Override
+    public Optional<SnapshotPedidos> atual() {
+        SnapshotPedidos snapshot = atual;
+        if (snapshot == null || System.currentTimeMillis() - atualizadoEmMs > idadeMaximaMs) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    @Override
+    public SnapshotPedidos atualizar() {
+        long inicio = System.currentTimeMillis();
+        LocalDateTime geradoEm = LocalDateTime.now();
+        SnapshotPedidos.Construtor construtor = new SnapshotPedidos.Construtor();
+
+        for (int shard = 0; shard < shardingService.quantidadeShards(); shard++) {
+            shardingService.executarNoShard(shard, () -> {
+                jdbcTemplate.query(SELECT_PEDIDOS, rs -> {
+                    BigDecimal total = rs.getBigDecimal(5);
+                    construtor.adicionarPedido(rs.getLong(1), rs.getLong(2), StatusPedido.valueOf(rs.getString(3)),
+                            rs.getTimestamp(4).toLocalDateTime(), total != null ? Money.de(total).centavos() : 0L);
+                });
+                return null;
+            });
+        }
+        jdbcTemplate.query("SELECT id, nome, categoria FROM restaurante",
+                rs -> { construtor.nomearRestaurante(rs.getLong(1), rs.getString(2), rs.getString(3)); });
+        jdbcTemplate.query("SELECT id, nome FROM cliente",
+                rs -> { construtor.nomearCliente(rs.getLong(1), rs.getString(2)); });
+
+        SnapshotPedidos snapshot = construtor.construir(geradoEm);
+        atual = snapshot;
+        atualizadoEmMs = inicio;
+        logger.debug("Snapshot analítico com {} pedidos gerado em {} ms",
+                snapshot.getTamanho(), System.currentTimeMillis() - inicio);
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.analitico.intervalo-ms:60000}")
+    public void atualizarPeriodicamente() {
+        try {
+            atualizar();
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao atualizar o snapshot analítico; mantendo o anterior", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+-- Schema de produção das entidades JPA (antes gerado por ddl-auto=create-drop)
+
+CREATE TABLE cliente (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome VARCHAR(255),
+    telefone VARCHAR(255),
+    rua VARCHAR(255),
+    numero VARCHAR(255),
+    bairro VARCHAR(255),
+    cidade VARCHAR(255),
+    estado VARCHAR(255),
+    cep VARCHAR(255),
+    email VARCHAR(255),
+    ativo BOOLEAN,
+    data_criacao TIMESTAMP(6),
+    CONSTRAINT uk_cliente_email UNIQUE (email)
+);
+
+CREATE TABLE restaurante (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome VARCHAR(255),
+    categoria VARCHAR(255),
+    telefone VARCHAR(255),
+    taxa_entrega NUMERIC(38, 2),
+    tempo_entrega_minutos INTEGER,
+    avaliacao INTEGER,
+    ativo BOOLEAN
+);
+
+CREATE TABLE produto (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome VARCHAR(255),
+    categoria VARCHAR(255),
+    descricao VARCHAR(255),
+    preco NUMERIC(38, 2),
+    disponivel BOOLEAN,
+    restaurante_id BIGINT
+);
+
+CREATE TABLE pedido (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cliente_id BIGINT,
+    restaurante_id BIGINT,
+    total NUMERIC(38, 2),
+    status VARCHAR(20),
+    data_pedido TIMESTAMP(6),
+    relatorio_pedido VARCHAR(255),
+    rua VARCHAR(255),
+    numero VARCHAR(255),
+    bairro VARCHAR(255),
+    cidade VARCHAR(255),
+    estado VARCHAR(255),
+    cep VARCHAR(255)
+);
+
+CREATE TABLE item_pedido (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pedido_id BIGINT,
+    produto_id BIGINT,
+    quantidade INTEGER,
+    preco_unitario NUMERIC(38, 2)
+);
@@ -0,0 +1,34 @@
+-- Índices alinhados aos métodos dos repositórios.
+
+-- PedidoRepository.findByClienteId / findByClienteIdWithItens (ORDER BY data_pedido)
+CREATE INDEX idx_pedido_cliente_data ON pedido (cliente_id, data_pedido);
+-- PedidoRepository.findByRestauranteId
+CREATE INDEX idx_pedido_restaurante_data ON pedido (restaurante_id, data_pedido);
+-- PedidoRepository.findByStatus e relatórios por status e período
+CREATE INDEX idx_pedido_status_data ON pedido (status, data_pedido);
+-- PedidoRepository.findByDataPedidoBetween / findTop10ByOrderByDataPedidoDesc
+CREATE INDEX idx_pedido_data ON pedido (data_pedido);
+
+CREATE INDEX idx_item_pedido_pedido ON item_pedido (pedido_id);
+CREATE INDEX idx_item_pedido_produto ON item_pedido (produto_id);
+
+-- ProdutoRepository.findByRestauranteId (cardápio filtrado por disponibilidade)
+CREATE INDEX idx_produto_restaurante_disponivel ON produto (restaurante_id, disponivel);
+-- ProdutoRepository.findByCategoria
+CREATE INDEX idx_produto_categoria ON produto (categoria);
+
+-- RestauranteRepository.findByCategoria / findAllByOrderByAvaliacaoDesc / existsByNome
+CREATE INDEX idx_restaurante_categoria ON restaurante (categoria);
+CREATE INDEX idx_restaurante_avaliacao ON restaurante (avaliacao);
+CREATE INDEX idx_restaurante_nome ON restaurante (nome);
+
+ALTER TABLE produto ADD CONSTRAINT fk_produto_restaurante
+    FOREIGN KEY (restaurante_id) REFERENCES restaurante (id);
+ALTER TABLE pedido ADD CONSTRAINT fk_pedido_cliente
+    FOREIGN KEY (cliente_id) REFERENCES cliente (id);
+ALTER TABLE pedido ADD CONSTRAINT fk_pedido_restaurante
+    FOREIGN KEY (restaurante_id) REFERENCES restaurante (id);
+ALTER TABLE item_pedido ADD CONSTRAINT fk_item_pedido_pedido
+    FOREIGN KEY (pedido_id) REFERENCES pedido (id);
+ALTER TABLE item_pedido ADD CONSTRAINT fk_item_pedido_produto
+    FOREIGN KEY (produto_id) REFERENCES produto (id);
@@ -0,0 +1,12 @@
+-- Outbox de eventos de pedido, gravado na mesma transação da alteração do pedido
+CREATE TABLE outbox_evento (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pedido_id BIGINT NOT NULL,
+    tipo VARCHAR(30) NOT NULL,
+    payload VARCHAR(8000) NOT NULL,
+    criado_em TIMESTAMP(6) NOT NULL,
+    publicado_em TIMESTAMP(6)
+);
+
+-- Leitura dos pendentes em ordem de id (publicado_em IS NULL ORDER BY id)
+CREATE INDEX idx_outbox_pendentes ON outbox_evento (publicado_em, id);
@@ -0,0 +1,16 @@
+-- Coordenadas no endereço (embeddable Endereco) e endereço do restaurante
+
+ALTER TABLE cliente ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE cliente ADD COLUMN longitude DOUBLE PRECISION;
+
+ALTER TABLE pedido ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE pedido ADD COLUMN longitude DOUBLE PRECISION;
+
+ALTER TABLE restaurante ADD COLUMN rua VARCHAR(255);
+ALTER TABLE restaurante ADD COLUMN numero VARCHAR(255);
+ALTER TABLE restaurante ADD COLUMN bairro VARCHAR(255);
+ALTER TABLE restaurante ADD COLUMN cidade VARCHAR(255);
+ALTER TABLE restaurante ADD COLUMN estado VARCHAR(255);
+ALTER TABLE restaurante ADD COLUMN cep VARCHAR(255);
+ALTER TABLE restaurante ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE restaurante ADD COLUMN longitude DOUBLE PRECISION;
@@ -0,0 +1,32 @@
+-- Pedidos finalizados (ENTREGUE/CANCELADO) antigos, movidos de pedido/item_pedido em lotes.
+-- Mesmas colunas das tabelas quentes; sem FK para pedido, que perde a linha ao arquivar.
+CREATE TABLE pedido_arquivo (
+    id BIGINT PRIMARY KEY,
+    cliente_id BIGINT,
+    restaurante_id BIGINT,
+    total NUMERIC(38, 2),
+    status VARCHAR(20),
+    data_pedido TIMESTAMP(6),
+    relatorio_pedido VARCHAR(255),
+    rua VARCHAR(255),
+    numero VARCHAR(255),
+    bairro VARCHAR(255),
+    cidade VARCHAR(255),
+    estado VARCHAR(255),
+    cep VARCHAR(255),
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    arquivado_em TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE item_pedido_arquivo (
+    id BIGINT PRIMARY KEY,
+    pedido_id BIGINT NOT NULL,
+    produto_id BIGINT,
+    quantidade INTEGER,
+    preco_unitario NUMERIC(38, 2)
+);
+
+-- Histórico do cliente (ORDER BY data_pedido DESC, id DESC) e itens de cada pedido
+CREATE INDEX idx_pedido_arquivo_cliente_data ON pedido_arquivo (cliente_id, data_pedido);
+CREATE INDEX idx_item_pedido_arquivo_pedido ON item_pedido_arquivo (pedido_id);
@@ -0,0 +1,2 @@
+-- O payload do PEDIDO_CRIADO cresce com a quantidade de itens e pode passar de 8000 caracteres
+ALTER TABLE outbox_evento ALTER COLUMN payload SET DATA TYPE CLOB;
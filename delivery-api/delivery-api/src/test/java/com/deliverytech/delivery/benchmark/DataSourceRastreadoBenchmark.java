@@ -0,0 +1,133 @@
+package com.deliverytech.delivery.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.deliverytech.delivery.config.DataSourceRastreado;
+import com.deliverytech.delivery.config.EstatisticasSql;
+import com.deliverytech.delivery.config.RastroRequisicao;
+
+/**
+ * Custo do DataSourceRastreado por comando: uma consulta preparada de 10 linhas em H2 em
+ * memória, sobre uma conexão já aberta, sem rastreamento, só com o rastro da requisição e
+ * com rastro e EstatisticasSql. Roda só com {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@DisplayName("Benchmark do DataSourceRastreado")
+public class DataSourceRastreadoBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRastreadoBenchmark.class);
+
+    private static final String NORMA_ALOCACAO = "gc.alloc.rate.norm";
+    private static final String CONSULTA = "SELECT id, nome FROM item WHERE id BETWEEN ? AND ?";
+
+    @Param({ "direto", "rastro", "rastro-estatisticas" })
+    public String modo;
+
+    private SingleConnectionDataSource conexao;
+    private DataSource dataSource;
+    private boolean comRastro;
+
+    @Setup
+    public void preparar() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:rastreado;DB_CLOSE_DELAY=-1");
+        conexao = new SingleConnectionDataSource(h2.getConnection(), true);
+        try (Statement comando = conexao.getConnection().createStatement()) {
+            comando.execute("CREATE TABLE IF NOT EXISTS item (id BIGINT PRIMARY KEY, nome VARCHAR(50))");
+            comando.execute("MERGE INTO item SELECT X, 'item ' || X FROM SYSTEM_RANGE(1, 100)");
+        }
+
+        EstatisticasSql estatisticas = new EstatisticasSql();
+        ReflectionTestUtils.setField(estatisticas, "habilitada", modo.endsWith("estatisticas"));
+        ReflectionTestUtils.setField(estatisticas, "maxFingerprints", 2000);
+        dataSource = modo.equals("direto") ? conexao : new DataSourceRastreado(conexao, estatisticas);
+        comRastro = !modo.equals("direto");
+    }
+
+    @TearDown
+    public void encerrar() {
+        conexao.destroy();
+    }
+
+    @Benchmark
+    public long consultar() throws SQLException {
+        if (comRastro) {
+            RastroRequisicao.iniciar(100);
+        }
+        try {
+            long soma = 0;
+            Connection atual = dataSource.getConnection();
+            try (PreparedStatement comando = atual.prepareStatement(CONSULTA)) {
+                comando.setLong(1, 11);
+                comando.setLong(2, 20);
+                try (ResultSet linhas = comando.executeQuery()) {
+                    while (linhas.next()) {
+                        soma += linhas.getLong(1) + linhas.getString(2).length();
+                    }
+                }
+            }
+            return soma;
+        } finally {
+            RastroRequisicao.encerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve medir o custo do rastreamento por comando")
+    void medirRastreamento() throws Exception {
+        Options opcoes = new OptionsBuilder()
+                .include(DataSourceRastreadoBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> resultados = new Runner(opcoes).run();
+
+        assertEquals(3, resultados.size());
+        for (RunResult resultado : resultados) {
+            logger.info("{}: {} ns/op, {} B/op", resultado.getParams().getParam("modo"),
+                    String.format("%.0f", resultado.getPrimaryResult().getScore()),
+                    String.format("%.0f", resultado.getSecondaryResults().get(NORMA_ALOCACAO).getScore()));
+        }
+    }
+}
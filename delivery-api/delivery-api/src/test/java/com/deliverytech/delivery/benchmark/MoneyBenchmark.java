@@ -0,0 +1,132 @@
+package com.deliverytech.delivery.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.Restaurante;
+
+/**
+ * Compara o cálculo de total de pedido e de taxa de entrega com BigDecimal (caminho antigo)
+ * e com Money em centavos lido das entidades, como fazem PedidoServiceImpl e
+ * RestauranteServiceImpl. Roda só com {@code ./mvnw test -Pbenchmark}; o GCProfiler
+ * informa a alocação por operação (gc.alloc.rate.norm).
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@DisplayName("Benchmark do Money contra BigDecimal")
+public class MoneyBenchmark {
+
+    private static final String NORMA_ALOCACAO = "gc.alloc.rate.norm";
+
+    @Param({ "5", "50" })
+    public int itens;
+
+    private BigDecimal[] precos;
+    private Produto[] produtos;
+    private int[] quantidades;
+    private BigDecimal taxa;
+    private Restaurante restaurante;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom random = new SplittableRandom(42);
+        precos = new BigDecimal[itens];
+        produtos = new Produto[itens];
+        quantidades = new int[itens];
+        for (int i = 0; i < itens; i++) {
+            precos[i] = BigDecimal.valueOf(random.nextLong(100, 20_000), 2);
+            produtos[i] = Produto.builder().preco(Money.de(precos[i])).build();
+            quantidades[i] = 1 + random.nextInt(5);
+        }
+        taxa = new BigDecimal("7.99");
+        restaurante = Restaurante.builder().taxaEntrega(Money.de(taxa)).build();
+    }
+
+    @Benchmark
+    public BigDecimal totalBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itens; i++) {
+            total = total.add(precos[i].multiply(BigDecimal.valueOf(quantidades[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long totalMoney() {
+        long total = 0;
+        for (int i = 0; i < itens; i++) {
+            total = Math.addExact(total, Math.multiplyExact(produtos[i].getPreco().centavos(), quantidades[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal taxaBigDecimal() {
+        return taxa.multiply(BigDecimal.valueOf(1.5));
+    }
+
+    @Benchmark
+    public long taxaMoney() {
+        return Money.multiplicar(restaurante.getTaxaEntrega().centavos(), 3, 2);
+    }
+
+    @Test
+    @DisplayName("Money deve alocar menos que BigDecimal nos cálculos de preço")
+    void compararComBigDecimal() throws Exception {
+        Options opcoes = new OptionsBuilder()
+                .include(MoneyBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> resultados = new Runner(opcoes).run();
+
+        for (String caso : new String[] { "total", "taxa" }) {
+            for (String itensParam : new String[] { "5", "50" }) {
+                double alocacaoBigDecimal = alocacao(resultados, caso + "BigDecimal", itensParam);
+                double alocacaoMoney = alocacao(resultados, caso + "Money", itensParam);
+                assertTrue(alocacaoMoney < alocacaoBigDecimal,
+                        caso + " (" + itensParam + " itens): Money alocou " + alocacaoMoney
+                                + " B/op contra " + alocacaoBigDecimal + " B/op do BigDecimal");
+            }
+        }
+    }
+
+    private static double alocacao(Collection<RunResult> resultados, String metodo, String itens) {
+        return resultados.stream()
+                .filter(r -> r.getParams().getBenchmark().endsWith("." + metodo))
+                .filter(r -> itens.equals(r.getParams().getParam("itens")))
+                .findFirst()
+                .map(r -> r.getSecondaryResults().get(NORMA_ALOCACAO).getScore())
+                .orElseThrow(() -> new IllegalStateException("Sem resultado para " + metodo));
+    }
+}
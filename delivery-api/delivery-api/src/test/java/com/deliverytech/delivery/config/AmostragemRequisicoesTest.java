@@ -0,0 +1,90 @@
+package com.deliverytech.delivery.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("Testes da AmostragemRequisicoes")
+class AmostragemRequisicoesTest {
+
+    private final AmostragemRequisicoes amostragem = new AmostragemRequisicoes();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(amostragem, "porEndpointMaximo", 2);
+        ReflectionTestUtils.setField(amostragem, "maxEndpoints", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RastroRequisicao.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve manter só as N requisições mais lentas de cada endpoint")
+    void deveManterAsMaisLentas() {
+        // Given
+        RastroRequisicao rastro = RastroRequisicao.iniciar(10);
+
+        // When
+        for (long ms : new long[] { 5, 9, 1, 7 }) {
+            amostragem.registrar("GET /api/pedidos/{id}", "/api/pedidos/1", 200, 0, TimeUnit.MILLISECONDS.toNanos(ms), rastro);
+        }
+        amostragem.registrar("GET /api/restaurantes", "/api/restaurantes", 200, 0, TimeUnit.MILLISECONDS.toNanos(3), rastro);
+
+        // Then
+        List<AmostragemRequisicoes.Amostra> pedidos = amostragem.amostras().get("GET /api/pedidos/{id}");
+        assertEquals(List.of(9.0, 7.0), pedidos.stream().map(AmostragemRequisicoes.Amostra::duracaoMs).toList());
+        assertEquals(1, amostragem.amostras().get("GET /api/restaurantes").size());
+    }
+
+    @Test
+    @DisplayName("Deve registrar SQL e linhas lidas das conexões obtidas durante a requisição")
+    void deveRegistrarComandosDaRequisicao() throws Exception {
+        // Given
+        DataSource alvo = mock(DataSource.class);
+        Connection conexao = mock(Connection.class);
+        PreparedStatement consulta = mock(PreparedStatement.class);
+        PreparedStatement atualizacao = mock(PreparedStatement.class);
+        ResultSet linhas = mock(ResultSet.class);
+        when(alvo.getConnection()).thenReturn(conexao);
+        when(conexao.prepareStatement("SELECT * FROM pedido")).thenReturn(consulta);
+        when(conexao.prepareStatement("UPDATE produto SET disponivel = false")).thenReturn(atualizacao);
+        when(consulta.executeQuery()).thenReturn(linhas);
+        when(linhas.next()).thenReturn(true, true, false);
+        when(atualizacao.executeUpdate()).thenReturn(4);
+        DataSourceRastreado dataSource = new DataSourceRastreado(alvo, null);
+
+        // Then: sem estatísticas e fora de uma requisição a conexão do pool não é envolvida
+        assertSame(conexao, dataSource.getConnection());
+
+        // When
+        RastroRequisicao rastro = RastroRequisicao.iniciar(10);
+        Connection rastreada = dataSource.getConnection();
+        ResultSet resultado = rastreada.prepareStatement("SELECT * FROM pedido").executeQuery();
+        while (resultado.next()) {
+            // percorre o resultado como o chamador faria
+        }
+        rastreada.prepareStatement("UPDATE produto SET disponivel = false").executeUpdate();
+
+        // Then
+        List<RastroRequisicao.Comando> comandos = rastro.getComandos();
+        assertEquals(2, comandos.size());
+        assertEquals("SELECT * FROM pedido", comandos.get(0).getSql());
+        assertEquals(2, comandos.get(0).getLinhas());
+        assertEquals(4, comandos.get(1).getLinhas());
+    }
+}
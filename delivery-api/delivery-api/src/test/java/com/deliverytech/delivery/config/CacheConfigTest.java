@@ -0,0 +1,53 @@
+package com.deliverytech.delivery.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverytech.delivery.service.impl.ProdutoServiceImpl;
+
+@DisplayName("Testes do CacheConfig")
+class CacheConfigTest {
+
+    private final Cache cache = new CacheConfig().cacheManager().getCache(ProdutoServiceImpl.CACHE_PRODUTOS_POR_RESTAURANTE);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a invalidação só depois do commit")
+    void deveInvalidarAposCommit() {
+        // Given
+        cache.put(1L, "cardápio antigo");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.evict(1L);
+
+        // Then: antes do commit a entrada continua lá
+        assertNotNull(cache.get(1L));
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            sincronizacao.afterCommit();
+        }
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar escritas na hora fora de transação")
+    void deveEscreverForaDeTransacao() {
+        // When
+        cache.put(2L, "cardápio");
+
+        // Then
+        assertEquals("cardápio", cache.get(2L, String.class));
+    }
+}
@@ -0,0 +1,63 @@
+package com.deliverytech.delivery.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("Testes do DatabaseSnapshot")
+class DatabaseSnapshotTest {
+
+    @TempDir
+    Path diretorio;
+
+    private DatabaseSnapshot databaseSnapshot;
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        databaseSnapshot = new DatabaseSnapshot(new JdbcTemplate());
+        ReflectionTestUtils.setField(databaseSnapshot, "locaisMigracoes", new String[] { "classpath:db/migration" });
+        snapshot = diretorio.resolve("deliverydb-snapshot.sql.gz");
+        Files.writeString(snapshot, "conteudo");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar snapshot gerado com a última migração")
+    void deveAceitarSnapshotDaVersaoAtual() throws Exception {
+        // Given
+        Files.writeString(diretorio.resolve("deliverydb-snapshot.sql.gz.versao"), databaseSnapshot.ultimaMigracao());
+
+        // When & Then
+        assertTrue(databaseSnapshot.valido(snapshot));
+        assertTrue(Files.exists(snapshot));
+    }
+
+    @Test
+    @DisplayName("Deve descartar snapshot de outra versão do schema")
+    void deveDescartarSnapshotDeOutraVersao() throws Exception {
+        // Given
+        Path versao = diretorio.resolve("deliverydb-snapshot.sql.gz.versao");
+        Files.writeString(versao, "1");
+
+        // When & Then
+        assertFalse(databaseSnapshot.valido(snapshot));
+        assertFalse(Files.exists(snapshot));
+        assertFalse(Files.exists(versao));
+    }
+
+    @Test
+    @DisplayName("Deve descartar snapshot sem versão gravada")
+    void deveDescartarSnapshotSemVersao() {
+        // When & Then
+        assertFalse(databaseSnapshot.valido(snapshot));
+        assertFalse(Files.exists(snapshot));
+    }
+}
@@ -0,0 +1,86 @@
+package com.deliverytech.delivery.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.deliverytech.delivery.repository.PedidoRepository;
+
+@DisplayName("Testes das EstatisticasSql")
+class EstatisticasSqlTest {
+
+    private final EstatisticasSql estatisticas = new EstatisticasSql();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(estatisticas, "habilitada", true);
+        ReflectionTestUtils.setField(estatisticas, "maxFingerprints", 100);
+    }
+
+    @Test
+    @DisplayName("Deve remover literais e agrupar listas de IN no fingerprint")
+    void deveNormalizarSql() {
+        assertEquals("select p1_0.id from pedido p1_0 where p1_0.status=? and p1_0.total>?",
+                FingerprintSql.normalizar("select p1_0.id from pedido p1_0\n  where p1_0.status='ENTREGUE' and p1_0.total>10.5"));
+        assertEquals("SELECT id FROM pedido WHERE id IN (?+) LIMIT ?",
+                FingerprintSql.normalizar("SELECT id FROM pedido WHERE id IN (?, ?,?) LIMIT 50"));
+        assertEquals("SELECT nome FROM cliente WHERE nome = ?",
+                FingerprintSql.normalizar("SELECT nome FROM cliente WHERE nome = 'D''Ávila'"));
+    }
+
+    @Test
+    @DisplayName("Deve acumular execuções, linhas e repositório de origem por fingerprint")
+    void deveAcumularPorFingerprint() throws Throwable {
+        // Given
+        DataSource alvo = mock(DataSource.class);
+        Connection conexao = mock(Connection.class);
+        PreparedStatement consulta = mock(PreparedStatement.class);
+        ResultSet linhas = mock(ResultSet.class);
+        when(alvo.getConnection()).thenReturn(conexao);
+        when(conexao.prepareStatement(anyString())).thenReturn(consulta);
+        when(consulta.executeQuery()).thenReturn(linhas);
+        when(linhas.next()).thenReturn(true, true, false, true, false);
+        DataSourceRastreado dataSource = new DataSourceRastreado(alvo, estatisticas);
+
+        Method metodo = PedidoRepository.class.getMethod("findByClienteId", Long.class);
+        MethodInvocation chamada = mock(MethodInvocation.class);
+        when(chamada.getMethod()).thenReturn(metodo);
+        when(chamada.proceed()).thenAnswer(invocacao -> executar(dataSource, "SELECT * FROM pedido WHERE id IN (?, ?)"));
+
+        // When: uma execução dentro do repositório e outra, com IN de outro tamanho, fora dele
+        new OrigemSql("PedidoRepository").invoke(chamada);
+        executar(dataSource, "SELECT * FROM pedido WHERE id IN (?, ?, ?)");
+
+        // Then
+        List<EstatisticasSql.Estatistica> maisCustosos = estatisticas.maisCustosos(10);
+        assertEquals(1, maisCustosos.size());
+        EstatisticasSql.Estatistica estatistica = maisCustosos.get(0);
+        assertEquals("SELECT * FROM pedido WHERE id IN (?+)", estatistica.fingerprint());
+        assertEquals(2, estatistica.execucoes());
+        assertEquals(3, estatistica.linhas());
+        assertEquals(Set.of("PedidoRepository.findByClienteId", EstatisticasSql.SEM_ORIGEM), estatistica.origens());
+        assertNull(OrigemSql.atual());
+    }
+
+    private static Object executar(DataSource dataSource, String sql) throws Exception {
+        ResultSet resultado = dataSource.getConnection().prepareStatement(sql).executeQuery();
+        while (resultado.next()) {
+            // percorre o resultado como o chamador faria
+        }
+        return null;
+    }
+}
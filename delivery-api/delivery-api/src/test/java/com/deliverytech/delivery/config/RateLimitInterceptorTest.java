@@ -0,0 +1,74 @@
+package com.deliverytech.delivery.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.deliverytech.delivery.service.RateLimitService;
+
+@DisplayName("Testes do RateLimitInterceptor")
+class RateLimitInterceptorTest {
+
+    private final RateLimitService rateLimitService = mock(RateLimitService.class);
+    private final RateLimitInterceptor interceptor =
+            new RateLimitInterceptor(rateLimitService, "POST", RateLimitService.PEDIDOS_CRIAR);
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After quando o limite é excedido")
+    void deveResponder429QuandoExcedido() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/pedidos");
+        request.addHeader("X-Cliente-Id", "7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(rateLimitService.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:7"))
+                .thenReturn(new RateLimitService.Resultado(false, 5, 0, 2));
+
+        // When
+        boolean segue = interceptor.preHandle(request, response, null);
+
+        // Then
+        assertFalse(segue);
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertEquals("0", response.getHeader("RateLimit-Remaining"));
+    }
+
+    @Test
+    @DisplayName("Deve seguir com os cabeçalhos de limite e preferir a API key como chave")
+    void deveSeguirComCabecalhos() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/pedidos");
+        request.addHeader("X-API-Key", "parceiro");
+        request.addHeader("X-Cliente-Id", "7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(rateLimitService.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "api-key:parceiro"))
+                .thenReturn(new RateLimitService.Resultado(true, 5, 4, 1));
+
+        // When
+        boolean segue = interceptor.preHandle(request, response, null);
+
+        // Then
+        assertTrue(segue);
+        assertEquals("5", response.getHeader("RateLimit-Limit"));
+        assertEquals("4", response.getHeader("RateLimit-Remaining"));
+        assertNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Não deve consumir fichas em outro método da mesma rota")
+    void naoDeveLimitarOutroMetodo() {
+        // Given: GET /api/pedidos é a listagem, sem rate limit
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/pedidos");
+
+        // When
+        boolean segue = interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // Then
+        assertTrue(segue);
+        verifyNoInteractions(rateLimitService);
+    }
+}
@@ -0,0 +1,122 @@
+package com.deliverytech.delivery.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes do SingleFlight")
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar uma única consulta entre chamadas concorrentes com a mesma chave")
+    void deveCompartilharConsultaEmAndamento() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("teste", 5000);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        Future<String> lider = executor.submit(() -> singleFlight.executar(1L, () -> {
+            iniciada.countDown();
+            aguardar(liberar);
+            return "restaurante-" + consultas.incrementAndGet();
+        }));
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        // When
+        List<Future<String>> seguidores = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            seguidores.add(executor.submit(() -> singleFlight.executar(1L, () -> "restaurante-" + consultas.incrementAndGet())));
+        }
+        while (singleFlight.estatisticas().coalescidas() < 5) {
+            Thread.onSpinWait();
+        }
+        liberar.countDown();
+
+        // Then
+        assertEquals("restaurante-1", lider.get(5, TimeUnit.SECONDS));
+        for (Future<String> seguidor : seguidores) {
+            assertEquals("restaurante-1", seguidor.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, consultas.get());
+        assertEquals(1, singleFlight.estatisticas().execucoes());
+        assertEquals(0, singleFlight.estatisticas().emAndamento());
+    }
+
+    @Test
+    @DisplayName("Deve propagar o erro da consulta para quem estava aguardando")
+    void devePropagarErro() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("teste", 5000);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        Future<String> lider = executor.submit(() -> singleFlight.executar(1L, () -> {
+            iniciada.countDown();
+            aguardar(liberar);
+            throw new RuntimeException("banco indisponível");
+        }));
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        // When
+        Future<String> seguidor = executor.submit(() -> singleFlight.executar(1L, () -> "não deveria executar"));
+        while (singleFlight.estatisticas().coalescidas() < 1) {
+            Thread.onSpinWait();
+        }
+        liberar.countDown();
+
+        // Then
+        Exception erroLider = assertThrows(Exception.class, () -> lider.get(5, TimeUnit.SECONDS));
+        Exception erroSeguidor = assertThrows(Exception.class, () -> seguidor.get(5, TimeUnit.SECONDS));
+        assertEquals("banco indisponível", erroLider.getCause().getMessage());
+        assertEquals("banco indisponível", erroSeguidor.getCause().getMessage());
+        assertEquals(1, singleFlight.estatisticas().erros());
+        assertEquals("ok", singleFlight.executar(1L, () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Deve desistir de esperar após o timeout sem afetar a consulta em andamento")
+    void deveRespeitarTimeout() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("teste", 50);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        Future<String> lider = executor.submit(() -> singleFlight.executar(1L, () -> {
+            iniciada.countDown();
+            aguardar(liberar);
+            return "lento";
+        }));
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> singleFlight.executar(1L, () -> "não deveria executar"));
+        assertEquals(1, singleFlight.estatisticas().timeouts());
+
+        liberar.countDown();
+        assertEquals("lento", lider.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
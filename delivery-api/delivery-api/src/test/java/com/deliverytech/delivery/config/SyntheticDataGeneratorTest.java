@@ -0,0 +1,119 @@
+package com.deliverytech.delivery.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Testes do SyntheticDataGenerator")
+class SyntheticDataGeneratorTest {
+
+    private static final AtomicInteger BANCOS = new AtomicInteger();
+
+    // Colunas que não dependem do relógio: as datas são relativas ao instante da geração
+    private static final String ASSINATURA =
+            "SELECT (SELECT SUM(ORA_HASH(CONCAT_WS('|', id, nome, email, telefone, cep, latitude, ativo))) FROM cliente) || '/' "
+            + "|| (SELECT SUM(ORA_HASH(CONCAT_WS('|', id, nome, categoria, taxa_entrega, avaliacao, ativo))) FROM restaurante) || '/' "
+            + "|| (SELECT SUM(ORA_HASH(CONCAT_WS('|', id, restaurante_id, categoria, preco, disponivel))) FROM produto) || '/' "
+            + "|| (SELECT SUM(ORA_HASH(CONCAT_WS('|', id, cliente_id, restaurante_id, total, status, cep))) FROM pedido) || '/' "
+            + "|| (SELECT SUM(ORA_HASH(CONCAT_WS('|', id, pedido_id, produto_id, quantidade, preco_unitario))) FROM item_pedido)";
+
+    private final List<JdbcTemplate> bancos = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private SyntheticDataGenerator.Resumo resumo;
+
+    @BeforeAll
+    void gerarMassa() {
+        jdbcTemplate = bancoVazio();
+        resumo = gerador(jdbcTemplate).gerar(1);
+    }
+
+    @AfterAll
+    void descartarBancos() {
+        bancos.forEach(banco -> banco.execute("SHUTDOWN"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar as quantidades proporcionais ao fator de escala")
+    void deveGerarQuantidadesDoFator() {
+        // Then
+        assertEquals(SyntheticDataGenerator.CLIENTES_POR_FATOR, contar("cliente"));
+        assertEquals(SyntheticDataGenerator.RESTAURANTES_POR_FATOR, contar("restaurante"));
+        assertEquals(SyntheticDataGenerator.RESTAURANTES_POR_FATOR * SyntheticDataGenerator.PRODUTOS_POR_RESTAURANTE,
+                contar("produto"));
+        assertEquals(SyntheticDataGenerator.PEDIDOS_POR_FATOR, contar("pedido"));
+        assertEquals(resumo.itens(), contar("item_pedido"));
+        // Tamanho geométrico: entre 1 e 8 itens, média perto de 1,8
+        long itens = contar("item_pedido");
+        assertTrue(itens > contar("pedido") * 1.6 && itens < contar("pedido") * 2.0, "Itens por pedido fora do esperado: " + itens);
+    }
+
+    @Test
+    @DisplayName("Deve gerar chaves estrangeiras válidas e itens do cardápio do próprio restaurante")
+    void deveGerarChavesEstrangeirasValidas() {
+        // Then
+        assertEquals(0, contarSql("SELECT COUNT(*) FROM produto p LEFT JOIN restaurante r ON r.id = p.restaurante_id "
+                + "WHERE r.id IS NULL"));
+        assertEquals(0, contarSql("SELECT COUNT(*) FROM pedido p LEFT JOIN cliente c ON c.id = p.cliente_id "
+                + "LEFT JOIN restaurante r ON r.id = p.restaurante_id WHERE c.id IS NULL OR r.id IS NULL"));
+        assertEquals(0, contarSql("SELECT COUNT(*) FROM item_pedido i LEFT JOIN pedido p ON p.id = i.pedido_id "
+                + "LEFT JOIN produto pr ON pr.id = i.produto_id WHERE p.id IS NULL OR pr.id IS NULL"));
+        assertEquals(0, contarSql("SELECT COUNT(*) FROM item_pedido i JOIN pedido p ON p.id = i.pedido_id "
+                + "JOIN produto pr ON pr.id = i.produto_id WHERE pr.restaurante_id <> p.restaurante_id"));
+        assertEquals(0, contarSql("SELECT COUNT(*) FROM pedido p WHERE p.total <> (SELECT SUM(i.preco_unitario * i.quantidade) "
+                + "FROM item_pedido i WHERE i.pedido_id = p.id)"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar a mesma massa para a mesma semente")
+    void deveSerDeterministicoParaMesmaSemente() {
+        // Given
+        JdbcTemplate outroBanco = bancoVazio();
+
+        // When
+        gerador(outroBanco).gerar(1);
+
+        // Then
+        assertEquals(jdbcTemplate.queryForObject(ASSINATURA, String.class),
+                outroBanco.queryForObject(ASSINATURA, String.class));
+    }
+
+    private long contar(String tabela) {
+        return contarSql("SELECT COUNT(*) FROM " + tabela);
+    }
+
+    private long contarSql(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static SyntheticDataGenerator gerador(JdbcTemplate jdbcTemplate) {
+        SyntheticDataGenerator gerador = new SyntheticDataGenerator(jdbcTemplate);
+        ReflectionTestUtils.setField(gerador, "threads", 4);
+        ReflectionTestUtils.setField(gerador, "tamanhoLote", 1000);
+        ReflectionTestUtils.setField(gerador, "semente", 42L);
+        ReflectionTestUtils.setField(gerador, "expoenteZipf", 1.1);
+        return gerador;
+    }
+
+    // Banco H2 próprio com o schema das migrações, sem o contexto Spring nem o DataLoader
+    private JdbcTemplate bancoVazio() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sintetico" + BANCOS.incrementAndGet() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        JdbcTemplate banco = new JdbcTemplate(dataSource);
+        bancos.add(banco);
+        return banco;
+    }
+}
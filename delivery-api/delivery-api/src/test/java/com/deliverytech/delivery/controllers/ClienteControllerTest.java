@@ -1,19 +1,27 @@
 package com.deliverytech.delivery.controllers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 import com.deliverytech.delivery.controller.ClienteController;
 import com.deliverytech.delivery.dto.request.ClienteRequest;
 import com.deliverytech.delivery.model.Cliente;
 import com.deliverytech.delivery.model.Endereco;
+import com.deliverytech.delivery.service.ClienteLoteService;
 import com.deliverytech.delivery.service.ClienteService;
 
 public class ClienteControllerTest {
@@ -24,6 +32,9 @@ public class ClienteControllerTest {
     @Mock
     private ClienteService clienteService;
 
+    @Mock
+    private ClienteLoteService clienteLoteService;
+
     public ClienteControllerTest() {
         MockitoAnnotations.openMocks(this);
     }
@@ -46,4 +57,14 @@ public class ClienteControllerTest {
         verify(clienteService, times(1)).cadastrarCliente(clienteRequest);
     }
 
+    @Test
+    public void testCadastrarEmLoteRecusadoInformaMotivo() {
+        when(clienteLoteService.cadastrar(anyList())).thenThrow(new RuntimeException("Lote excede 5000 clientes"));
+
+        ResponseEntity<?> resposta = clienteController.cadastrarEmLote(List.of());
+
+        assertEquals(HttpStatus.BAD_REQUEST, resposta.getStatusCode());
+        assertEquals(Map.of("erro", "Lote excede 5000 clientes"), resposta.getBody());
+    }
+
 }
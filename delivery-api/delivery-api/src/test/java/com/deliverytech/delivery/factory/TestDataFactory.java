@@ -12,6 +12,7 @@ import com.deliverytech.delivery.dto.request.RestauranteRequest;
 import com.deliverytech.delivery.model.Cliente;
 import com.deliverytech.delivery.model.Endereco;
 import com.deliverytech.delivery.model.ItemPedido;
+import com.deliverytech.delivery.model.Money;
 import com.deliverytech.delivery.model.Pedido;
 import com.deliverytech.delivery.model.Produto;
 import com.deliverytech.delivery.model.Restaurante;
@@ -44,7 +45,7 @@ public class TestDataFactory {
                 .nome("Restaurante Test")
                 .categoria("Italiana")
                 .telefone("11888888888")
-                .taxaEntrega(new BigDecimal("5.00"))
+                .taxaEntrega(Money.deCentavos(500))
                 .tempoEntregaMinutos(30)
                 .avaliacao(5)
                 .ativo(true)
@@ -66,7 +67,7 @@ public class TestDataFactory {
                 .nome("Pizza Margherita")
                 .categoria("Pizza")
                 .descricao("Pizza com molho de tomate, mussarela e manjericão")
-                .preco(new BigDecimal("29.90"))
+                .preco(Money.deCentavos(2990))
                 .disponivel(true)
                 .restaurante(restaurante)
                 .build();
@@ -88,7 +89,7 @@ public class TestDataFactory {
                 .restaurante(restaurante)
                 .enderecoEntrega(createEndereco())
                 .status(StatusPedido.CRIADO)
-                .total(new BigDecimal("29.90"))
+                .total(Money.deCentavos(2990))
                 .dataPedido(LocalDateTime.now())
                 .build();
     }
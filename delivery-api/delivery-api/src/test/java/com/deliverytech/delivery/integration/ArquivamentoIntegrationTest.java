@@ -0,0 +1,116 @@
+package com.deliverytech.delivery.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.deliverytech.delivery.dto.request.ItemPedidoRequest;
+import com.deliverytech.delivery.dto.request.PedidoRequest;
+import com.deliverytech.delivery.dto.request.ProdutoRequest;
+import com.deliverytech.delivery.factory.TestDataFactory;
+import com.deliverytech.delivery.model.Cliente;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.repository.PedidoArquivoRepository;
+import com.deliverytech.delivery.service.ClienteService;
+import com.deliverytech.delivery.service.PedidoService;
+import com.deliverytech.delivery.service.ProdutoService;
+import com.deliverytech.delivery.service.RelatorioService;
+import com.deliverytech.delivery.service.RestauranteService;
+import com.deliverytech.delivery.service.ShardingService;
+import com.deliverytech.delivery.service.SnapshotPedidos;
+import com.deliverytech.delivery.service.impl.SnapshotPedidosServiceImpl;
+
+/**
+ * Arquivar um pedido não pode mudar o que as leituras por cliente e os relatórios mostram:
+ * os mesmos valores são comparados antes e depois de mover pedidos para pedido_arquivo.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:arquivamento_teste;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("Testes de integração das leituras com pedidos arquivados")
+class ArquivamentoIntegrationTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private RestauranteService restauranteService;
+
+    @Autowired
+    private ProdutoService produtoService;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private RelatorioService relatorioService;
+
+    @Autowired
+    private PedidoArquivoRepository pedidoArquivoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ShardingService shardingService;
+
+    @Test
+    @DisplayName("Deve manter pedidos arquivados nos relatórios, no snapshot e nos pedidos do cliente")
+    void deveIncluirPedidosArquivadosNasLeituras() {
+        // Given
+        Cliente cliente = clienteService.cadastrarCliente(TestDataFactory.createClienteRequest());
+        Restaurante restaurante = restauranteService.cadastrarRestaurante(TestDataFactory.createRestauranteRequest());
+        Produto produto = produtoService.cadastrarProduto(
+                new ProdutoRequest("Prato", "Principal", "Prato da casa", new BigDecimal("30.00"), restaurante.getId()));
+        Pedido antigo = pedidoService.criarPedido(pedido(cliente.getId(), restaurante.getId(), produto.getId(), 2));
+        Pedido recente = pedidoService.criarPedido(pedido(cliente.getId(), restaurante.getId(), produto.getId(), 1));
+        pedidoService.atualizarStatusPedido(antigo.getId(), StatusPedido.ENTREGUE);
+        pedidoService.atualizarStatusPedido(recente.getId(), StatusPedido.ENTREGUE);
+
+        LocalDateTime inicio = LocalDateTime.now().minusDays(1);
+        LocalDateTime fim = LocalDateTime.now().plusDays(1);
+        List<?> antes = relatorios(inicio, fim);
+        SnapshotPedidos snapshotAntes = snapshot();
+
+        // When
+        assertEquals(1, pedidoArquivoRepository.arquivar(List.of(antigo.getId()), LocalDateTime.now()));
+
+        // Then
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pedido", Integer.class));
+        assertEquals(antes, relatorios(inicio, fim));
+        SnapshotPedidos snapshotDepois = snapshot();
+        assertEquals(snapshotAntes.getTamanho(), snapshotDepois.getTamanho());
+        assertEquals(snapshotAntes.resumoPorStatus(), snapshotDepois.resumoPorStatus());
+
+        List<Pedido> doCliente = pedidoService.buscarPedidosPorCliente(cliente.getId());
+        assertEquals(List.of(recente.getId(), antigo.getId()), doCliente.stream().map(Pedido::getId).toList());
+        assertEquals(2, doCliente.get(1).getItens().get(0).getQuantidade());
+    }
+
+    private List<?> relatorios(LocalDateTime inicio, LocalDateTime fim) {
+        return List.of(relatorioService.vendasPorRestaurante().dados(), relatorioService.faturamentoPorCategoria().dados(),
+                relatorioService.rankingClientes(10).dados(), relatorioService.resumoPorStatus().dados(),
+                relatorioService.faturamentoPorPeriodo(inicio, fim).dados());
+    }
+
+    // O snapshot analítico vem desligado no perfil de teste; a reconstrução é chamada direto
+    private SnapshotPedidos snapshot() {
+        return new SnapshotPedidosServiceImpl(jdbcTemplate, shardingService).atualizar();
+    }
+
+    private PedidoRequest pedido(Long clienteId, Long restauranteId, Long produtoId, int quantidade) {
+        return new PedidoRequest(clienteId, restauranteId, TestDataFactory.createEndereco(),
+                List.of(new ItemPedidoRequest(produtoId, quantidade)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.deliverytech.delivery.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.deliverytech.delivery.dto.request.ItemPedidoRequest;
+import com.deliverytech.delivery.dto.request.PedidoRequest;
+import com.deliverytech.delivery.dto.request.ProdutoRequest;
+import com.deliverytech.delivery.factory.TestDataFactory;
+import com.deliverytech.delivery.model.Cliente;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.repository.PedidoArquivoRepository;
+import com.deliverytech.delivery.service.ClienteService;
+import com.deliverytech.delivery.service.PedidoService;
+import com.deliverytech.delivery.service.ProdutoService;
+import com.deliverytech.delivery.service.RestauranteService;
+
+/**
+ * Paginação do histórico do cliente quando a página intercala a tabela quente e pedido_arquivo.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:historico_teste;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("Testes de integração do histórico paginado do cliente")
+class HistoricoClienteIntegrationTest {
+
+    private static final int TAMANHO = 2;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private RestauranteService restauranteService;
+
+    @Autowired
+    private ProdutoService produtoService;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private PedidoArquivoRepository pedidoArquivoRepository;
+
+    @Test
+    @DisplayName("Deve devolver páginas do tamanho pedido intercalando pedidos quentes e arquivados")
+    void deveRespeitarTamanhoDaPaginaComPedidosArquivados() {
+        // Given: seis pedidos, um sim outro não arquivado (três em cada tabela, mais que TAMANHO)
+        Cliente cliente = clienteService.cadastrarCliente(TestDataFactory.createClienteRequest());
+        Restaurante restaurante = restauranteService.cadastrarRestaurante(TestDataFactory.createRestauranteRequest());
+        Produto produto = produtoService.cadastrarProduto(
+                new ProdutoRequest("Prato", "Principal", "Prato da casa", new BigDecimal("30.00"), restaurante.getId()));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(pedidoService.criarPedido(new PedidoRequest(cliente.getId(), restaurante.getId(),
+                    TestDataFactory.createEndereco(), List.of(new ItemPedidoRequest(produto.getId(), 1)))).getId());
+        }
+        assertEquals(3, pedidoArquivoRepository.arquivar(List.of(ids.get(0), ids.get(2), ids.get(4)), LocalDateTime.now()));
+
+        // When
+        List<Pedido> primeira = pedidoService.buscarHistoricoPorCliente(cliente.getId(), 0, TAMANHO);
+        List<Pedido> segunda = pedidoService.buscarHistoricoPorCliente(cliente.getId(), 1, TAMANHO);
+
+        // Then: mais recente primeiro, alternando as duas tabelas
+        assertEquals(List.of(ids.get(5), ids.get(4)), primeira.stream().map(Pedido::getId).toList());
+        assertEquals(List.of(ids.get(3), ids.get(2)), segunda.stream().map(Pedido::getId).toList());
+    }
+}
@@ -0,0 +1,122 @@
+package com.deliverytech.delivery.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.deliverytech.delivery.config.ConsistenciaLeitura;
+import com.deliverytech.delivery.config.ReplicaRoutingDataSource;
+import com.deliverytech.delivery.dto.request.ClienteRequest;
+import com.deliverytech.delivery.factory.TestDataFactory;
+import com.deliverytech.delivery.model.Cliente;
+import com.deliverytech.delivery.service.ClienteService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Sobe a aplicação com dois bancos H2 locais, um como primário e outro como réplica.
+ * Como não há replicação entre eles, uma linha gravada só na réplica mostra de onde
+ * cada leitura veio.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primario_teste;DB_CLOSE_DELAY=-1",
+        "delivery.replica.habilitada=true",
+        "delivery.replica.url=jdbc:h2:mem:replica_teste;DB_CLOSE_DELAY=-1",
+        "delivery.replica.migrar=true"
+})
+@ActiveProfiles("test")
+@DisplayName("Testes de integração da réplica de leitura")
+class ReplicaIntegrationTest {
+
+    private static final long ID_SO_NA_REPLICA = 900_000L;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ConsistenciaLeitura consistenciaLeitura;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @AfterEach
+    void tearDown() {
+        consistenciaLeitura.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve ler da réplica em transações somente leitura e gravar no primário")
+    void deveLerDaReplica() {
+        // Given
+        gravarSoNaReplica();
+
+        // When
+        Cliente cadastrado = cadastrarCliente("leitura.replica@test.com");
+
+        // Then
+        assertTrue(clienteService.buscarClientePorId(ID_SO_NA_REPLICA).isPresent());
+        assertTrue(clienteService.buscarClientePorId(cadastrado.getId()).isEmpty());
+        assertTrue(replicaRoutingDataSource.leiturasNaReplica() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve fixar o cliente no primário logo depois de uma escrita")
+    void deveFixarClienteNoPrimarioAposEscrita() {
+        // Given
+        gravarSoNaReplica();
+        consistenciaLeitura.definirCliente(ID_SO_NA_REPLICA);
+
+        // When
+        consistenciaLeitura.registrarEscrita(ID_SO_NA_REPLICA);
+
+        // Then: a leitura do cliente vai ao primário, onde a linha não existe
+        assertTrue(clienteService.buscarClientePorId(ID_SO_NA_REPLICA).isEmpty());
+
+        // When: outro cliente continua lendo da réplica
+        consistenciaLeitura.definirCliente(ID_SO_NA_REPLICA + 1);
+
+        // Then
+        assertTrue(clienteService.buscarClientePorId(ID_SO_NA_REPLICA).isPresent());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Deve voltar ao primário quando a réplica estiver indisponível")
+    void deveVoltarAoPrimarioQuandoReplicaFalhar() throws Exception {
+        // Given
+        Cliente cadastrado = cadastrarCliente("failover.replica@test.com");
+        replicaDataSource.unwrap(HikariDataSource.class).close();
+
+        // When
+        boolean encontrado = clienteService.buscarClientePorId(cadastrado.getId()).isPresent();
+
+        // Then
+        assertTrue(encontrado);
+        assertEquals(1, replicaRoutingDataSource.falhasDaReplica());
+    }
+
+    private Cliente cadastrarCliente(String email) {
+        ClienteRequest request = TestDataFactory.createClienteRequest();
+        request.setEmail(email);
+        return clienteService.cadastrarCliente(request);
+    }
+
+    private void gravarSoNaReplica() {
+        new JdbcTemplate(replicaDataSource).update(
+                "MERGE INTO cliente (id, nome, email, ativo) KEY (id) VALUES (?, 'Só na réplica', 'replica@teste.com', TRUE)",
+                ID_SO_NA_REPLICA);
+    }
+}
@@ -0,0 +1,120 @@
+package com.deliverytech.delivery.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.deliverytech.delivery.config.ShardRoutingDataSource;
+import com.deliverytech.delivery.config.ShardingConfig;
+import com.deliverytech.delivery.dto.request.ItemPedidoRequest;
+import com.deliverytech.delivery.dto.request.PedidoRequest;
+import com.deliverytech.delivery.dto.request.ProdutoRequest;
+import com.deliverytech.delivery.dto.request.RestauranteRequest;
+import com.deliverytech.delivery.factory.TestDataFactory;
+import com.deliverytech.delivery.model.Cliente;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.service.ClienteService;
+import com.deliverytech.delivery.service.PedidoService;
+import com.deliverytech.delivery.service.ProdutoService;
+import com.deliverytech.delivery.service.RelatorioService;
+import com.deliverytech.delivery.service.RestauranteService;
+
+/**
+ * Sobe a aplicação com dois bancos H2 locais como shards e verifica o roteamento dos pedidos
+ * pelo restaurante, a replicação dos dados de referência e o fan-out das consultas.
+ */
+@SpringBootTest(properties = {
+        "delivery.sharding.habilitado=true",
+        "delivery.sharding.urls=jdbc:h2:mem:shard_teste_0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard_teste_1;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+@DisplayName("Testes de integração do sharding de pedidos")
+class ShardingIntegrationTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private RestauranteService restauranteService;
+
+    @Autowired
+    private ProdutoService produtoService;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private RelatorioService relatorioService;
+
+    @Autowired
+    private ShardRoutingDataSource dataSource;
+
+    @Test
+    @DisplayName("Deve gravar cada pedido no shard do restaurante e juntar as consultas por cliente")
+    void deveRotearPedidosPorRestaurante() {
+        // Given
+        Cliente cliente = clienteService.cadastrarCliente(TestDataFactory.createClienteRequest());
+        Restaurante primeiro = restauranteService.cadastrarRestaurante(restaurante("Shard A"));
+        Restaurante segundo = restauranteService.cadastrarRestaurante(restaurante("Shard B"));
+        Produto produtoPrimeiro = produtoService.cadastrarProduto(produto(primeiro.getId()));
+        Produto produtoSegundo = produtoService.cadastrarProduto(produto(segundo.getId()));
+
+        // When
+        Pedido pedidoPrimeiro = pedidoService.criarPedido(pedido(cliente.getId(), primeiro.getId(), produtoPrimeiro.getId()));
+        Pedido pedidoSegundo = pedidoService.criarPedido(pedido(cliente.getId(), segundo.getId(), produtoSegundo.getId()));
+
+        // Then: cada pedido está só no shard do seu restaurante, com id na faixa do shard
+        assertNoShard(pedidoPrimeiro, (int) (primeiro.getId() % 2));
+        assertNoShard(pedidoSegundo, (int) (segundo.getId() % 2));
+
+        List<Pedido> doCliente = pedidoService.buscarPedidosPorCliente(cliente.getId());
+        assertEquals(2, doCliente.size());
+        assertTrue(pedidoService.buscarPedidoPorId(pedidoSegundo.getId()).isPresent());
+
+        // When
+        pedidoService.atualizarStatusPedido(pedidoPrimeiro.getId(), StatusPedido.CONFIRMADO);
+        pedidoService.atualizarStatusPedido(pedidoSegundo.getId(), StatusPedido.CONFIRMADO);
+
+        // Then: relatórios somam os dois shards
+        BigDecimal faturamento = relatorioService.faturamentoPorPeriodo(
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)).dados();
+        assertEquals(0, pedidoPrimeiro.getTotal().mais(pedidoSegundo.getTotal()).toBigDecimal().compareTo(faturamento));
+        assertEquals(2, relatorioService.vendasPorRestaurante().dados().size());
+    }
+
+    private void assertNoShard(Pedido pedido, int shard) {
+        assertEquals(shard, pedido.getId() / ShardingConfig.FAIXA_IDS_POR_SHARD);
+        for (int i = 0; i < dataSource.quantidade(); i++) {
+            Integer encontrados = new JdbcTemplate(dataSource.shard(i))
+                    .queryForObject("SELECT COUNT(*) FROM pedido WHERE id = ?", Integer.class, pedido.getId());
+            assertEquals(i == shard ? 1 : 0, encontrados);
+        }
+    }
+
+    private RestauranteRequest restaurante(String nome) {
+        RestauranteRequest request = TestDataFactory.createRestauranteRequest();
+        request.setNome(nome);
+        return request;
+    }
+
+    private ProdutoRequest produto(Long restauranteId) {
+        return new ProdutoRequest("Prato", "Principal", "Prato da casa", new BigDecimal("30.00"), restauranteId);
+    }
+
+    private PedidoRequest pedido(Long clienteId, Long restauranteId, Long produtoId) {
+        return new PedidoRequest(clienteId, restauranteId, TestDataFactory.createEndereco(),
+                List.of(new ItemPedidoRequest(produtoId, 2)));
+    }
+}
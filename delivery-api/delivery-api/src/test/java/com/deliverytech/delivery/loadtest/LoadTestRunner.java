@@ -0,0 +1,370 @@
+package com.deliverytech.delivery.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.deliverytech.delivery.config.SyntheticDataGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Teste de carga em malha fechada contra a aplicação embarcada (porta aleatória, H2 em memória).
+ *
+ * Cada usuário virtual segue um cronograma fixo de envio; a latência é medida a partir do
+ * instante em que a requisição deveria ter saído, o que corrige a omissão coordenada quando
+ * o servidor atrasa o cronograma. Roda só com {@code ./mvnw test -Ploadtest}.
+ *
+ * Parâmetros (-D): loadtest.usuarios, loadtest.taxa (req/s), loadtest.aquecimento-segundos,
+ * loadtest.duracao-segundos, loadtest.fator-escala, loadtest.mix, loadtest.relatorio,
+ * loadtest.baseline e loadtest.tolerancia-p99 (percentual).
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.springframework.web=INFO",
+    "delivery.rate-limit.pedidos.criar.capacidade=1000000",
+    "delivery.rate-limit.pedidos.criar.por-segundo=1000000",
+    "delivery.rate-limit.pedidos.calcular.capacidade=1000000",
+    "delivery.rate-limit.pedidos.calcular.por-segundo=1000000"
+})
+@ActiveProfiles("test")
+@DisplayName("Teste de carga dos endpoints da API")
+class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    // Últimos pedidos criados, consultados ao acaso pelo cenário STATUS
+    private static final int PEDIDOS_CONSULTADOS = 1_000;
+
+    private static final String[] CATEGORIAS = {
+        "Italiana", "Japonesa", "Hamburguer", "Brasileira", "Mexicana", "Árabe", "Vegana", "Chinesa", "Pizza", "Doces"
+    };
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final AtomicLongArray pedidosCriados = new AtomicLongArray(PEDIDOS_CONSULTADOS);
+    private final AtomicLong totalPedidosCriados = new AtomicLong();
+
+    private long[] restaurantes;
+    private long[] restaurantesComCardapio;
+    private long[] clientes;
+    private long[] pedidosExistentes;
+    private Map<Long, long[]> produtosPorRestaurante;
+
+    @Test
+    @DisplayName("Executa o mix de cenários e gera o relatório de latência")
+    void executarCarga() throws Exception {
+        int usuarios = Integer.getInteger("loadtest.usuarios", 16);
+        double taxa = Double.parseDouble(System.getProperty("loadtest.taxa", "400"));
+        int aquecimento = Integer.getInteger("loadtest.aquecimento-segundos", 5);
+        int duracao = Integer.getInteger("loadtest.duracao-segundos", 30);
+        int fatorEscala = Integer.getInteger("loadtest.fator-escala", 1);
+        Map<Cenario, Integer> mix = lerMix(System.getProperty("loadtest.mix",
+                "navegar=30,cardapio=30,cotar=20,criar=10,status=10"));
+        Path relatorio = Path.of(System.getProperty("loadtest.relatorio", "target/loadtest/relatorio.json"));
+
+        prepararDados(fatorEscala);
+
+        Map<Cenario, Recorder> gravadores = new LinkedHashMap<>();
+        Map<Cenario, AtomicLong> erros = new LinkedHashMap<>();
+        for (Cenario cenario : mix.keySet()) {
+            gravadores.put(cenario, new Recorder(3));
+            erros.put(cenario, new AtomicLong());
+        }
+
+        long intervaloNanos = (long) (TimeUnit.SECONDS.toNanos(1) * usuarios / taxa);
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + TimeUnit.SECONDS.toNanos(aquecimento);
+        long fim = inicioMedicao + TimeUnit.SECONDS.toNanos(duracao);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < usuarios; u++) {
+                long primeiroEnvio = inicio + intervaloNanos * u / usuarios;
+                SplittableRandom random = new SplittableRandom(u * 7919L + 1);
+                executor.submit(() -> executarUsuario(primeiroEnvio, intervaloNanos, fim, mix, gravadores, erros, random));
+            }
+            LockSupport.parkNanos(inicioMedicao - System.nanoTime());
+            // Descarta o aquecimento
+            gravadores.values().forEach(Recorder::reset);
+            erros.values().forEach(e -> e.set(0));
+        }
+
+        Map<String, Object> resultado = montarRelatorio(usuarios, taxa, duracao, fatorEscala, gravadores, erros);
+        Files.createDirectories(relatorio.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(relatorio.toFile(), resultado);
+        logger.info("Relatório de carga gravado em {}", relatorio.toAbsolutePath());
+        logger.info("Resultado por cenário:\n{}",
+                objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(resultado.get("cenarios")));
+
+        compararComBaseline(resultado);
+    }
+
+    private void executarUsuario(long primeiroEnvio, long intervaloNanos, long fim, Map<Cenario, Integer> mix,
+            Map<Cenario, Recorder> gravadores, Map<Cenario, AtomicLong> erros, SplittableRandom random) {
+        int pesoTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long envioPlanejado = primeiroEnvio;
+        while (envioPlanejado < fim) {
+            long espera = envioPlanejado - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            Cenario cenario = sortear(mix, pesoTotal, random);
+            boolean sucesso;
+            try {
+                sucesso = executar(cenario, random);
+            } catch (IOException e) {
+                sucesso = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long latenciaMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - envioPlanejado);
+            gravadores.get(cenario).recordValue(Math.max(1, latenciaMicros));
+            if (!sucesso) {
+                erros.get(cenario).incrementAndGet();
+            }
+            envioPlanejado += intervaloNanos;
+        }
+    }
+
+    private boolean executar(Cenario cenario, SplittableRandom random) throws IOException, InterruptedException {
+        return switch (cenario) {
+            case NAVEGAR -> get("/api/restaurantes/categoria/" + CATEGORIAS[random.nextInt(CATEGORIAS.length)]);
+            case CARDAPIO -> get("/api/produtos/restaurante/" + restaurantes[random.nextInt(restaurantes.length)]);
+            case COTAR -> post("/api/pedidos/calcular", montarPedido(random)).statusCode() == 200;
+            case CRIAR -> {
+                HttpResponse<String> resposta = post("/api/pedidos", montarPedido(random));
+                if (resposta.statusCode() == 200) {
+                    long posicao = totalPedidosCriados.getAndIncrement() % PEDIDOS_CONSULTADOS;
+                    pedidosCriados.set((int) posicao, objectMapper.readTree(resposta.body()).get("id").asLong());
+                }
+                yield resposta.statusCode() == 200;
+            }
+            case STATUS -> get("/api/pedidos/" + sortearPedido(random));
+        };
+    }
+
+    // Espalha as consultas entre os pedidos criados na carga (ou os da massa, antes do primeiro)
+    private long sortearPedido(SplittableRandom random) {
+        int criados = (int) Math.min(totalPedidosCriados.get(), PEDIDOS_CONSULTADOS);
+        if (criados > 0) {
+            long pedidoId = pedidosCriados.get(random.nextInt(criados));
+            if (pedidoId != 0) {
+                return pedidoId;
+            }
+        }
+        return pedidosExistentes[random.nextInt(pedidosExistentes.length)];
+    }
+
+    private boolean get(String caminho) throws IOException, InterruptedException {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return httpClient.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private HttpResponse<String> post(String caminho, String corpo) throws IOException, InterruptedException {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+        return httpClient.send(requisicao, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String montarPedido(SplittableRandom random) {
+        long restauranteId = restaurantesComCardapio[random.nextInt(restaurantesComCardapio.length)];
+        long[] produtos = produtosPorRestaurante.get(restauranteId);
+        StringBuilder itens = new StringBuilder();
+        int numItens = 1 + random.nextInt(3);
+        for (int i = 0; i < numItens; i++) {
+            if (i > 0) {
+                itens.append(',');
+            }
+            itens.append("{\"produtoId\":").append(produtos[random.nextInt(produtos.length)])
+                    .append(",\"quantidade\":").append(1 + random.nextInt(2)).append('}');
+        }
+        return "{\"clienteId\":" + clientes[random.nextInt(clientes.length)]
+                + ",\"restauranteId\":" + restauranteId
+                + ",\"enderecoEntrega\":{\"rua\":\"Rua Carga\",\"numero\":\"1\",\"bairro\":\"Centro\","
+                + "\"cidade\":\"São Paulo\",\"estado\":\"SP\",\"cep\":\"01000-000\"}"
+                + ",\"itens\":[" + itens + "]}";
+    }
+
+    private void prepararDados(int fatorEscala) {
+        syntheticDataGenerator.gerar(fatorEscala);
+        restaurantes = jdbcTemplate.queryForList("SELECT id FROM restaurante ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        clientes = jdbcTemplate.queryForList("SELECT id FROM cliente ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        Map<Long, List<Long>> produtos = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT restaurante_id, id FROM produto ORDER BY restaurante_id, id", rs -> {
+            produtos.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getLong(2));
+        });
+        produtosPorRestaurante = new LinkedHashMap<>();
+        produtos.forEach((id, lista) -> produtosPorRestaurante.put(id, lista.stream().mapToLong(Long::longValue).toArray()));
+        // Pedidos só são montados para restaurantes com cardápio; os demais entram apenas no cenário CARDAPIO
+        restaurantesComCardapio = produtosPorRestaurante.keySet().stream().mapToLong(Long::longValue).toArray();
+        pedidosExistentes = jdbcTemplate.queryForList("SELECT id FROM pedido ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        assertTrue(restaurantesComCardapio.length > 0 && clientes.length > 0 && pedidosExistentes.length > 0,
+                "Massa de dados sem restaurantes com produtos, clientes ou pedidos");
+    }
+
+    private Map<String, Object> montarRelatorio(int usuarios, double taxa, int duracao, int fatorEscala,
+            Map<Cenario, Recorder> gravadores, Map<Cenario, AtomicLong> erros) {
+        Map<String, Object> cenarios = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long totalErros = 0;
+        for (Map.Entry<Cenario, Recorder> entrada : gravadores.entrySet()) {
+            Histogram histograma = entrada.getValue().getIntervalHistogram();
+            long errosCenario = erros.get(entrada.getKey()).get();
+            total.add(histograma);
+            totalErros += errosCenario;
+            cenarios.put(entrada.getKey().nome, resumir(histograma, errosCenario, duracao));
+        }
+        cenarios.put("total", resumir(total, totalErros, duracao));
+
+        Map<String, Object> configuracao = new LinkedHashMap<>();
+        configuracao.put("usuarios", usuarios);
+        configuracao.put("taxaAlvo", taxa);
+        configuracao.put("duracaoSegundos", duracao);
+        configuracao.put("fatorEscala", fatorEscala);
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("configuracao", configuracao);
+        resultado.put("cenarios", cenarios);
+        return resultado;
+    }
+
+    private static Map<String, Object> resumir(Histogram histograma, long erros, int duracao) {
+        Map<String, Object> resumo = new LinkedHashMap<>();
+        resumo.put("requisicoes", histograma.getTotalCount());
+        resumo.put("erros", erros);
+        resumo.put("throughput", (double) histograma.getTotalCount() / duracao);
+        resumo.put("p50Ms", histograma.getValueAtPercentile(50) / 1000.0);
+        resumo.put("p99Ms", histograma.getValueAtPercentile(99) / 1000.0);
+        resumo.put("p999Ms", histograma.getValueAtPercentile(99.9) / 1000.0);
+        resumo.put("maxMs", histograma.getMaxValue() / 1000.0);
+        return resumo;
+    }
+
+    private void compararComBaseline(Map<String, Object> resultado) throws IOException {
+        String baseline = System.getProperty("loadtest.baseline");
+        if (baseline == null || baseline.isBlank()) {
+            return;
+        }
+        double tolerancia = Double.parseDouble(System.getProperty("loadtest.tolerancia-p99", "10"));
+        JsonNode anterior = objectMapper.readTree(Path.of(baseline).toFile()).get("cenarios");
+        JsonNode atual = objectMapper.valueToTree(resultado).get("cenarios");
+        List<String> regressoes = new ArrayList<>();
+        atual.fieldNames().forEachRemaining(cenario -> {
+            if (!anterior.has(cenario)) {
+                return;
+            }
+            double p99Anterior = anterior.get(cenario).get("p99Ms").asDouble();
+            double p99Atual = atual.get(cenario).get("p99Ms").asDouble();
+            logger.info(String.format("%-10s p99 %.2f ms -> %.2f ms", cenario, p99Anterior, p99Atual));
+            if (p99Anterior > 0 && p99Atual > p99Anterior * (1 + tolerancia / 100)) {
+                regressoes.add(cenario);
+            }
+        });
+        assertTrue(regressoes.isEmpty(), "p99 acima da baseline em " + regressoes);
+    }
+
+    private static Map<Cenario, Integer> lerMix(String mix) {
+        Map<Cenario, Integer> pesos = new LinkedHashMap<>();
+        for (String parte : mix.split(",")) {
+            String[] chaveValor = parte.trim().split("=");
+            int peso = Integer.parseInt(chaveValor[1].trim());
+            if (peso > 0) {
+                pesos.put(Cenario.porNome(chaveValor[0].trim()), peso);
+            }
+        }
+        assertFalse(pesos.isEmpty(), "Mix de cenários vazio");
+        return pesos;
+    }
+
+    private static Cenario sortear(Map<Cenario, Integer> mix, int pesoTotal, SplittableRandom random) {
+        int sorteio = random.nextInt(pesoTotal);
+        for (Map.Entry<Cenario, Integer> entrada : mix.entrySet()) {
+            sorteio -= entrada.getValue();
+            if (sorteio < 0) {
+                return entrada.getKey();
+            }
+        }
+        throw new IllegalStateException("Mix de cenários inconsistente");
+    }
+
+    private enum Cenario {
+        NAVEGAR("navegar"),
+        CARDAPIO("cardapio"),
+        COTAR("cotar"),
+        CRIAR("criar"),
+        STATUS("status");
+
+        private final String nome;
+
+        Cenario(String nome) {
+            this.nome = nome;
+        }
+
+        static Cenario porNome(String nome) {
+            for (Cenario cenario : values()) {
+                if (cenario.nome.equals(nome)) {
+                    return cenario;
+                }
+            }
+            throw new IllegalArgumentException("Cenário desconhecido: " + nome);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.deliverytech.delivery.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes do Money")
+class MoneyTest {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    @DisplayName("Deve calcular totais de pedido idênticos ao caminho com BigDecimal")
+    void deveCalcularTotaisIdenticosAoBigDecimal() {
+        for (int pedido = 0; pedido < 10_000; pedido++) {
+            // Given
+            int itens = 1 + random.nextInt(20);
+            BigDecimal totalBigDecimal = BigDecimal.ZERO;
+            long totalCentavos = 0;
+
+            // When
+            for (int i = 0; i < itens; i++) {
+                BigDecimal preco = BigDecimal.valueOf(random.nextLong(1, 100_000_00), 2);
+                int quantidade = 1 + random.nextInt(50);
+                totalBigDecimal = totalBigDecimal.add(preco.multiply(BigDecimal.valueOf(quantidade)));
+                totalCentavos += Money.de(preco).vezes(quantidade).centavos();
+            }
+
+            // Then: mesmo valor e mesma escala
+            assertEquals(totalBigDecimal, Money.deCentavos(totalCentavos).toBigDecimal());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve calcular taxas com multiplicador idênticas ao BigDecimal arredondado ao centavo")
+    void deveCalcularTaxasIdenticasAoBigDecimal() {
+        for (int i = 0; i < 10_000; i++) {
+            // Given
+            BigDecimal taxa = BigDecimal.valueOf(random.nextLong(0, 100_000), 2);
+
+            // When
+            Money umaEMeia = Money.de(taxa).vezes(3, 2);
+            Money dobro = Money.de(taxa).vezes(2);
+
+            // Then
+            assertEquals(taxa.multiply(BigDecimal.valueOf(1.5)).setScale(2, RoundingMode.HALF_UP), umaEMeia.toBigDecimal());
+            assertEquals(taxa.multiply(BigDecimal.valueOf(2.0)).setScale(2, RoundingMode.HALF_UP), dobro.toBigDecimal());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve arredondar com HALF_UP, afastando de zero nos empates")
+    void deveArredondarHalfUp() {
+        assertEquals(2, Money.multiplicar(3, 1, 2));
+        assertEquals(-2, Money.multiplicar(-3, 1, 2));
+        assertEquals(1, Money.multiplicar(4, 1, 3));
+        assertEquals(3, Money.multiplicar(5, 2, 3));
+        assertEquals(1001, Money.de(new BigDecimal("10.005")).centavos());
+        assertEquals(1000, Money.de(new BigDecimal("10.0049")).centavos());
+        assertEquals(-1001, Money.de(new BigDecimal("-10.005")).centavos());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção em overflow em vez de perder centavos")
+    void deveLancarExcecaoEmOverflow() {
+        Money grande = Money.deCentavos(Long.MAX_VALUE / 2 + 1);
+
+        assertThrows(ArithmeticException.class, () -> grande.vezes(2));
+        assertThrows(ArithmeticException.class, () -> grande.mais(grande));
+        assertThrows(ArithmeticException.class, () -> Money.multiplicar(1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Deve converter de e para as colunas NUMERIC(38, 2)")
+    void deveConverterParaColuna() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(new BigDecimal("29.90"), converter.convertToDatabaseColumn(Money.deCentavos(2990)));
+        assertEquals(Money.deCentavos(2990), converter.convertToEntityAttribute(new BigDecimal("29.9")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,177 @@
+package com.deliverytech.delivery.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.deliverytech.delivery.model.StatusPedido;
+
+/**
+ * Garante, via EXPLAIN do H2, que as consultas quentes dos repositórios usam os índices
+ * criados pelas migrações em vez de varrer a tabela. O SQL explicado é o que o Hibernate
+ * gera para cada método, capturado por um StatementInspector, e não uma cópia escrita à mão.
+ *
+ * O H2 cria um índice próprio para cada chave estrangeira, então uma busca só por cliente_id
+ * pode usar tanto esse índice quanto o composto (cliente_id, data_pedido); o que importa é a
+ * coluna filtrada liderar o índice. O composto é exigido onde a ordenação depende dele.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes dos índices das consultas")
+class IndicesConsultasTest {
+
+    private static final Pattern INDICE_DO_PLANO = Pattern.compile("/\\* PUBLIC\\.(\\w+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private SqlCapturado sqlCapturado;
+
+    @TestConfiguration
+    static class CapturaSqlConfig {
+
+        @Bean
+        SqlCapturado sqlCapturado() {
+            return new SqlCapturado();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer capturaSql(SqlCapturado sqlCapturado) {
+            return propriedades -> propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapturado);
+        }
+    }
+
+    // Guarda o SQL que o Hibernate envia ao banco, sem alterá-lo. Só o da thread do teste:
+    // tarefas agendadas (publicação do outbox) consultam o banco ao mesmo tempo
+    static class SqlCapturado implements StatementInspector {
+
+        private final List<String> comandos = new CopyOnWriteArrayList<>();
+        private volatile Thread capturando;
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == capturando) {
+                comandos.add(sql);
+            }
+            return sql;
+        }
+
+        String executar(Runnable consulta) {
+            comandos.clear();
+            capturando = Thread.currentThread();
+            try {
+                consulta.run();
+            } finally {
+                capturando = null;
+            }
+            assertFalse(comandos.isEmpty(), "Nenhum SQL capturado");
+            return comandos.get(comandos.size() - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("PedidoRepository.findByClienteId deve usar índice liderado por cliente_id")
+    void findByClienteIdDeveUsarIndice() {
+        String sql = sqlCapturado.executar(() -> pedidoRepository.findByClienteId(1L));
+        assertUsaIndicePorColuna(sql, "CLIENTE_ID", 1L);
+    }
+
+    @Test
+    @DisplayName("PedidoRepository.findIdsEDatasPorCliente deve usar índice (cliente_id, data_pedido)")
+    void historicoDoClienteDeveUsarIndiceComposto() {
+        String sql = sqlCapturado.executar(() -> pedidoRepository.findIdsEDatasPorCliente(1L, PageRequest.of(0, 20)));
+        assertUsaIndice(sql, "IDX_PEDIDO_CLIENTE_DATA", 1L, 20);
+    }
+
+    @Test
+    @DisplayName("PedidoRepository.findByRestauranteId deve usar índice liderado por restaurante_id")
+    void findByRestauranteIdDeveUsarIndice() {
+        String sql = sqlCapturado.executar(() -> pedidoRepository.findByRestauranteId(1L));
+        assertUsaIndicePorColuna(sql, "RESTAURANTE_ID", 1L);
+    }
+
+    @Test
+    @DisplayName("PedidoRepository.findByStatus deve usar índice (status, data_pedido)")
+    void findByStatusDeveUsarIndice() {
+        String sql = sqlCapturado.executar(() -> pedidoRepository.findByStatus(StatusPedido.CRIADO));
+        assertUsaIndice(sql, "IDX_PEDIDO_STATUS_DATA", StatusPedido.CRIADO.name());
+    }
+
+    @Test
+    @DisplayName("PedidoRepository.findByDataPedidoBetween deve usar índice (data_pedido)")
+    void findByDataPedidoBetweenDeveUsarIndice() {
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime fim = LocalDateTime.of(2024, 1, 31, 23, 59, 59);
+        String sql = sqlCapturado.executar(() -> pedidoRepository.findByDataPedidoBetween(inicio, fim));
+        assertUsaIndice(sql, "IDX_PEDIDO_DATA", Timestamp.valueOf(inicio), Timestamp.valueOf(fim));
+    }
+
+    @Test
+    @DisplayName("ProdutoRepository.findByRestauranteId deve usar índice liderado por restaurante_id")
+    void produtosPorRestauranteDevemUsarIndice() {
+        String sql = sqlCapturado.executar(() -> produtoRepository.findByRestauranteId(1L));
+        assertUsaIndicePorColuna(sql, "RESTAURANTE_ID", 1L);
+    }
+
+    @Test
+    @DisplayName("ProdutoRepository.findByCategoria deve usar índice (categoria)")
+    void produtosPorCategoriaDevemUsarIndice() {
+        String sql = sqlCapturado.executar(() -> produtoRepository.findByCategoria("Pizza"));
+        assertUsaIndice(sql, "IDX_PRODUTO_CATEGORIA", "Pizza");
+    }
+
+    @Test
+    @DisplayName("RestauranteRepository.findByCategoria deve usar índice (categoria)")
+    void restaurantesPorCategoriaDevemUsarIndice() {
+        String sql = sqlCapturado.executar(() -> restauranteRepository.findByCategoria("Italiana"));
+        assertUsaIndice(sql, "IDX_RESTAURANTE_CATEGORIA", "Italiana");
+    }
+
+    private void assertUsaIndice(String sql, String indice, Object... parametros) {
+        assertEquals(indice, indiceUsado(sql, parametros), "Índice " + indice + " não utilizado em: " + sql);
+    }
+
+    private void assertUsaIndicePorColuna(String sql, String coluna, Object... parametros) {
+        String indice = indiceUsado(sql, parametros);
+        String primeiraColuna = jdbcTemplate.queryForObject("SELECT column_name FROM information_schema.index_columns "
+                + "WHERE index_name = ? AND ordinal_position = 1", String.class, indice);
+        assertEquals(coluna, primeiraColuna, "Índice " + indice + " não é liderado por " + coluna + " em: " + sql);
+    }
+
+    private String indiceUsado(String sql, Object... parametros) {
+        String plano = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parametros);
+        assertNotNull(plano);
+        assertFalse(plano.contains("tableScan"), "Consulta varre a tabela: " + plano);
+        Matcher indice = INDICE_DO_PLANO.matcher(plano);
+        assertTrue(indice.find(), "Plano sem índice: " + plano);
+        return indice.group(1);
+    }
+}
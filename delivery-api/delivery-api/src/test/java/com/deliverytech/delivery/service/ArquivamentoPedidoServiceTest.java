@@ -0,0 +1,76 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.deliverytech.delivery.repository.PedidoArquivoRepository;
+import com.deliverytech.delivery.service.impl.ArquivamentoPedidoServiceImpl;
+import com.deliverytech.delivery.service.impl.ShardingServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ArquivamentoPedidoService")
+class ArquivamentoPedidoServiceTest {
+
+    @Mock
+    private PedidoArquivoRepository pedidoArquivoRepository;
+
+    private ArquivamentoPedidoServiceImpl arquivamentoPedidoService;
+
+    @BeforeEach
+    void setUp() {
+        arquivamentoPedidoService = new ArquivamentoPedidoServiceImpl(pedidoArquivoRepository,
+                new ShardingServiceImpl(new MockEnvironment()));
+        ReflectionTestUtils.setField(arquivamentoPedidoService, "diasQuentes", 180);
+        ReflectionTestUtils.setField(arquivamentoPedidoService, "tamanhoLote", 2);
+        ReflectionTestUtils.setField(arquivamentoPedidoService, "maxLotesPorCiclo", 10);
+    }
+
+    @Test
+    @DisplayName("Deve arquivar em lotes até não restarem pedidos elegíveis")
+    void deveArquivarEmLotes() {
+        // Given
+        when(pedidoArquivoRepository.findIdsArquivaveis(any(), eq(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(pedidoArquivoRepository.arquivar(eq(List.of(1L, 2L)), any())).thenReturn(2);
+        when(pedidoArquivoRepository.arquivar(eq(List.of(3L)), any())).thenReturn(1);
+
+        // When
+        int arquivados = arquivamentoPedidoService.arquivarFinalizados();
+
+        // Then
+        assertEquals(3, arquivados);
+        verify(pedidoArquivoRepository, times(2)).findIdsArquivaveis(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("Deve interromper o ciclo quando um lote falhar, mantendo os anteriores")
+    void deveInterromperQuandoLoteFalhar() {
+        // Given
+        when(pedidoArquivoRepository.findIdsArquivaveis(any(), eq(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L, 4L));
+        when(pedidoArquivoRepository.arquivar(eq(List.of(1L, 2L)), any())).thenReturn(2);
+        when(pedidoArquivoRepository.arquivar(eq(List.of(3L, 4L)), any()))
+                .thenThrow(new RuntimeException("falha no banco"));
+
+        // When
+        int arquivados = arquivamentoPedidoService.arquivarFinalizados();
+
+        // Then
+        assertEquals(2, arquivados);
+        verify(pedidoArquivoRepository, times(2)).arquivar(any(), any());
+    }
+}
@@ -0,0 +1,83 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.deliverytech.delivery.event.RestauranteAlteradoEvent;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.impl.BuscaGeograficaServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do BuscaGeograficaService")
+class BuscaGeograficaServiceTest {
+
+    // Avenida Paulista
+    private static final double LATITUDE = -23.5614;
+    private static final double LONGITUDE = -46.6559;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    private BuscaGeograficaServiceImpl buscaGeografica;
+
+    @BeforeEach
+    void setUp() {
+        buscaGeografica = new BuscaGeograficaServiceImpl(restauranteRepository,
+                new MockEnvironment().withProperty("delivery.geo.celula-graus", "0.01"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar restaurantes dentro do raio ordenados por distância")
+    void deveRetornarRestaurantesDentroDoRaio() {
+        // Given
+        when(restauranteRepository.findLocalizacoesAtivas()).thenReturn(List.of(
+                new Object[] { 1L, "Pinheiros", "Italiana", -23.5666, -46.6869 },
+                new Object[] { 2L, "Paulista", "Japonesa", -23.5620, -46.6570 },
+                new Object[] { 3L, "Santos", "Brasileira", -23.9608, -46.3336 }));
+        buscaGeografica.reconstruir();
+
+        // When
+        List<BuscaGeograficaService.RestauranteProximo> proximos = buscaGeografica.buscarProximos(LATITUDE, LONGITUDE, 5, 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), proximos.stream().map(BuscaGeograficaService.RestauranteProximo::restauranteId).toList());
+        assertTrue(proximos.get(0).distanciaKm() < 0.2);
+        assertEquals(3.2, proximos.get(1).distanciaKm(), 0.2);
+        assertEquals(1, buscaGeografica.buscarProximos(LATITUDE, LONGITUDE, 5, 1).size());
+    }
+
+    @Test
+    @DisplayName("Deve mover, desativar e remover restaurantes do índice")
+    void deveManterIndiceAtualizado() {
+        // Given
+        buscaGeografica.aoAlterarRestaurante(evento(1L, -23.5620, -46.6570, true));
+
+        // When: muda para Santos
+        buscaGeografica.aoAlterarRestaurante(evento(1L, -23.9608, -46.3336, true));
+
+        // Then
+        assertTrue(buscaGeografica.buscarProximos(LATITUDE, LONGITUDE, 5, 10).isEmpty());
+        assertEquals(1, buscaGeografica.buscarProximos(-23.9608, -46.3336, 1, 10).size());
+
+        // When
+        buscaGeografica.aoAlterarRestaurante(evento(1L, -23.9608, -46.3336, false));
+
+        // Then
+        assertTrue(buscaGeografica.buscarProximos(-23.9608, -46.3336, 1, 10).isEmpty());
+        assertEquals(0, buscaGeografica.restaurantesIndexados());
+    }
+
+    private RestauranteAlteradoEvent evento(Long id, double latitude, double longitude, boolean ativo) {
+        return new RestauranteAlteradoEvent(id, "Restaurante " + id, "Italiana", 4, 30, ativo, latitude, longitude, false);
+    }
+}
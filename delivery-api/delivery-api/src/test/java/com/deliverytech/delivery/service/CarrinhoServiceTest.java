@@ -0,0 +1,212 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.deliverytech.delivery.dto.request.PedidoRequest;
+import com.deliverytech.delivery.factory.TestDataFactory;
+import com.deliverytech.delivery.model.Money;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.Restaurante;
+import com.deliverytech.delivery.repository.ClienteRepository;
+import com.deliverytech.delivery.repository.ProdutoRepository;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.impl.CarrinhoServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do CarrinhoService")
+class CarrinhoServiceTest {
+
+    private final AtomicLong relogio = new AtomicLong(TimeUnit.DAYS.toMillis(1));
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private PedidoService pedidoService;
+
+    private CarrinhoServiceImpl carrinhoService;
+    private Restaurante restaurante;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("delivery.carrinho.maximo", "2")
+                .withProperty("delivery.carrinho.ocioso-minutos", "30");
+        carrinhoService = new CarrinhoServiceImpl(clienteRepository, restauranteRepository, produtoRepository,
+                pedidoService, environment, relogio::get);
+
+        restaurante = TestDataFactory.createRestaurante();
+        restaurante.setId(1L);
+        restaurante.setAtivo(true);
+        when(clienteRepository.existsById(1L)).thenReturn(true);
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+    }
+
+    @Test
+    @DisplayName("Deve manter o total a cada alteração consultando o produto só uma vez")
+    void deveManterTotalIncremental() {
+        // Given
+        when(produtoRepository.findById(10L)).thenReturn(Optional.of(produto(10L, "12.50")));
+        when(produtoRepository.findById(20L)).thenReturn(Optional.of(produto(20L, "8.00")));
+        String id = carrinhoService.criar(1L, 1L).carrinhoId();
+
+        // When
+        carrinhoService.adicionarItem(id, 10L, 2);
+        carrinhoService.adicionarItem(id, 20L, 1);
+        carrinhoService.adicionarItem(id, 10L, 1);
+        carrinhoService.definirQuantidade(id, 20L, 3);
+        CarrinhoService.Resumo resumo = carrinhoService.removerItem(id, 10L).orElseThrow();
+
+        // Then
+        assertEquals(3, resumo.quantidadeItens());
+        assertEquals(0, new BigDecimal("24.00").compareTo(resumo.total()));
+        verify(produtoRepository, times(1)).findById(10L);
+        verify(produtoRepository, times(1)).findById(20L);
+
+        CarrinhoService.Cotacao cotacao = carrinhoService.cotar(id).orElseThrow();
+        assertEquals(1, cotacao.itens().size());
+        assertEquals(0, resumo.total().compareTo(cotacao.total()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar produto de outro restaurante")
+    void deveRecusarProdutoDeOutroRestaurante() {
+        // Given
+        Produto produto = produto(10L, "10.00");
+        Restaurante outro = TestDataFactory.createRestaurante();
+        outro.setId(2L);
+        produto.setRestaurante(outro);
+        when(produtoRepository.findById(10L)).thenReturn(Optional.of(produto));
+        String id = carrinhoService.criar(1L, 1L).carrinhoId();
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> carrinhoService.adicionarItem(id, 10L, 1));
+        assertEquals(0, carrinhoService.cotar(id).orElseThrow().quantidadeItens());
+    }
+
+    @Test
+    @DisplayName("Deve recusar produto sem preço")
+    void deveRecusarProdutoSemPreco() {
+        // Given
+        Produto produto = produto(10L, "10.00");
+        produto.setPreco(null);
+        when(produtoRepository.findById(10L)).thenReturn(Optional.of(produto));
+        String id = carrinhoService.criar(1L, 1L).carrinhoId();
+
+        // When
+        RuntimeException erro = assertThrows(RuntimeException.class, () -> carrinhoService.adicionarItem(id, 10L, 1));
+
+        // Then
+        assertEquals("Produto sem preço: 10", erro.getMessage());
+        assertEquals(0, carrinhoService.cotar(id).orElseThrow().quantidadeItens());
+    }
+
+    @Test
+    @DisplayName("Deve finalizar o carrinho criando o pedido e descartá-lo")
+    void deveFinalizarCarrinho() {
+        // Given
+        when(produtoRepository.findById(10L)).thenReturn(Optional.of(produto(10L, "12.50")));
+        when(pedidoService.criarPedido(any(PedidoRequest.class))).thenReturn(new Pedido());
+        String id = carrinhoService.criar(1L, 1L).carrinhoId();
+        carrinhoService.adicionarItem(id, 10L, 2);
+
+        // When
+        carrinhoService.finalizar(id, TestDataFactory.createEndereco());
+
+        // Then
+        ArgumentCaptor<PedidoRequest> captor = ArgumentCaptor.forClass(PedidoRequest.class);
+        verify(pedidoService).criarPedido(captor.capture());
+        assertEquals(1L, captor.getValue().getRestauranteId());
+        assertEquals(2, captor.getValue().getItens().get(0).getQuantidade());
+        assertTrue(carrinhoService.cotar(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve manter o carrinho aberto quando a criação do pedido falha")
+    void deveManterCarrinhoQuandoPedidoFalha() {
+        // Given
+        when(produtoRepository.findById(10L)).thenReturn(Optional.of(produto(10L, "12.50")));
+        when(pedidoService.criarPedido(any(PedidoRequest.class))).thenThrow(new RuntimeException("Produto indisponível"));
+        String id = carrinhoService.criar(1L, 1L).carrinhoId();
+        carrinhoService.adicionarItem(id, 10L, 2);
+
+        // When
+        assertThrows(RuntimeException.class, () -> carrinhoService.finalizar(id, TestDataFactory.createEndereco()));
+
+        // Then
+        assertEquals(3, carrinhoService.adicionarItem(id, 10L, 1).quantidadeItens());
+    }
+
+    @Test
+    @DisplayName("Deve informar vazio ao remover produto ausente ou de carrinho inexistente")
+    void deveInformarVazioAoRemoverItemAusente() {
+        // Given
+        String id = carrinhoService.criar(1L, 1L).carrinhoId();
+
+        // When & Then
+        assertTrue(carrinhoService.removerItem(id, 10L).isEmpty());
+        assertTrue(carrinhoService.removerItem("inexistente", 10L).isEmpty());
+        verifyNoInteractions(produtoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve descartar carrinhos ociosos e liberar espaço para novos")
+    void deveDescartarCarrinhosOciosos() {
+        // Given
+        String antigo = carrinhoService.criar(1L, 1L).carrinhoId();
+        carrinhoService.criar(1L, 1L);
+
+        // When
+        relogio.addAndGet(TimeUnit.MINUTES.toMillis(31));
+        String novo = carrinhoService.criar(1L, 1L).carrinhoId();
+
+        // Then
+        assertTrue(carrinhoService.cotar(antigo).isEmpty());
+        assertTrue(carrinhoService.cotar(novo).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve recusar novos carrinhos quando o limite estiver cheio de carrinhos ativos")
+    void deveRecusarAcimaDoLimite() {
+        // Given
+        carrinhoService.criar(1L, 1L);
+        carrinhoService.criar(1L, 1L);
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> carrinhoService.criar(1L, 1L));
+    }
+
+    private Produto produto(Long id, String preco) {
+        return Produto.builder()
+                .id(id)
+                .nome("Produto " + id)
+                .preco(Money.de(new BigDecimal(preco)))
+                .disponivel(true)
+                .restaurante(restaurante)
+                .build();
+    }
+}
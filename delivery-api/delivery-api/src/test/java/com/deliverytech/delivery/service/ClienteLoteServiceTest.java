@@ -0,0 +1,116 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverytech.delivery.dto.request.ClienteRequest;
+import com.deliverytech.delivery.factory.TestDataFactory;
+import com.deliverytech.delivery.service.impl.ClienteLoteServiceImpl;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ClienteLoteService")
+class ClienteLoteServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private FiltroEmailService filtroEmailService;
+
+    private ClienteLoteServiceImpl clienteLoteService;
+
+    @BeforeEach
+    void setUp() {
+        clienteLoteService = new ClienteLoteServiceImpl(namedJdbcTemplate, new TransactionTemplate(transactionManager),
+                filtroEmailService, Validation.buildDefaultValidatorFactory().getValidator(), Optional.empty());
+        ReflectionTestUtils.setField(clienteLoteService, "loteMaximo", 100);
+        ReflectionTestUtils.setField(clienteLoteService, "loteJdbc", 50);
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar os novos e informar a situação de cada registro")
+    void deveCadastrarInformandoSituacaoPorRegistro() throws Exception {
+        // Given
+        ClienteRequest novo = cliente("Novo@Email.com");
+        ClienteRequest repetido = cliente("novo@email.com");
+        ClienteRequest semNome = cliente("sem.nome@email.com");
+        semNome.setNome(" ");
+        semNome.setTelefone(null);
+        ClienteRequest existente = cliente("existente@email.com");
+
+        when(namedJdbcTemplate.getJdbcTemplate()).thenReturn(jdbcTemplate);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        doAnswer(invocacao -> {
+            ResultSet linha = mock(ResultSet.class);
+            String sql = invocacao.getArgument(0);
+            if (sql.startsWith("SELECT id, email")) {
+                when(linha.getString("email")).thenReturn("novo@email.com");
+                when(linha.getLong("id")).thenReturn(10L);
+            } else {
+                when(linha.getString(1)).thenReturn("existente@email.com");
+            }
+            invocacao.getArgument(2, RowCallbackHandler.class).processRow(linha);
+            return null;
+        }).when(namedJdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        // When
+        ClienteLoteService.Resultado resultado = clienteLoteService.cadastrar(List.of(novo, repetido, semNome, existente));
+
+        // Then
+        assertEquals(1, resultado.cadastrados());
+        assertEquals(3, resultado.rejeitados());
+        assertEquals(List.of(ClienteLoteService.Situacao.CADASTRADO, ClienteLoteService.Situacao.DUPLICADO_NO_LOTE,
+                ClienteLoteService.Situacao.INVALIDO, ClienteLoteService.Situacao.EMAIL_JA_CADASTRADO),
+                resultado.registros().stream().map(ClienteLoteService.Registro::situacao).toList());
+        assertEquals(10L, resultado.registros().get(0).id());
+        String violacoes = resultado.registros().get(2).mensagem();
+        assertTrue(violacoes.startsWith("nome: ") && violacoes.contains("; telefone: "), violacoes);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat((List<Object[]> linhas) -> linhas.size() == 1));
+        verify(filtroEmailService).registrar("novo@email.com");
+    }
+
+    @Test
+    @DisplayName("Deve recusar lote acima do tamanho máximo")
+    void deveRecusarLoteAcimaDoMaximo() {
+        // Given
+        List<ClienteRequest> clientes = Collections.nCopies(101, cliente("cliente@email.com"));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> clienteLoteService.cadastrar(clientes));
+        verifyNoInteractions(namedJdbcTemplate);
+    }
+
+    private static ClienteRequest cliente(String email) {
+        ClienteRequest cliente = TestDataFactory.createClienteRequest();
+        cliente.setEmail(email);
+        return cliente;
+    }
+}
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.deliverytech.delivery.dto.request.ClienteRequest;
 import com.deliverytech.delivery.factory.TestDataFactory;
@@ -33,6 +36,9 @@ class ClienteServiceTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private FiltroEmailService filtroEmailService;
+
     @InjectMocks
     private ClienteServiceImpl clienteService;
 
@@ -50,7 +56,7 @@ class ClienteServiceTest {
     void deveCadastrarClienteComSucesso() {
         // Given
         when(modelMapper.map(clienteRequest, Cliente.class)).thenReturn(cliente);
-        when(clienteRepository.save(any(Cliente.class))).thenReturn(cliente);
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenReturn(cliente);
 
         // When
         Cliente resultado = clienteService.cadastrarCliente(clienteRequest);
@@ -59,7 +65,7 @@ class ClienteServiceTest {
         assertNotNull(resultado);
         assertEquals(cliente.getNome(), resultado.getNome());
         assertEquals(cliente.getEmail(), resultado.getEmail());
-        verify(clienteRepository, times(1)).save(any(Cliente.class));
+        verify(clienteRepository, times(1)).saveAndFlush(any(Cliente.class));
     }
 
     @Test
@@ -137,7 +143,7 @@ class ClienteServiceTest {
         novosDados.setNome("João Santos");
         
         when(clienteRepository.findById(clienteId)).thenReturn(Optional.of(cliente));
-        when(clienteRepository.save(any(Cliente.class))).thenReturn(cliente);
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenReturn(cliente);
 
         // When
         Cliente resultado = clienteService.atualizarCliente(clienteId, novosDados);
@@ -145,7 +151,7 @@ class ClienteServiceTest {
         // Then
         assertNotNull(resultado);
         verify(clienteRepository, times(1)).findById(clienteId);
-        verify(clienteRepository, times(1)).save(any(Cliente.class));
+        verify(clienteRepository, times(1)).saveAndFlush(any(Cliente.class));
     }
 
     @Test
@@ -178,4 +184,66 @@ class ClienteServiceTest {
         
         verify(clienteRepository, times(1)).findById(clienteId);
     }
+
+    @Test
+    @DisplayName("Deve cadastrar sem consultar o email no banco quando o filtro garante ausência")
+    void deveCadastrarSemConsultarEmailQuandoFiltroGaranteAusencia() {
+        // Given
+        when(filtroEmailService.existe(eq(clienteRequest.getEmail().toLowerCase()), any())).thenReturn(false);
+        when(modelMapper.map(clienteRequest, Cliente.class)).thenReturn(cliente);
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenReturn(cliente);
+
+        // When
+        clienteService.cadastrarCliente(clienteRequest);
+
+        // Then
+        verify(clienteRepository, never()).existsByEmail(anyString());
+        verify(filtroEmailService).registrar(cliente.getEmail());
+    }
+
+    @Test
+    @DisplayName("Deve recusar email duplicado barrado pela constraint única")
+    void deveRecusarEmailDuplicadoBarradoPelaConstraint() {
+        // Given
+        when(modelMapper.map(clienteRequest, Cliente.class)).thenReturn(cliente);
+        when(clienteRepository.saveAndFlush(any(Cliente.class)))
+                .thenThrow(violacao("PUBLIC.UK_CLIENTE_EMAIL_INDEX_7"));
+
+        // When & Then
+        RuntimeException erro = assertThrows(RuntimeException.class,
+                () -> clienteService.cadastrarCliente(clienteRequest));
+        assertEquals("Email já cadastrado", erro.getMessage());
+        verify(filtroEmailService, never()).registrar(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve repassar violações de outras constraints")
+    void deveRepassarViolacaoDeOutraConstraint() {
+        // Given
+        when(modelMapper.map(clienteRequest, Cliente.class)).thenReturn(cliente);
+        when(clienteRepository.saveAndFlush(any(Cliente.class))).thenThrow(violacao("PUBLIC.CONSTRAINT_8"));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () -> clienteService.cadastrarCliente(clienteRequest));
+        verify(filtroEmailService, never()).registrar(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve buscar cliente por email direto no banco, sem o filtro")
+    void deveBuscarClientePorEmailNoBanco() {
+        // Given
+        when(clienteRepository.findByEmail("joao@email.com")).thenReturn(Optional.of(cliente));
+
+        // When
+        Optional<Cliente> resultado = clienteService.buscarClientePorEmail("Joao@Email.com");
+
+        // Then
+        assertTrue(resultado.isPresent());
+        verifyNoInteractions(filtroEmailService);
+    }
+
+    private static DataIntegrityViolationException violacao(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraint));
+    }
 }
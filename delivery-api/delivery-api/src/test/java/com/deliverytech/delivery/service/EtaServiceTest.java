@@ -0,0 +1,111 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.deliverytech.delivery.event.PedidoAlteradoEvent;
+import com.deliverytech.delivery.event.RestauranteAlteradoEvent;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.impl.EtaServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do EtaService")
+class EtaServiceTest {
+
+    private final AtomicLong relogio = new AtomicLong(TimeUnit.DAYS.toMillis(1));
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private FilaCozinhaService filaCozinhaService;
+
+    private EtaServiceImpl etaService;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("delivery.eta.janela-minutos", "60")
+                .withProperty("delivery.eta.preparo-padrao-minutos", "15")
+                .withProperty("delivery.eta.pedidos-simultaneos", "2")
+                .withProperty("delivery.eta.amostras-minimas", "2");
+        etaService = new EtaServiceImpl(restauranteRepository, filaCozinhaService, environment, relogio::get);
+    }
+
+    @Test
+    @DisplayName("Deve usar o preparo padrão enquanto não houver amostras suficientes")
+    void deveUsarPreparoPadraoSemAmostras() {
+        // Given
+        when(restauranteRepository.findTemposEntrega()).thenReturn(List.<Object[]>of(new Object[] { 1L, 30 }));
+        when(filaCozinhaService.tamanho(1L)).thenReturn(4);
+        etaService.carregarTemposBase();
+
+        // When
+        EtaService.Estimativa estimativa = etaService.estimar(1L).orElseThrow();
+
+        // Then: 30 + 15 * 4 / 2
+        assertEquals(60, estimativa.minutos());
+        assertEquals(0, estimativa.amostras());
+        assertTrue(etaService.estimar(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve refletir o tempo de preparo observado na janela")
+    void deveRefletirPreparoObservado() {
+        // Given
+        etaService.aoAlterarRestaurante(new RestauranteAlteradoEvent(1L, "Pizzaria", "Italiana", 4, 30, true, null, null, false));
+        when(filaCozinhaService.tamanho(1L)).thenReturn(2);
+        preparar(10L, 25);
+        preparar(11L, 35);
+
+        // When
+        EtaService.Estimativa estimativa = etaService.estimar(1L).orElseThrow();
+
+        // Then: 30 + (30 - 15) + 30 * 2 / 2
+        assertEquals(2, estimativa.amostras());
+        assertEquals(30.0, estimativa.preparoMedioMinutos(), 0.001);
+        assertEquals(75, estimativa.minutos());
+    }
+
+    @Test
+    @DisplayName("Deve descartar amostras que saíram da janela")
+    void deveDescartarAmostrasAntigas() {
+        // Given
+        etaService.aoAlterarRestaurante(new RestauranteAlteradoEvent(1L, "Pizzaria", "Italiana", 4, 30, true, null, null, false));
+        preparar(10L, 40);
+        preparar(11L, 40);
+
+        // When
+        relogio.addAndGet(TimeUnit.MINUTES.toMillis(90));
+
+        // Then
+        assertEquals(0, etaService.estimar(1L).orElseThrow().amostras());
+        assertEquals(30, etaService.estimarMinutos(1L, 30));
+    }
+
+    private void preparar(Long pedidoId, int minutos) {
+        etaService.aoAlterarPedido(evento(pedidoId, StatusPedido.EM_PREPARACAO));
+        relogio.addAndGet(TimeUnit.MINUTES.toMillis(minutos));
+        etaService.aoAlterarPedido(evento(pedidoId, StatusPedido.ENVIADO));
+    }
+
+    private PedidoAlteradoEvent evento(Long pedidoId, StatusPedido status) {
+        return new PedidoAlteradoEvent(pedidoId, 1L, 1L, null, status, LocalDateTime.now(),
+                BigDecimal.TEN, LocalDateTime.now());
+    }
+}
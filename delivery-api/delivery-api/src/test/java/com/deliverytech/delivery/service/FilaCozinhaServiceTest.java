@@ -0,0 +1,161 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.deliverytech.delivery.event.PedidoAlteradoEvent;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.repository.PedidoRepository;
+import com.deliverytech.delivery.service.impl.FilaCozinhaServiceImpl;
+import com.deliverytech.delivery.service.impl.ShardingServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do FilaCozinhaService")
+class FilaCozinhaServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    private FilaCozinhaServiceImpl filaCozinha;
+
+    @BeforeEach
+    void setUp() {
+        filaCozinha = new FilaCozinhaServiceImpl(pedidoRepository, new ShardingServiceImpl(new MockEnvironment()));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por data do pedido e respeitar a prioridade")
+    void deveOrdenarPorDataEPrioridade() {
+        // Given
+        filaCozinha.aoAlterarPedido(evento(1L, StatusPedido.CRIADO, 0));
+        filaCozinha.aoAlterarPedido(evento(2L, StatusPedido.CRIADO, 1));
+        filaCozinha.aoAlterarPedido(evento(3L, StatusPedido.CRIADO, 2));
+
+        // When
+        boolean priorizado = filaCozinha.priorizar(3L, 5);
+
+        // Then
+        assertTrue(priorizado);
+        assertEquals(List.of(3L, 1L, 2L), ids(filaCozinha.proximos(1L, 10)));
+        assertEquals(List.of(3L, 1L), ids(filaCozinha.proximos(1L, 2)));
+        assertEquals(3, filaCozinha.tamanho(1L));
+    }
+
+    @Test
+    @DisplayName("Deve remover o pedido quando sair da cozinha")
+    void deveRemoverPedidoEnviado() {
+        // Given
+        filaCozinha.aoAlterarPedido(evento(1L, StatusPedido.CRIADO, 0));
+        filaCozinha.aoAlterarPedido(evento(2L, StatusPedido.CRIADO, 1));
+
+        // When: a saída repetida não desconta de novo
+        filaCozinha.aoAlterarPedido(evento(1L, StatusPedido.ENVIADO, 0));
+        filaCozinha.aoAlterarPedido(evento(1L, StatusPedido.ENVIADO, 0));
+
+        // Then
+        assertEquals(List.of(2L), ids(filaCozinha.proximos(1L, 10)));
+        assertEquals(1, filaCozinha.tamanho(1L));
+        assertEquals(0, filaCozinha.tamanho(2L));
+        assertFalse(filaCozinha.priorizar(1L, 3));
+    }
+
+    @Test
+    @DisplayName("Deve manter o pedido na fila ao avançar o status dentro da cozinha")
+    void deveManterPedidoAoAvancarStatus() {
+        // Given
+        filaCozinha.aoAlterarPedido(evento(1L, StatusPedido.CRIADO, 0));
+
+        // When
+        filaCozinha.aoAlterarPedido(evento(1L, StatusPedido.CONFIRMADO, 0));
+        filaCozinha.aoAlterarPedido(evento(1L, StatusPedido.CONFIRMADO, 0));
+
+        // Then
+        List<FilaCozinhaService.ItemFila> proximos = filaCozinha.proximos(1L, 10);
+        assertEquals(1, proximos.size());
+        assertEquals(StatusPedido.CONFIRMADO, proximos.get(0).status());
+        assertEquals(1, filaCozinha.tamanho(1L));
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir as filas a partir do banco")
+    void deveReconstruirDoBanco() {
+        // Given
+        when(pedidoRepository.findResumoPorStatus(anyCollection())).thenReturn(List.of(
+                new Object[] { 10L, 1L, StatusPedido.CONFIRMADO, BASE.plusMinutes(5) },
+                new Object[] { 11L, 1L, StatusPedido.CRIADO, BASE },
+                new Object[] { 12L, 2L, StatusPedido.EM_PREPARACAO, BASE }));
+
+        // When
+        filaCozinha.reconstruir();
+
+        // Then
+        assertEquals(List.of(11L, 10L), ids(filaCozinha.proximos(1L, 10)));
+        assertEquals(List.of(12L), ids(filaCozinha.proximos(2L, 10)));
+        assertTrue(filaCozinha.proximos(3L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar eventos recebidos durante a reconstrução sobre a leitura do banco")
+    void deveReaplicarEventosDuranteReconstrucao() {
+        // Given: o pedido 10 é entregue e o 11 confirmado enquanto a leitura (anterior a ambos) está em curso
+        when(pedidoRepository.findResumoPorStatus(anyCollection())).thenAnswer(invocacao -> {
+            filaCozinha.aoAlterarPedido(evento(10L, StatusPedido.ENTREGUE, 0));
+            filaCozinha.aoAlterarPedido(evento(11L, StatusPedido.CONFIRMADO, 1));
+            return List.<Object[]>of(
+                    new Object[] { 10L, 1L, StatusPedido.EM_PREPARACAO, BASE },
+                    new Object[] { 11L, 1L, StatusPedido.CRIADO, BASE.plusMinutes(1) });
+        });
+
+        // When
+        filaCozinha.reconstruir();
+
+        // Then
+        List<FilaCozinhaService.ItemFila> proximos = filaCozinha.proximos(1L, 10);
+        assertEquals(List.of(11L), ids(proximos));
+        assertEquals(StatusPedido.CONFIRMADO, proximos.get(0).status());
+        assertEquals(1, filaCozinha.tamanho(1L));
+    }
+
+    @Test
+    @DisplayName("Deve trocar o status sem tirar o pedido da fila nem mudar sua posição")
+    void deveTrocarStatusSemMexerNaFila() {
+        // Given
+        filaCozinha.aoAlterarPedido(evento(1L, StatusPedido.CRIADO, 0));
+        filaCozinha.aoAlterarPedido(evento(2L, StatusPedido.CRIADO, 1));
+        filaCozinha.priorizar(2L, 3);
+
+        // When
+        filaCozinha.aoAlterarPedido(evento(2L, StatusPedido.EM_PREPARACAO, 1));
+
+        // Then
+        List<FilaCozinhaService.ItemFila> proximos = filaCozinha.proximos(1L, 10);
+        assertEquals(List.of(2L, 1L), ids(proximos));
+        assertEquals(StatusPedido.EM_PREPARACAO, proximos.get(0).status());
+        assertEquals(3, proximos.get(0).prioridade());
+        assertEquals(2, filaCozinha.tamanho(1L));
+    }
+
+    private PedidoAlteradoEvent evento(Long pedidoId, StatusPedido status, int minutos) {
+        return new PedidoAlteradoEvent(pedidoId, 1L, 1L, null, status, BASE.plusMinutes(minutos),
+                BigDecimal.TEN, LocalDateTime.now());
+    }
+
+    private List<Long> ids(List<FilaCozinhaService.ItemFila> itens) {
+        return itens.stream().map(FilaCozinhaService.ItemFila::pedidoId).toList();
+    }
+}
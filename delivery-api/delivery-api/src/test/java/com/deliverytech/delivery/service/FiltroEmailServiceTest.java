@@ -0,0 +1,102 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.deliverytech.delivery.config.FiltroBloom;
+import com.deliverytech.delivery.service.impl.FiltroEmailServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do FiltroEmailService")
+class FiltroEmailServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private FiltroEmailServiceImpl filtroEmailService;
+
+    @BeforeEach
+    void setUp() {
+        filtroEmailService = new FiltroEmailServiceImpl(jdbcTemplate);
+        ReflectionTestUtils.setField(filtroEmailService, "habilitado", true);
+        ReflectionTestUtils.setField(filtroEmailService, "taxaFalsoPositivo", 0.01);
+        ReflectionTestUtils.setField(filtroEmailService, "capacidadeMinima", 1000L);
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falso positivo perto da configurada e nunca dar falso negativo")
+    void deveRespeitarTaxaDeFalsoPositivo() {
+        // Given
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar("cliente" + i + "@email.com");
+        }
+
+        // When
+        int falsosPositivos = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filtro.podeConter("cliente" + i + "@email.com"));
+            if (filtro.podeConter("outro" + i + "@email.com")) {
+                falsosPositivos++;
+            }
+        }
+
+        // Then
+        assertTrue(falsosPositivos < 200, "falsos positivos: " + falsosPositivos);
+        assertEquals(10_000, filtro.getInseridos(), 50);
+    }
+
+    @Test
+    @DisplayName("Deve ir ao banco enquanto o filtro não foi carregado")
+    void deveConsultarBancoAntesDaCarga() {
+        // When
+        boolean existe = filtroEmailService.existe("joao@email.com", email -> true);
+
+        // Then
+        assertTrue(existe);
+        assertEquals(0, filtroEmailService.estatisticas().consultas());
+    }
+
+    @Test
+    @DisplayName("Deve pular o banco para emails ausentes e consultá-lo para os cadastrados")
+    void deveUsarFiltroDepoisDaCarga() throws Exception {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+        doAnswer(invocacao -> {
+            ResultSet linha = mock(ResultSet.class);
+            when(linha.getString(1)).thenReturn("joao@email.com");
+            invocacao.getArgument(1, RowCallbackHandler.class).processRow(linha);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        filtroEmailService.reconstruir();
+        filtroEmailService.registrar("maria@email.com");
+
+        // When
+        boolean novoExiste = filtroEmailService.existe("novo@email.com", email -> fail("não deveria consultar o banco"));
+        boolean mariaExiste = filtroEmailService.existe("maria@email.com", email -> true);
+        boolean joaoExiste = filtroEmailService.existe("joao@email.com", email -> true);
+
+        // Then
+        assertFalse(novoExiste);
+        assertTrue(mariaExiste);
+        assertTrue(joaoExiste);
+        FiltroEmailService.Estatisticas estatisticas = filtroEmailService.estatisticas();
+        assertTrue(estatisticas.pronto());
+        assertEquals(3, estatisticas.consultas());
+        assertEquals(1, estatisticas.consultasEvitadas());
+        assertEquals(2, estatisticas.elementos());
+    }
+}
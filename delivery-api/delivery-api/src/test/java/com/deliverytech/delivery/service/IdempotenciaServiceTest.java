@@ -0,0 +1,181 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.deliverytech.delivery.service.impl.IdempotenciaServiceImpl;
+
+@DisplayName("Testes do IdempotenciaService")
+class IdempotenciaServiceTest {
+
+    private final AtomicLong relogio = new AtomicLong(TimeUnit.DAYS.toMillis(1));
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    private IdempotenciaServiceImpl idempotenciaService;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("delivery.idempotencia.ttl-minutos", "10");
+        idempotenciaService = new IdempotenciaServiceImpl(environment, relogio::get);
+    }
+
+    @Test
+    @DisplayName("Deve devolver o resultado guardado sem executar de novo")
+    void deveRepetirResultadoGuardado() {
+        // Given
+        IdempotenciaService.Resultado<String> primeiro =
+                idempotenciaService.executar("cliente:1|abc", "pedido", () -> "pedido-" + execucoes.incrementAndGet());
+
+        // When
+        IdempotenciaService.Resultado<String> repetido =
+                idempotenciaService.executar("cliente:1|abc", "pedido", () -> "pedido-" + execucoes.incrementAndGet());
+
+        // Then
+        assertFalse(primeiro.repetido());
+        assertTrue(repetido.repetido());
+        assertEquals("pedido-1", repetido.valor());
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    @DisplayName("Deve juntar duplicatas concorrentes em uma única execução")
+    void deveJuntarDuplicatasConcorrentes() throws Exception {
+        // Given
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<IdempotenciaService.Resultado<String>> primeiro = executor.submit(() ->
+                    idempotenciaService.executar("cliente:1|abc", "pedido", () -> {
+                        emExecucao.countDown();
+                        aguardar(liberar);
+                        return "pedido-" + execucoes.incrementAndGet();
+                    }));
+            assertTrue(emExecucao.await(5, TimeUnit.SECONDS));
+
+            // When
+            Future<IdempotenciaService.Resultado<String>> duplicata = executor.submit(() ->
+                    idempotenciaService.executar("cliente:1|abc", "pedido", () -> "pedido-" + execucoes.incrementAndGet()));
+            liberar.countDown();
+
+            // Then
+            assertEquals("pedido-1", primeiro.get(5, TimeUnit.SECONDS).valor());
+            assertEquals("pedido-1", duplicata.get(5, TimeUnit.SECONDS).valor());
+            assertEquals(1, execucoes.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chave quando a execução falhar")
+    void deveLiberarChaveAposFalha() {
+        // Given
+        assertThrows(RuntimeException.class, () -> idempotenciaService.executar("cliente:1|abc", "pedido", () -> {
+            throw new RuntimeException("Produto não encontrado");
+        }));
+
+        // When
+        IdempotenciaService.Resultado<String> retry =
+                idempotenciaService.executar("cliente:1|abc", "pedido", () -> "pedido-" + execucoes.incrementAndGet());
+
+        // Then
+        assertFalse(retry.repetido());
+        assertEquals("pedido-1", retry.valor());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a mesma chave com outra requisição")
+    void deveRecusarChaveComOutraRequisicao() {
+        // Given
+        idempotenciaService.executar("cliente:1|abc", "pedido", () -> "pedido-1");
+
+        // When
+        IdempotenciaService.Resultado<String> outro =
+                idempotenciaService.executar("cliente:1|abc", "outro pedido", () -> "pedido-2");
+
+        // Then
+        assertTrue(outro.conflito());
+        assertNull(outro.valor());
+    }
+
+    @Test
+    @DisplayName("Deve liberar as duplicatas em espera quando a execução falhar com Error")
+    void deveLiberarDuplicatasAposError() throws Exception {
+        // Given
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<IdempotenciaService.Resultado<String>> primeiro = executor.submit(() ->
+                    idempotenciaService.<String>executar("cliente:1|abc", "pedido", () -> {
+                        emExecucao.countDown();
+                        aguardar(liberar);
+                        throw new StackOverflowError();
+                    }));
+            assertTrue(emExecucao.await(5, TimeUnit.SECONDS));
+
+            // When
+            AtomicReference<Thread> esperando = new AtomicReference<>();
+            Future<IdempotenciaService.Resultado<String>> duplicata = executor.submit(() -> {
+                esperando.set(Thread.currentThread());
+                return idempotenciaService.executar("cliente:1|abc", "pedido", () -> "pedido-" + execucoes.incrementAndGet());
+            });
+            // Só libera a primeira execução com a duplicata já parada no future
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((esperando.get() == null || esperando.get().getState() != Thread.State.WAITING)
+                    && System.nanoTime() < limite) {
+                Thread.onSpinWait();
+            }
+            liberar.countDown();
+
+            // Then
+            ExecutionException falha = assertThrows(ExecutionException.class, () -> duplicata.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, falha.getCause());
+            assertThrows(ExecutionException.class, () -> primeiro.get(5, TimeUnit.SECONDS));
+            assertEquals(0, idempotenciaService.chavesAtivas());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve executar de novo depois que a chave expirar")
+    void deveExecutarDeNovoAposExpirar() {
+        // Given
+        idempotenciaService.executar("cliente:1|abc", "pedido", () -> "pedido-" + execucoes.incrementAndGet());
+
+        // When
+        relogio.addAndGet(TimeUnit.MINUTES.toMillis(11));
+        IdempotenciaService.Resultado<String> depois =
+                idempotenciaService.executar("cliente:1|abc", "pedido", () -> "pedido-" + execucoes.incrementAndGet());
+
+        // Then
+        assertFalse(depois.repetido());
+        assertEquals("pedido-2", depois.valor());
+        assertEquals(1, idempotenciaService.chavesAtivas());
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.impl.ImportacaoProdutoServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ImportacaoProdutoService")
+class ImportacaoProdutoServiceTest {
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ImportacaoProdutoServiceImpl importacaoService;
+
+    @BeforeEach
+    void setUp() {
+        importacaoService = new ImportacaoProdutoServiceImpl(restauranteRepository, jdbcTemplate, new ObjectMapper(),
+                Optional.empty());
+        ReflectionTestUtils.setField(importacaoService, "tamanhoLote", 2);
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV em lotes e relatar as linhas inválidas")
+    void deveImportarCsvEmLotes() throws Exception {
+        // Given
+        when(restauranteRepository.existsById(1L)).thenReturn(true);
+        String csv = """
+                preco,nome,categoria,descricao
+                10.50,Pizza,Principal,"Molho, queijo"
+                ,Sem preço,Principal,
+                12,Lasanha,Principal,
+                abc,Preço inválido,,
+                7.5,"Suco ""natural""\",Bebida,
+                """;
+
+        // When
+        ImportacaoProdutoService.Resultado resultado = importacaoService.importar(1L, entrada(csv),
+                ImportacaoProdutoService.Formato.CSV);
+
+        // Then
+        assertEquals(3, resultado.importados());
+        assertEquals(2, resultado.rejeitados());
+        assertEquals(List.of(3L, 5L), resultado.erros().stream().map(ImportacaoProdutoService.ErroLinha::linha).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), lotes.capture());
+        Object[] primeiro = lotes.getAllValues().get(0).get(0);
+        assertEquals("Pizza", primeiro[0]);
+        assertEquals("Molho, queijo", primeiro[2]);
+        assertEquals(new BigDecimal("10.50"), primeiro[3]);
+        assertEquals("Suco \"natural\"", lotes.getAllValues().get(1).get(0)[0]);
+    }
+
+    @Test
+    @DisplayName("Deve importar NDJSON marcando disponibilidade e rejeitando JSON inválido")
+    void deveImportarNdjson() throws Exception {
+        // Given
+        when(restauranteRepository.existsById(1L)).thenReturn(true);
+        String ndjson = """
+                {"nome":"Pizza","preco":30,"disponivel":false}
+                {"nome":"Quebrado"
+                {"nome":"Suco","preco":"8.00"}
+                """;
+
+        // When
+        ImportacaoProdutoService.Resultado resultado = importacaoService.importar(1L, entrada(ndjson),
+                ImportacaoProdutoService.Formato.NDJSON);
+
+        // Then
+        assertEquals(2, resultado.importados());
+        assertEquals(1, resultado.rejeitados());
+        assertEquals(2L, resultado.erros().get(0).linha());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> lote = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), lote.capture());
+        assertEquals(false, lote.getValue().get(0)[4]);
+        assertEquals(true, lote.getValue().get(1)[4]);
+    }
+
+    @Test
+    @DisplayName("Deve recusar importação para restaurante inexistente")
+    void deveRecusarRestauranteInexistente() {
+        // Given
+        when(restauranteRepository.existsById(99L)).thenReturn(false);
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> importacaoService.importar(99L, entrada("nome,preco\n"),
+                ImportacaoProdutoService.Formato.CSV));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private InputStream entrada(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
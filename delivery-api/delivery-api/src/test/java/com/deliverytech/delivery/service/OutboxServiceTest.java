@@ -0,0 +1,147 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.deliverytech.delivery.factory.TestDataFactory;
+import com.deliverytech.delivery.model.ItemPedido;
+import com.deliverytech.delivery.model.OutboxEvento;
+import com.deliverytech.delivery.model.Pedido;
+import com.deliverytech.delivery.model.Produto;
+import com.deliverytech.delivery.model.TipoEventoPedido;
+import com.deliverytech.delivery.repository.OutboxEventoRepository;
+import com.deliverytech.delivery.service.impl.OutboxServiceImpl;
+import com.deliverytech.delivery.service.impl.ShardingServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do OutboxService")
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxEventoRepository, outboxSink, new ObjectMapper(),
+                new ShardingServiceImpl(new MockEnvironment()));
+        ReflectionTestUtils.setField(outboxService, "tamanhoLote", 2);
+        ReflectionTestUtils.setField(outboxService, "maxLotesPorCiclo", 10);
+    }
+
+    @Test
+    @DisplayName("Deve publicar lotes em ordem e marcar cada um como publicado")
+    void devePublicarLotesEmOrdem() throws Exception {
+        // Given
+        List<OutboxEvento> primeiro = List.of(evento(1L), evento(2L));
+        List<OutboxEvento> segundo = List.of(evento(3L));
+        when(outboxEventoRepository.findByPublicadoEmIsNullOrderByIdAsc(any(Pageable.class)))
+                .thenReturn(primeiro)
+                .thenReturn(segundo);
+
+        // When
+        int publicados = outboxService.publicarPendentes();
+
+        // Then
+        assertEquals(3, publicados);
+        var ordem = inOrder(outboxSink, outboxEventoRepository);
+        ordem.verify(outboxSink).publicar(primeiro);
+        ordem.verify(outboxEventoRepository).marcarPublicados(eq(List.of(1L, 2L)), any());
+        ordem.verify(outboxSink).publicar(segundo);
+        ordem.verify(outboxEventoRepository).marcarPublicados(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("Não deve avançar o checkpoint quando o sink falhar")
+    void naoDeveMarcarQuandoSinkFalhar() throws Exception {
+        // Given
+        List<OutboxEvento> lote = List.of(evento(1L), evento(2L));
+        when(outboxEventoRepository.findByPublicadoEmIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(lote);
+        doThrow(new IOException("indisponível")).when(outboxSink).publicar(lote);
+
+        // When
+        int publicados = outboxService.publicarPendentes();
+
+        // Then
+        assertEquals(0, publicados);
+        verify(outboxEventoRepository, never()).marcarPublicados(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar PEDIDO_CRIADO com campos nulos nos itens e payload acima de 8000 caracteres")
+    void deveRegistrarPayloadComCamposNulos() throws Exception {
+        // Given
+        Pedido pedido = TestDataFactory.createPedido(TestDataFactory.createCliente(), TestDataFactory.createRestaurante());
+        pedido.setId(5L);
+        List<ItemPedido> itens = new ArrayList<>();
+        itens.add(ItemPedido.builder().pedido(pedido).quantidade(1).build());
+        for (long i = 0; i < 200; i++) {
+            Produto produto = TestDataFactory.createProduto(pedido.getRestaurante());
+            produto.setId(i);
+            itens.add(TestDataFactory.createItemPedido(pedido, produto));
+        }
+        pedido.setItens(itens);
+        ArgumentCaptor<OutboxEvento> evento = ArgumentCaptor.forClass(OutboxEvento.class);
+
+        // When
+        outboxService.registrarEvento(pedido, TipoEventoPedido.PEDIDO_CRIADO);
+
+        // Then
+        verify(outboxEventoRepository).save(evento.capture());
+        String payload = evento.getValue().getPayload();
+        assertTrue(payload.length() > 8000);
+        JsonNode json = new ObjectMapper().readTree(payload);
+        assertEquals(201, json.get("itens").size());
+        assertTrue(json.get("itens").get(0).get("produtoId").isNull());
+        assertTrue(json.get("itens").get(0).get("precoUnitario").isNull());
+        assertEquals(1, json.get("itens").get(0).get("quantidade").asInt());
+    }
+
+    @Test
+    @DisplayName("Não deve incluir itens nos eventos de alteração de status")
+    void naoDeveIncluirItensEmAlteracaoDeStatus() throws Exception {
+        // Given
+        Pedido pedido = TestDataFactory.createPedido(TestDataFactory.createCliente(), TestDataFactory.createRestaurante());
+        ArgumentCaptor<OutboxEvento> evento = ArgumentCaptor.forClass(OutboxEvento.class);
+
+        // When
+        outboxService.registrarEvento(pedido, TipoEventoPedido.STATUS_ALTERADO);
+
+        // Then
+        verify(outboxEventoRepository).save(evento.capture());
+        JsonNode json = new ObjectMapper().readTree(evento.getValue().getPayload());
+        assertFalse(json.has("itens"));
+        assertEquals("CRIADO", json.get("status").asText());
+    }
+
+    private OutboxEvento evento(Long id) {
+        return OutboxEvento.builder()
+                .id(id)
+                .pedidoId(10L)
+                .tipo(TipoEventoPedido.STATUS_ALTERADO)
+                .payload("{}")
+                .build();
+    }
+}
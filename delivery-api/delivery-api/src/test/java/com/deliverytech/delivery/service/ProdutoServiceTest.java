@@ -0,0 +1,75 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.deliverytech.delivery.config.ReplicadorReferencias;
+import com.deliverytech.delivery.repository.ProdutoRepository;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.impl.ProdutoServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ProdutoService")
+class ProdutoServiceTest {
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private ObjectProvider<ReplicadorReferencias> replicadorReferencias;
+
+    @InjectMocks
+    private ProdutoServiceImpl produtoService;
+
+    @Test
+    @DisplayName("Deve reajustar preços com um único UPDATE usando o fator do percentual")
+    void deveReajustarPrecosEmLote() {
+        // Given
+        when(produtoRepository.reajustarPrecos(eq(1L), eq("Bebida"), any())).thenReturn(42);
+
+        // When
+        int alterados = produtoService.reajustarPrecos(1L, "Bebida", new BigDecimal("-12.5"));
+
+        // Then
+        assertEquals(42, alterados);
+        verify(produtoRepository).reajustarPrecos(eq(1L), eq("Bebida"),
+                argThat(fator -> fator.compareTo(new BigDecimal("0.875")) == 0));
+        verify(produtoRepository, never()).findById(any());
+        verify(produtoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar reajuste que zeraria ou negativaria os preços")
+    void deveRecusarReajusteInvalido() {
+        assertThrows(RuntimeException.class, () -> produtoService.reajustarPrecos(1L, null, new BigDecimal("-100")));
+        verifyNoInteractions(produtoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve alterar a disponibilidade do cardápio inteiro com um único UPDATE")
+    void deveAlterarDisponibilidadeEmLote() {
+        // Given
+        when(produtoRepository.alterarDisponibilidade(1L, null, false)).thenReturn(30);
+
+        // When
+        int alterados = produtoService.alterarDisponibilidadeEmLote(1L, null, false);
+
+        // Then
+        assertEquals(30, alterados);
+        verify(produtoRepository, never()).save(any());
+    }
+}
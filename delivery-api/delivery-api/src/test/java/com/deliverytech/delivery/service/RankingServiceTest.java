@@ -0,0 +1,132 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.deliverytech.delivery.event.PedidoAlteradoEvent;
+import com.deliverytech.delivery.event.RestauranteAlteradoEvent;
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.repository.PedidoRepository;
+import com.deliverytech.delivery.repository.RestauranteRepository;
+import com.deliverytech.delivery.service.impl.RankingServiceImpl;
+import com.deliverytech.delivery.service.impl.ShardingServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do RankingService")
+class RankingServiceTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2024, 3, 10);
+
+    private final AtomicReference<LocalDate> dia = new AtomicReference<>(HOJE);
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    private RankingServiceImpl rankingService;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = new RankingServiceImpl(restauranteRepository, pedidoRepository,
+                new ShardingServiceImpl(new MockEnvironment()), dia::get);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir e paginar o ranking por avaliação")
+    void deveReconstruirEPaginarPorAvaliacao() {
+        // Given
+        when(restauranteRepository.findResumoAtivos()).thenReturn(List.of(
+                new Object[] { 1L, "Pizza Express", "Italiana", 4 },
+                new Object[] { 2L, "Burger King", "Fast Food", 5 },
+                new Object[] { 3L, "Cantina", "Italiana", 5 }));
+        when(pedidoRepository.countPorRestauranteDesde(any())).thenReturn(List.of());
+
+        // When
+        rankingService.reconstruir();
+
+        // Then
+        assertEquals(List.of(2L, 3L), ids(rankingService.melhorAvaliados(null, 0, 2)));
+        assertEquals(List.of(1L), ids(rankingService.melhorAvaliados(null, 1, 2)));
+        assertEquals(List.of(3L, 1L), ids(rankingService.melhorAvaliados("Italiana", 0, 10)));
+        assertTrue(rankingService.melhorAvaliados("Japonesa", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o ranking ao avaliar, mudar de categoria ou desativar")
+    void deveAtualizarRankingIncrementalmente() {
+        // Given
+        rankingService.aoAlterarRestaurante(restaurante(1L, "Italiana", 3, true));
+        rankingService.aoAlterarRestaurante(restaurante(2L, "Italiana", 4, true));
+
+        // When
+        rankingService.aoAlterarRestaurante(restaurante(1L, "Italiana", 5, true));
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids(rankingService.melhorAvaliados("Italiana", 0, 10)));
+
+        // When
+        rankingService.aoAlterarRestaurante(restaurante(2L, "Brasileira", 4, true));
+        rankingService.aoAlterarRestaurante(restaurante(1L, "Italiana", 5, false));
+
+        // Then
+        assertTrue(rankingService.melhorAvaliados("Italiana", 0, 10).isEmpty());
+        assertEquals(List.of(2L), ids(rankingService.melhorAvaliados(null, 0, 10)));
+        assertEquals(List.of(2L), ids(rankingService.melhorAvaliados("Brasileira", 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve contar pedidos criados hoje e zerar na virada do dia")
+    void deveContarPedidosDeHoje() {
+        // Given
+        rankingService.aoAlterarRestaurante(restaurante(1L, "Italiana", 4, true));
+        rankingService.aoAlterarRestaurante(restaurante(2L, "Italiana", 4, true));
+        rankingService.aoAlterarPedido(pedidoCriado(10L, 1L));
+        rankingService.aoAlterarPedido(pedidoCriado(11L, 2L));
+        rankingService.aoAlterarPedido(pedidoCriado(12L, 2L));
+        rankingService.aoAlterarPedido(new PedidoAlteradoEvent(12L, 2L, 1L, StatusPedido.CRIADO,
+                StatusPedido.CONFIRMADO, HOJE.atTime(12, 0), BigDecimal.TEN, LocalDateTime.now()));
+
+        // When
+        List<RankingService.ItemRanking> ranking = rankingService.maisPedidosHoje(null, 0, 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), ids(ranking));
+        assertEquals(2, ranking.get(0).valor());
+
+        // When
+        dia.set(HOJE.plusDays(1));
+
+        // Then
+        assertTrue(rankingService.maisPedidosHoje(null, 0, 10).isEmpty());
+    }
+
+    private RestauranteAlteradoEvent restaurante(Long id, String categoria, int avaliacao, boolean ativo) {
+        return new RestauranteAlteradoEvent(id, "Restaurante " + id, categoria, avaliacao, 30, ativo, null, null, false);
+    }
+
+    private PedidoAlteradoEvent pedidoCriado(Long pedidoId, Long restauranteId) {
+        return new PedidoAlteradoEvent(pedidoId, restauranteId, 1L, null, StatusPedido.CRIADO,
+                HOJE.atTime(12, 0), BigDecimal.TEN, LocalDateTime.now());
+    }
+
+    private List<Long> ids(List<RankingService.ItemRanking> itens) {
+        return itens.stream().map(RankingService.ItemRanking::restauranteId).toList();
+    }
+}
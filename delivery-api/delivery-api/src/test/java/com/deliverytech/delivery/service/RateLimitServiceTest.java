@@ -0,0 +1,128 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.deliverytech.delivery.service.impl.RateLimitServiceImpl;
+
+@DisplayName("Testes do RateLimitService")
+class RateLimitServiceTest {
+
+    private final AtomicLong relogio = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private RateLimitServiceImpl rateLimit;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("delivery.rate-limit.pedidos.criar.capacidade", "3")
+                .withProperty("delivery.rate-limit.pedidos.criar.por-segundo", "1")
+                .withProperty("delivery.rate-limit.ociosidade-segundos", "60");
+        rateLimit = new RateLimitServiceImpl(environment, relogio::get);
+    }
+
+    @Test
+    @DisplayName("Deve permitir rajada até a capacidade e negar a seguinte")
+    void devePermitirRajadaAteCapacidade() {
+        for (int i = 2; i >= 0; i--) {
+            RateLimitService.Resultado resultado = rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1");
+            assertTrue(resultado.permitido());
+            assertEquals(3, resultado.limite());
+            assertEquals(i, resultado.restante());
+        }
+
+        RateLimitService.Resultado negado = rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1");
+
+        assertFalse(negado.permitido());
+        assertEquals(0, negado.restante());
+        assertEquals(1, negado.resetSegundos());
+    }
+
+    @Test
+    @DisplayName("Deve repor fichas com o passar do tempo")
+    void deveReporFichasComOTempo() {
+        for (int i = 0; i < 3; i++) {
+            rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1");
+        }
+        assertFalse(rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1").permitido());
+
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertTrue(rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1").permitido());
+    }
+
+    @Test
+    @DisplayName("Deve manter buckets independentes por cliente")
+    void deveManterBucketsIndependentes() {
+        for (int i = 0; i < 3; i++) {
+            rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1");
+        }
+
+        assertFalse(rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1").permitido());
+        assertTrue(rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:2").permitido());
+    }
+
+    @Test
+    @DisplayName("Deve remover buckets ociosos")
+    void deveRemoverBucketsOciosos() {
+        rateLimit.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1");
+        assertEquals(1, rateLimit.bucketsAtivos());
+
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(120));
+        rateLimit.removerBucketsOciosos();
+
+        assertEquals(0, rateLimit.bucketsAtivos());
+    }
+
+    @Test
+    @DisplayName("Deve recusar chave nova com o mapa lotado de buckets em uso e liberar espaço na limpeza")
+    void deveRecusarChaveNovaQuandoLotado() {
+        // Given
+        RateLimitServiceImpl lotado = servicoComDuasChaves();
+        lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1");
+        lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:2");
+
+        // When: os dois buckets ainda estão vazios, nenhum pode dar lugar à chave nova
+        RateLimitService.Resultado negado = lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:3");
+
+        // Then: a chave nova é recusada sem tocar nos buckets existentes
+        assertFalse(negado.permitido());
+        assertEquals(2, lotado.bucketsAtivos());
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        lotado.removerBucketsOciosos();
+        assertEquals(0, lotado.bucketsAtivos());
+        assertTrue(lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:3").permitido());
+    }
+
+    @Test
+    @DisplayName("Deve substituir um bucket já cheio ao inserir chave nova com o mapa lotado")
+    void deveSubstituirBucketCheioQuandoLotado() {
+        // Given: cliente:1 consome em t0; cliente:2 consome um segundo depois
+        RateLimitServiceImpl lotado = servicoComDuasChaves();
+        lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:1");
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:2");
+
+        // When: o bucket de cliente:1 já encheu de novo, o de cliente:2 não
+        assertTrue(lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:3").permitido());
+
+        // Then: cliente:3 ocupa o lugar de cliente:1 e cliente:2 continua limitado
+        assertEquals(2, lotado.bucketsAtivos());
+        assertFalse(lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:2").permitido());
+        assertFalse(lotado.tentarConsumir(RateLimitService.PEDIDOS_CRIAR, "cliente:3").permitido());
+    }
+
+    private RateLimitServiceImpl servicoComDuasChaves() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("delivery.rate-limit.pedidos.criar.capacidade", "1")
+                .withProperty("delivery.rate-limit.pedidos.criar.por-segundo", "1")
+                .withProperty("delivery.rate-limit.max-chaves", "2");
+        return new RateLimitServiceImpl(environment, relogio::get);
+    }
+}
@@ -0,0 +1,104 @@
+package com.deliverytech.delivery.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.deliverytech.delivery.model.StatusPedido;
+import com.deliverytech.delivery.service.RelatorioService.ClientePedidos;
+import com.deliverytech.delivery.service.RelatorioService.FaturamentoCategoria;
+import com.deliverytech.delivery.service.RelatorioService.ResumoStatus;
+import com.deliverytech.delivery.service.RelatorioService.VendasRestaurante;
+
+@DisplayName("Testes do SnapshotPedidos")
+class SnapshotPedidosTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 10, 12, 0);
+
+    @Test
+    @DisplayName("Deve agregar vendas e categorias só com pedidos entregues ou confirmados")
+    void deveAgregarVendasECategorias() {
+        // Given
+        SnapshotPedidos snapshot = new SnapshotPedidos.Construtor()
+                .adicionarPedido(1L, 10L, StatusPedido.ENTREGUE, BASE, 5000)
+                .adicionarPedido(1L, 11L, StatusPedido.CONFIRMADO, BASE, 2550)
+                .adicionarPedido(1L, 11L, StatusPedido.CANCELADO, BASE, 9999)
+                .adicionarPedido(2L, 10L, StatusPedido.ENTREGUE, BASE, 3000)
+                .adicionarPedido(3L, 10L, StatusPedido.ENTREGUE, BASE, 1000)
+                .nomearRestaurante(1L, "Pizzaria", "Italiana")
+                .nomearRestaurante(2L, "Cantina", "Italiana")
+                .nomearRestaurante(3L, "Sushi", "Japonesa")
+                .nomearRestaurante(4L, "Sem pedidos", "Árabe")
+                .construir(BASE);
+
+        // When
+        List<VendasRestaurante> vendas = snapshot.vendasPorRestaurante();
+        List<FaturamentoCategoria> categorias = snapshot.faturamentoPorCategoria();
+
+        // Then
+        assertEquals(List.of(
+                new VendasRestaurante("Pizzaria", new BigDecimal("75.50"), 2),
+                new VendasRestaurante("Cantina", new BigDecimal("30.00"), 1),
+                new VendasRestaurante("Sushi", new BigDecimal("10.00"), 1)), vendas);
+        assertEquals(List.of(
+                new FaturamentoCategoria("Italiana", new BigDecimal("105.50"), 3),
+                new FaturamentoCategoria("Japonesa", new BigDecimal("10.00"), 1)), categorias);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar o faturamento pelo minuto do pedido")
+    void deveFiltrarFaturamentoPorPeriodo() {
+        // Given
+        SnapshotPedidos snapshot = new SnapshotPedidos.Construtor()
+                .adicionarPedido(1L, 10L, StatusPedido.ENTREGUE, BASE.minusMinutes(1), 100)
+                .adicionarPedido(1L, 10L, StatusPedido.ENTREGUE, BASE.plusSeconds(30), 200)
+                .adicionarPedido(1L, 10L, StatusPedido.CONFIRMADO, BASE.plusMinutes(5), 300)
+                .adicionarPedido(1L, 10L, StatusPedido.CRIADO, BASE.plusMinutes(5), 400)
+                .adicionarPedido(1L, 10L, StatusPedido.ENTREGUE, BASE.plusMinutes(6), 500)
+                .construir(BASE);
+
+        // When
+        BigDecimal faturamento = snapshot.faturamentoPorPeriodo(BASE, BASE.plusMinutes(5));
+
+        // Then
+        assertEquals(new BigDecimal("5.00"), faturamento);
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado ao dividir a varredura em várias faixas")
+    void deveSomarParciaisDaVarreduraParalela() {
+        // Given: linhas suficientes para a varredura se dividir entre threads
+        SnapshotPedidos.Construtor construtor = new SnapshotPedidos.Construtor();
+        int pedidos = 100_000;
+        for (int i = 0; i < pedidos; i++) {
+            StatusPedido status = StatusPedido.values()[i % StatusPedido.values().length];
+            construtor.adicionarPedido(i % 7, i % 50, status, BASE.plusMinutes(i % 1000), 150);
+        }
+        for (long c = 0; c < 50; c++) {
+            construtor.nomearCliente(c, "Cliente " + c);
+        }
+        SnapshotPedidos snapshot = construtor.construir(BASE);
+
+        // When
+        List<ResumoStatus> resumo = snapshot.resumoPorStatus();
+        List<ClientePedidos> ranking = snapshot.rankingClientes(3);
+
+        // Then
+        assertEquals(pedidos, snapshot.getTamanho());
+        assertEquals(StatusPedido.values().length, resumo.size());
+        for (ResumoStatus linha : resumo) {
+            long esperado = pedidos / StatusPedido.values().length
+                    + (linha.status().ordinal() < pedidos % StatusPedido.values().length ? 1 : 0);
+            assertEquals(esperado, linha.quantidade());
+            assertEquals(BigDecimal.valueOf(esperado * 150, 2), linha.valorTotal());
+        }
+        assertEquals(3, ranking.size());
+        assertEquals(pedidos / 50, ranking.get(0).totalPedidos());
+        assertEquals(BigDecimal.valueOf(pedidos / 50 * 150L, 2), ranking.get(0).valorTotal());
+    }
+}